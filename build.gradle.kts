@@ -2,6 +2,7 @@ plugins {
     id("java")
     id("application")
     id("org.openjfx.javafxplugin") version "0.1.0" // JavaFX 런타임 옵션 자동 설정
+    id("me.champeau.jmh") version "0.7.2"          // src/jmh 벤치마크 (./gradlew jmh)
 }
 
 repositories {
@@ -25,6 +26,43 @@ dependencies {
 
     // Jackson
     implementation("com.fasterxml.jackson.core:jackson-databind:2.17.1")
+
+    // 테스트 (JUnit 5)
+    testImplementation(platform("org.junit:junit-bom:5.10.2"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("load") // 부하 테스트는 ./gradlew loadTest 로 따로
+    }
+}
+
+// 부하 테스트 (@Tag("load")): 벽시계 속도 / 실제 서버 프로세스를 쓰므로 기본 test 에서는 빠진다. 예) ./gradlew loadTest
+tasks.register<Test>("loadTest") {
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    testLogging.showStandardStreams = true
+}
+
+// 레이팅 매칭 시뮬레이션 (대기열 크기별 대기 시간 / 레이팅 차이 출력). 예) ./gradlew ratingSimulation --args="100 20 4"
+tasks.register<JavaExec>("ratingSimulation") {
+    group = "verification"
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass.set("com.omokpang.net.RatingMatchSimulation")
+}
+
+jmh {
+    // 예) ./gradlew jmh -Pjmh.includes=WireCodecBenchmark
+    (project.findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
 }
 
 application {
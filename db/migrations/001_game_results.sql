@@ -0,0 +1,5 @@
+-- 001: 게임 결과 정산 중복 방지 테이블 (ResultRepository.settleGame)
+CREATE TABLE IF NOT EXISTS game_results (
+    game_id    VARCHAR(64) PRIMARY KEY,
+    settled_at TIMESTAMP   NOT NULL DEFAULT now()
+);
@@ -0,0 +1,3 @@
+-- 002: 랭킹 keyset 조회용 (points, id) 인덱스 (UserRepository.findLeaderboardPage)
+-- CONCURRENTLY: 운영 중인 users 테이블에 쓰기를 막지 않고 만든다. 트랜잭션 밖에서 실행할 것.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_points_id ON users (points, id);
@@ -0,0 +1,24 @@
+-- OmokPang PostgreSQL 스키마 (새 DB 에 한 번 실행)
+--   psql "$OMOK_DB_URL" -f db/schema.sql
+-- 이미 운영 중인 DB 는 db/migrations/ 의 파일을 번호 순서대로 적용한다.
+-- 애플리케이션은 DDL 을 실행하지 않는다.
+
+-- 사용자 / 전적 / 포인트
+CREATE TABLE IF NOT EXISTS users (
+    id         SERIAL       PRIMARY KEY,
+    nickname   VARCHAR(32)  NOT NULL UNIQUE,
+    password   VARCHAR(255) NOT NULL,
+    wins       INTEGER      NOT NULL DEFAULT 0,
+    losses     INTEGER      NOT NULL DEFAULT 0,
+    points     INTEGER      NOT NULL DEFAULT 0,
+    created_at TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+-- 랭킹 keyset 조회(ORDER BY points DESC, id DESC)를 역방향 인덱스 스캔으로 처리
+CREATE INDEX IF NOT EXISTS idx_users_points_id ON users (points, id);
+
+-- 정산 완료된 판 (game_id 가 PK 라서 같은 판이 두 번 정산되지 않는다)
+CREATE TABLE IF NOT EXISTS game_results (
+    game_id    VARCHAR(64) PRIMARY KEY,
+    settled_at TIMESTAMP   NOT NULL DEFAULT now()
+);
@@ -0,0 +1,116 @@
+package com.omokpang.domain.board;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/** WinCheckBenchmark
+ * 역할: 5목 판정 비용 비교. 2v2 팀전, 공용돌이 섞인 중반 보드(승자 없음)에서 한 플레이어 판정.
+ *  - naiveFullScan : 예전 checkWin / checkTeamWin 방식. int[][] 칸마다 4방향으로 팀 돌·공용돌 연속 확인 (Bomb 뒤 전체 재판정)
+ *  - naiveLastMove : 예전 RoomBoard 방식. 마지막 수 한 칸에서 4방향 양쪽으로 세기
+ *  - bitboard      : OmokBoard.hasFive. 팀 합집합 + 공용돌 마스크에 shift-AND
+ * 실행: ./gradlew jmh -Pjmh.includes=WinCheckBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WinCheckBenchmark {
+
+    private static final int N = OmokBoard.N;
+    private static final int[][] DIRS = { {0, 1}, {1, 0}, {1, 1}, {1, -1} };
+    private static final int[] TEAM = {0, 1, 0, 1};
+
+    @Param({"40", "120"})
+    public int stones;
+
+    private int[][] cells;        // sign (플레이어 인덱스 + 1)
+    private boolean[][] shared;
+    private OmokBoard board;
+    private int lastR;
+    private int lastC;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1);
+        do {
+            cells = new int[N][N];
+            shared = new boolean[N][N];
+            board = new OmokBoard(TEAM.length);
+            board.setTeams(TEAM);
+            for (int i = 0; i < stones; i++) {
+                int r, c;
+                do {
+                    r = random.nextInt(N);
+                    c = random.nextInt(N);
+                } while (cells[r][c] != 0);
+                int p = i % TEAM.length;
+                cells[r][c] = p + 1;
+                board.place(p, r, c);
+                if (random.nextInt(10) == 0) {
+                    shared[r][c] = true;
+                    board.share(r, c);
+                }
+                lastR = r;
+                lastC = c;
+            }
+        } while (board.findWinner(0) != OmokBoard.NO_WINNER); // 끝까지 다 봐야 하는 경우(승자 없음)만
+    }
+
+    @Benchmark
+    public boolean naiveFullScan() {
+        for (int r = 0; r < N; r++) {
+            for (int c = 0; c < N; c++) {
+                for (int[] d : DIRS) {
+                    int k = 0;
+                    while (k < 5 && counts(r + d[0] * k, c + d[1] * k, 0)) k++;
+                    if (k == 5) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean naiveLastMove() {
+        for (int[] d : DIRS) {
+            int count = 1
+                    + run(lastR, lastC, d[0], d[1], 0)
+                    + run(lastR, lastC, -d[0], -d[1], 0);
+            if (count >= 5) return true;
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean bitboard() {
+        return board.hasFive(0);
+    }
+
+    private int run(int r, int c, int dr, int dc, int playerIdx) {
+        int count = 0;
+        int nr = r + dr;
+        int nc = c + dc;
+        while (count < 4 && counts(nr, nc, playerIdx)) {
+            count++;
+            nr += dr;
+            nc += dc;
+        }
+        return count;
+    }
+
+    // (r,c) 가 playerIdx 팀의 돌이거나 공용돌인지
+    private boolean counts(int r, int c, int playerIdx) {
+        if (r < 0 || r >= N || c < 0 || c >= N) return false;
+        int sign = cells[r][c];
+        if (sign == 0) return false;
+        return shared[r][c] || TEAM[sign - 1] == TEAM[playerIdx];
+    }
+}
@@ -0,0 +1,77 @@
+package com.omokpang.net;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/** CodecBenchmark
+ * 역할: 한 줄당 인코딩 / 디코딩 비용 비교 (텍스트 줄 vs WireCodec 바이너리 프레임).
+ *  - encodeText / encodeBinary : PLACE 한 건을 보낼 프레임으로
+ *  - encodeBinaryText          : TEXT 형식(CHEER) 한 건을 바이너리 프레임으로
+ *  - decodeBinary              : PLACE 프레임을 다시 줄로
+ *  - sliceFrames               : NIO 읽기 버퍼에 붙어 온 PLACE 프레임 64개를 잘라내기
+ * 실행: ./gradlew jmh -Pjmh.includes=CodecBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CodecBenchmark {
+
+    private static final int FRAMES_PER_BUFFER = 64;
+
+    private byte[] placeFrame;
+    private ByteBuffer readBuffer;
+    private int col;
+
+    @Setup
+    public void setup() {
+        placeFrame = WireCodec.encode("PLACE 7 8");
+        readBuffer = ByteBuffer.allocate(placeFrame.length * FRAMES_PER_BUFFER);
+        for (int i = 0; i < FRAMES_PER_BUFFER; i++) {
+            readBuffer.put(WireCodec.encode("PLACE 7 " + (i % 15)));
+        }
+        readBuffer.flip();
+    }
+
+    @Benchmark
+    public byte[] encodeText() {
+        return ClientConnection.encodeLine("PLACE 7 " + nextCol());
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return WireCodec.encode("PLACE 7 " + nextCol());
+    }
+
+    @Benchmark
+    public byte[] encodeBinaryText() {
+        return WireCodec.encode("CHEER alice 잘한다");
+    }
+
+    @Benchmark
+    public String decodeBinary() {
+        return WireCodec.decodeLine(placeFrame);
+    }
+
+    @Benchmark
+    public int sliceFrames() throws IOException {
+        readBuffer.rewind();
+        int bytes = 0;
+        byte[] frame;
+        while ((frame = WireCodec.sliceFrame(readBuffer)) != null) bytes += frame.length;
+        return bytes;
+    }
+
+    private int nextCol() {
+        col = (col + 1) % 15;
+        return col;
+    }
+}
@@ -0,0 +1,108 @@
+package com.omokpang.net;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/** RelayBenchmark
+ * 역할: 방 단위 릴레이(fan-out) 비용 비교. 2인 / 4인 방, 보낸 사람을 뺀 나머지에게 PLACE 한 건.
+ *  - perRecipient : 예전 forwardXxx 방식. 수신자마다 문자열을 새로 이어 붙이고 인코딩
+ *  - sharedText   : relayToRoom 방식. WireMessage 로 한 번만 인코딩한 프레임을 모두에게
+ *  - sharedBinary : 같은 방식, 수신자가 바이너리 모드일 때
+ * 실행: ./gradlew jmh -Pjmh.includes=RelayBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RelayBenchmark {
+
+    @Param({"2", "4"})
+    public int players;
+
+    private SinkConnection[] textPeers;
+    private SinkConnection[] binaryPeers;
+    private int col;
+
+    @Setup
+    public void setup() {
+        textPeers = new SinkConnection[players - 1];
+        binaryPeers = new SinkConnection[players - 1];
+        for (int i = 0; i < players - 1; i++) {
+            textPeers[i] = new SinkConnection(false);
+            binaryPeers[i] = new SinkConnection(true);
+        }
+    }
+
+    @Benchmark
+    public int perRecipient() {
+        int c = nextCol();
+        int bytes = 0;
+        for (SinkConnection peer : textPeers) {
+            peer.sendFrame(ClientConnection.encodeLine("PLACE 7 " + c));
+            bytes += peer.drain();
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public int sharedText() {
+        WireMessage message = WireMessage.of("PLACE 7 " + nextCol());
+        int bytes = 0;
+        for (SinkConnection peer : textPeers) {
+            peer.sendFrame(message.frameFor(peer));
+            bytes += peer.drain();
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public int sharedBinary() {
+        WireMessage message = WireMessage.of("PLACE 7 " + nextCol());
+        int bytes = 0;
+        for (SinkConnection peer : binaryPeers) {
+            peer.sendFrame(message.frameFor(peer));
+            bytes += peer.drain();
+        }
+        return bytes;
+    }
+
+    private int nextCol() {
+        col = (col + 1) % 15;
+        return col;
+    }
+
+    // 소켓 없이 대기열만 비우는 연결 (writer 대신 벤치마크가 drain)
+    static final class SinkConnection extends ClientConnection {
+
+        SinkConnection(boolean binary) {
+            setBinary(binary);
+        }
+
+        int drain() {
+            int bytes = 0;
+            byte[] frame;
+            while ((frame = pollFrame()) != null) bytes += frame.length;
+            return bytes;
+        }
+
+        @Override
+        protected void requestFlush() {}
+
+        @Override
+        protected void abort() {
+            markClosed();
+        }
+
+        @Override
+        public void close() {
+            markClosed();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.omokpang.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/** RankIndexBenchmark
+ * 역할: 서버 RankIndex 의 "내 순위" 비용. 사용자 1M 명, 포인트 ~ N(1000, 400).
+ *  - rankOf    : Fenwick prefix 합 한 번 (O(log P))
+ *  - move      : 정산 한 건 반영 (이전 포인트 -1, 새 포인트 +1)
+ *  - naiveScan : 비교용. 인덱스 없이 전원을 훑어 "나보다 높은 사람 수" 세기 (COUNT(*) WHERE points > ? 풀스캔)
+ *  - warmUp    : 1M 개 포인트를 스트리밍해서 트리를 새로 만드는 refresh 한 번 (SingleShot)
+ * 실행: ./gradlew jmh -Pjmh.includes=RankIndexBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RankIndexBenchmark {
+
+    @Param({"1000000"})
+    public int users;
+
+    private int[] points;
+    private RankIndex index;
+    private Random random;
+
+    @Setup
+    public void setup() {
+        random = new Random(5);
+        points = new int[users];
+        for (int i = 0; i < users; i++) {
+            points[i] = (int) Math.max(0, Math.round(1000 + random.nextGaussian() * 400));
+        }
+        index = new RankIndex();
+        index.warmUp(this::stream);
+    }
+
+    private boolean stream(IntConsumer consumer) {
+        for (int p : points) consumer.accept(p);
+        return true;
+    }
+
+    @Benchmark
+    public int rankOf() {
+        return index.rankOf(points[random.nextInt(users)]);
+    }
+
+    @Benchmark
+    public void move() {
+        int i = random.nextInt(users);
+        int next = Math.max(0, points[i] + random.nextInt(81) - 40);
+        index.onMoved(points[i], next);
+        points[i] = next;
+    }
+
+    @Benchmark
+    public int naiveScan() {
+        int p = points[random.nextInt(users)];
+        int higher = 0;
+        for (int q : points) {
+            if (q > p) higher++;
+        }
+        return higher + 1;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean warmUp() {
+        return new RankIndex().warmUp(this::stream);
+    }
+}
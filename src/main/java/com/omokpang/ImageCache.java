@@ -0,0 +1,84 @@
+package com.omokpang;
+
+import javafx.scene.image.Image;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ImageCache
+ * 역할: 클래스패스 이미지 리소스를 한 번만 읽어 디코딩하고 앱 전체에서 공유하는 캐시(유틸리티).
+ * 핵심기능:
+ *  - (리소스 경로, 요청 크기) 단위로 Image 를 캐시 → 같은 돌/카드/아바타/이펙트를 다시 읽지 않음
+ *  - 크기를 주면 그 크기(비율 유지)로 디코딩해서 보관 (작게 그릴 이미지를 원본 크기로 들고 있지 않도록)
+ *  - 화면 전환 전에 preload 로 미리 채워 두면, 게임 중에는 디스크/디코더를 타지 않는다
+ *  - hit / miss 횟수 집계 (stats)
+ * 스레드: Image 생성은 FX 스레드가 아니어도 되므로 preload 는 백그라운드에서 호출해도 된다.
+ */
+public final class ImageCache {
+
+    private static final Map<String, Image> cache = new ConcurrentHashMap<>();
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private ImageCache() {}
+
+    /** 원본 크기 이미지 (없는 리소스면 null) */
+    public static Image get(String path) {
+        return get(path, 0, 0);
+    }
+
+    /**
+     * width x height 안에 들어가도록(비율 유지) 디코딩한 이미지. (없는 리소스면 null)
+     * width / height 가 0 이하면 원본 크기.
+     */
+    public static Image get(String path, double width, double height) {
+        if (path == null) return null;
+
+        String key = (width <= 0 && height <= 0) ? path : path + "@" + width + "x" + height;
+        Image img = cache.get(key);
+        if (img != null) {
+            hits.increment();
+            return img;
+        }
+
+        misses.increment();
+        URL url = ImageCache.class.getResource(path);
+        if (url == null) {
+            System.out.println("[ImageCache] WARN: image not found: " + path);
+            return null;
+        }
+
+        Image loaded = (width <= 0 && height <= 0)
+                ? new Image(url.toExternalForm())
+                : new Image(url.toExternalForm(), Math.max(0, width), Math.max(0, height), true, true);
+
+        // 동시에 같은 키를 읽었으면 먼저 들어간 쪽을 공유
+        Image prev = cache.putIfAbsent(key, loaded);
+        return prev != null ? prev : loaded;
+    }
+
+    /** 원본 크기로 미리 읽어 둔다 */
+    public static void preload(String... paths) {
+        for (String p : paths) get(p);
+    }
+
+    /** 요청 크기로 미리 읽어 둔다 */
+    public static void preload(double width, double height, String... paths) {
+        for (String p : paths) get(p, width, height);
+    }
+
+    /** 캐시 통계 한 줄 */
+    public static String stats() {
+        long h = hits.sum();
+        long m = misses.sum();
+        long total = h + m;
+        return "images=" + cache.size() +
+                ", hit=" + h +
+                ", miss=" + m +
+                ", hitRate=" + (total == 0 ? 0 : (h * 100 / total)) + "%";
+    }
+}
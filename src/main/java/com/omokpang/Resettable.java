@@ -0,0 +1,15 @@
+package com.omokpang;
+
+/**
+ * Resettable
+ * 역할: SceneRouter 가 FXML 을 한 번만 읽고 컨트롤러를 재사용할 수 있게 하는 초기화 훅.
+ * 규칙:
+ *  - initialize() 에는 노드 구성처럼 한 번만 하면 되는 일만 둔다 (prewarm 으로 보여주기 한참 전에 불릴 수 있음)
+ *  - 세션 정보 읽기, 타이머/애니메이션 시작, 문구 되돌리기 같은 "보여줄 때마다" 하는 일은 reset() 에 둔다
+ *  - reset() 은 SceneRouter 가 화면/오버레이를 내줄 때마다 FX 스레드에서 호출한다 (처음 로드 포함)
+ *  - 화면에서 바뀐 상태를 reset() 에서 전부 되돌릴 수 없는 컨트롤러는 구현하지 않는다 (캐시되지 않고 매번 새로 읽힘)
+ */
+public interface Resettable {
+
+    void reset();
+}
@@ -1,10 +1,16 @@
 package com.omokpang;
 
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * SceneRouter
  * 역할: 전역 화면 전환을 담당하는 유틸리티(싱글톤).
@@ -12,12 +18,55 @@ import javafx.stage.Stage;
  *  - FXML 경로만 전달하면 바로 화면 전환
  *  - App.APP_WIDTH/HEIGHT 기반으로 크기 고정
  *  - Stage를 공유해 전체 앱 내 Scene 일원화
+ *  - 화면/오버레이 재사용: 컨트롤러가 Resettable 이면 FXML 을 한 번만 읽고, 다시 쓸 때는 reset() 만 호출
+ *  - prewarm: 다음에 올 화면을 카운트다운 동안 미리 읽어 두면 go()/take() 가 파싱 없이 바로 내준다
+ *    (FXMLLoader / initialize 는 FX 스레드에서 돌아야 하므로 runLater 로 한 화면씩 나눠 읽는다)
+ *  - overlay: 카드 이펙트 같은 오버레이를 경로별로 하나씩 캐시 (표시 중이면 새로 읽음)
  */
 public final class SceneRouter {
     private static Stage stage;
 
+    // 읽어 둔(또는 다 쓰고 돌려받은) 화면: 경로 → 바로 내줄 수 있는 View (한 번 꺼내면 빠짐)
+    private static final Map<String, View<?>> idleViews = new ConcurrentHashMap<>();
+    // 미리 읽기로 예약된 경로 (같은 화면을 두 번 읽지 않도록, take() 가 먼저 가져가면 예약 취소)
+    private static final Set<String> prewarming = ConcurrentHashMap.newKeySet();
+    // 오버레이 캐시: 경로 → 재사용하는 View
+    private static final Map<String, View<?>> overlays = new ConcurrentHashMap<>();
+
+    // go() 로 띄운 현재 화면 (다음 전환 때 재사용 가능하면 idleViews 로 돌려놓음)
+    private static String currentPath;
+    private static View<?> currentView;
+
     private SceneRouter() {}
 
+    /** FXML 로드 결과: 루트 노드 + 컨트롤러 (+ 화면으로 쓸 때 한 번 만든 Scene) */
+    public static final class View<C> {
+        private final Parent root;
+        private final C controller;
+        private Scene scene;
+
+        private View(Parent root, C controller) {
+            this.root = root;
+            this.controller = controller;
+        }
+
+        public Parent getRoot() { return root; }
+        public C getController() { return controller; }
+
+        private boolean isReusable() {
+            return controller instanceof Resettable;
+        }
+
+        private void reset() {
+            if (controller instanceof Resettable r) r.reset();
+        }
+
+        private Scene sceneOf(double width, double height) {
+            if (scene == null) scene = new Scene(root, width, height);
+            return scene;
+        }
+    }
+
     public static void init(Stage primaryStage) {
         stage = primaryStage;
     }
@@ -25,9 +74,8 @@ public final class SceneRouter {
     /** fxmlPath 예: "/fxml/auth/AuthView.fxml" */
     public static void go(String fxmlPath) {
         try {
-            FXMLLoader loader = new FXMLLoader(SceneRouter.class.getResource(fxmlPath));
-            Parent root = loader.load();
-            Scene scene = new Scene(root, App.APP_WIDTH, App.APP_HEIGHT);
+            View<?> view = take(fxmlPath);
+            Scene scene = view.sceneOf(App.APP_WIDTH, App.APP_HEIGHT);
 
             stage.setScene(scene);
             stage.setWidth(App.APP_WIDTH);
@@ -39,8 +87,90 @@ public final class SceneRouter {
 
             stage.setResizable(false);
             stage.show();
+
+            // 떠나는 화면이 재사용 가능하면 다음 방문 때 그대로 꺼내 쓰도록 돌려놓는다
+            if (currentView != null && currentView.isReusable()) {
+                idleViews.putIfAbsent(currentPath, currentView);
+            }
+            currentPath = fxmlPath;
+            currentView = view;
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
+
+    /**
+     * 화면 하나를 내준다. prewarm 으로 읽어 둔 것이 있으면 그것을 reset() 해서, 없으면 지금 읽는다.
+     * (GameIntro → GameBoard 처럼 go() 를 거치지 않고 직접 Scene 을 바꾸는 곳에서 사용)
+     */
+    @SuppressWarnings("unchecked")
+    public static <C> View<C> take(String fxmlPath) throws IOException {
+        prewarming.remove(fxmlPath);
+        View<?> view = idleViews.remove(fxmlPath);
+        if (view == null) {
+            view = loadRaw(fxmlPath);
+        } else {
+            System.out.println("[SceneRouter] reuse " + fxmlPath);
+        }
+        view.reset();
+        return (View<C>) view;
+    }
+
+    /**
+     * 곧 보여줄 화면을 미리 읽어 둔다. (FX 스레드에서 지금 처리 중인 이벤트가 끝난 뒤, 화면 하나씩)
+     *  - 아직 한 번도 보여주지 않은 화면이라 Resettable 이 아니어도 된다 (한 번 take() 하면 끝)
+     *  - 예약한 화면을 읽기 전에 take() 가 먼저 가져가면 읽지 않는다
+     */
+    public static void prewarm(String... fxmlPaths) {
+        for (String path : fxmlPaths) {
+            if (idleViews.containsKey(path) || !prewarming.add(path)) continue;
+
+            Platform.runLater(() -> {
+                if (!prewarming.remove(path) || idleViews.containsKey(path)) return;
+                try {
+                    idleViews.putIfAbsent(path, loadRaw(path));
+                } catch (Exception e) {
+                    System.out.println("[SceneRouter] WARN: prewarm failed: " + path + " (" + e + ")");
+                }
+            });
+        }
+    }
+
+    /**
+     * 오버레이(카드 이펙트 안내 등)를 내준다. 호출한 쪽이 getRoot() 를 부모에 붙인다.
+     * Resettable 컨트롤러는 경로별로 하나를 캐시해 두고 reset() 후 재사용,
+     * 캐시된 것이 아직 화면에 붙어 있으면(겹쳐 띄우는 경우) 새로 읽은 것을 준다.
+     */
+    @SuppressWarnings("unchecked")
+    public static <C> View<C> overlay(String fxmlPath) throws IOException {
+        View<?> view = overlays.get(fxmlPath);
+        if (view == null || view.getRoot().getParent() != null) {
+            view = loadRaw(fxmlPath);
+            if (view.isReusable()) overlays.putIfAbsent(fxmlPath, view);
+        }
+        view.reset();
+        return (View<C>) view;
+    }
+
+    /** 오버레이들을 미리 읽어 캐시에 넣어 둔다 (게임 시작 전 호출, prewarm 처럼 FX 스레드에서 하나씩) */
+    public static void prewarmOverlays(String... fxmlPaths) {
+        for (String path : fxmlPaths) {
+            Platform.runLater(() -> {
+                if (overlays.containsKey(path)) return;
+                try {
+                    View<?> view = loadRaw(path);
+                    if (view.isReusable()) overlays.putIfAbsent(path, view);
+                } catch (Exception e) {
+                    System.out.println("[SceneRouter] WARN: overlay prewarm failed: " + path + " (" + e + ")");
+                }
+            });
+        }
+    }
+
+    // FXML 파싱 + 컨트롤러 initialize (reset 은 호출하지 않음). FX 스레드에서 호출
+    private static View<?> loadRaw(String fxmlPath) throws IOException {
+        FXMLLoader loader = new FXMLLoader(SceneRouter.class.getResource(fxmlPath));
+        Parent root = loader.load();
+        return new View<>(root, loader.getController());
+    }
 }
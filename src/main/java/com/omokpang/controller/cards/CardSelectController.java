@@ -2,10 +2,13 @@
  * 역할: 카드 2장 뽑기, 포인트(40pt) 리롤, 20초 타이머, 자동 선택 확정.
  * 선택된 카드는 MatchSession에 저장되며 GameIntro로 이동.
  * CardService, UserPointService와 연동됨.
+ * 재사용: SceneRouter 가 화면을 한 번만 읽고 매 판 reset() 으로 처음 상태를 다시 만든다.
  */
 
 package com.omokpang.controller.cards;
 
+import com.omokpang.ImageCache;
+import com.omokpang.Resettable;
 import com.omokpang.domain.card.Card;
 import com.omokpang.service.CardService;
 import com.omokpang.service.UserPointService;
@@ -18,7 +21,6 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
 import javafx.scene.control.Alert;
@@ -28,7 +30,7 @@ import javafx.util.Duration;
 import java.io.IOException;
 import java.util.List;
 
-public class CardSelectController {
+public class CardSelectController implements Resettable {
 
     @FXML private VBox beforeBox;
     @FXML private VBox afterBox;
@@ -64,6 +66,22 @@ public class CardSelectController {
     @FXML
     private void initialize() {
         timerLabel.setStyle("-fx-text-fill: white;");
+    }
+
+    // 화면을 (다시) 보여줄 때: 지난 판의 카드·확정 상태를 지우고 타이머를 새로 시작
+    @Override
+    public void reset() {
+        if (timer != null) timer.stop();
+
+        cards = null;
+        selectionFixed = false;
+        cardImage1.setImage(null);
+        cardImage2.setImage(null);
+
+        receiveBtn.setDisable(false);
+        rerollBtn1.setDisable(false);
+        rerollBtn2.setDisable(false);
+        completeBtn.setDisable(false);
 
         beforeBox.setVisible(true);
         beforeBox.setManaged(true);
@@ -110,7 +128,7 @@ public class CardSelectController {
     }
 
     private void setImage(ImageView iv, String path) {
-        iv.setImage(new Image(getClass().getResource(path).toExternalForm()));
+        iv.setImage(ImageCache.get(path));
     }
 
     /**
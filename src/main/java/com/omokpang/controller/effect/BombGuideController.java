@@ -1,5 +1,6 @@
 package com.omokpang.controller.effect;
 
+import com.omokpang.Resettable;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.StackPane;
@@ -11,7 +12,7 @@ import java.util.function.BiConsumer;
  * - SharedStone 가이드처럼 "마우스 이벤트 투과" 되어야 함.
  * - 보드 클릭을 막으면 안됨.
  */
-public class BombGuideController {
+public class BombGuideController implements Resettable {
 
     @FXML private StackPane rootOverlay;
     @FXML private Label guideLabel;
@@ -26,6 +27,14 @@ public class BombGuideController {
         rootOverlay.setMouseTransparent(true);
     }
 
+    /** SceneRouter 가 다시 띄울 때: 닫으면서 숨긴 상태 되돌리기 */
+    @Override
+    public void reset() {
+        onAreaSelected = null;
+        rootOverlay.setVisible(true);
+        rootOverlay.setManaged(true);
+    }
+
     public void setOnAreaSelected(BiConsumer<Integer, Integer> callback) {
         this.onAreaSelected = callback;
     }
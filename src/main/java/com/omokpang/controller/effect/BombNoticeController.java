@@ -1,5 +1,6 @@
 package com.omokpang.controller.effect;
 
+import com.omokpang.Resettable;
 import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -10,11 +11,14 @@ import javafx.util.Duration;
  * 상대방이 Bomb!! 카드를 사용했을 때 보여주는 안내.
  * - 클릭은 보드에 전달되도록 투과 처리.
  */
-public class BombNoticeController {
+public class BombNoticeController implements Resettable {
 
     @FXML private StackPane rootOverlay;
     @FXML private Label noticeLabel;
 
+    // 3초 후 자동 제거 (재사용할 때마다 처음부터 다시)
+    private final PauseTransition autoClose = new PauseTransition(Duration.seconds(3));
+
     @FXML
     public void initialize() {
         if (noticeLabel != null) {
@@ -25,10 +29,12 @@ public class BombNoticeController {
         }
 
         rootOverlay.setMouseTransparent(true);
+        autoClose.setOnFinished(e -> close());
+    }
 
-        PauseTransition pt = new PauseTransition(Duration.seconds(3));
-        pt.setOnFinished(e -> close());
-        pt.play();
+    @Override
+    public void reset() {
+        autoClose.playFromStart();
     }
 
     private void close() {
@@ -1,5 +1,6 @@
 package com.omokpang.controller.effect;
 
+import com.omokpang.Resettable;
 import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -10,23 +11,27 @@ import javafx.util.Duration;
  * Defense 사용 시 하단 안내 배너.
  * 2~3초 후 자동으로 사라짐.
  */
-public class DefenseNoticeController {
+public class DefenseNoticeController implements Resettable {
 
     @FXML private StackPane root;
     @FXML private Label titleLabel;
     @FXML private Label messageLabel;
 
+    // 2.5초 뒤 자동으로 사라지도록 (재사용할 때마다 처음부터 다시)
+    private final PauseTransition autoClose = new PauseTransition(Duration.seconds(2.5));
+
     @FXML
     public void initialize() {
-
-        // 2.5초 뒤 자동으로 사라지도록 설정
-        PauseTransition delay = new PauseTransition(Duration.seconds(2.5));
-        delay.setOnFinished(e -> {
+        autoClose.setOnFinished(e -> {
             if (root != null && root.getParent() != null) {
                 ((StackPane) root.getParent()).getChildren().remove(root);
             }
         });
-        delay.play();
+    }
+
+    @Override
+    public void reset() {
+        autoClose.playFromStart();
     }
 
     public void setTexts(String title, String message) {
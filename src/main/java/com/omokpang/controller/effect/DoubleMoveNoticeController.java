@@ -1,5 +1,6 @@
 package com.omokpang.controller.effect;
 
+import com.omokpang.Resettable;
 import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -7,11 +8,16 @@ import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.util.Duration;
 
-public class DoubleMoveNoticeController {
+public class DoubleMoveNoticeController implements Resettable {
 
     @FXML private StackPane root;
     @FXML private Label messageLabel;
 
+    // 2.5초 후 자동 제거 (재사용할 때마다 처음부터 다시)
+    private final PauseTransition autoClose = new PauseTransition(Duration.seconds(2.5));
+    // 기본 문구 (재사용할 때 되돌림)
+    private String defaultMessage;
+
     @FXML
     public void initialize() {
         // 기본 문구 (setMessage로 덮어쓸 수 있음)
@@ -19,11 +25,15 @@ public class DoubleMoveNoticeController {
                 (messageLabel.getText() == null || messageLabel.getText().isBlank())) {
             messageLabel.setText("두 번 두기 카드가 사용되었습니다.");
         }
+        if (messageLabel != null) defaultMessage = messageLabel.getText();
+
+        autoClose.setOnFinished(e -> close());
+    }
 
-        // 2.5초 후 자동으로 화면에서 사라지게
-        PauseTransition pt = new PauseTransition(Duration.seconds(2.5));
-        pt.setOnFinished(e -> close());
-        pt.play();
+    @Override
+    public void reset() {
+        setMessage(defaultMessage);
+        autoClose.playFromStart();
     }
 
     /** GameBoardController 쪽에서 커스텀 문구를 넣을 때 사용 */
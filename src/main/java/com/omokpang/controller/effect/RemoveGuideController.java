@@ -1,5 +1,6 @@
 package com.omokpang.controller.effect;
 
+import com.omokpang.Resettable;
 import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -14,7 +15,7 @@ import javafx.util.Duration;
  *  - 좌표 선택은 GameBoardController에서 처리하고,
  *    여기서는 텍스트만 보여준다.
  */
-public class RemoveGuideController {
+public class RemoveGuideController implements Resettable {
 
     @FunctionalInterface
     public interface OnStoneSelected {
@@ -36,6 +37,12 @@ public class RemoveGuideController {
         }
     }
 
+    /** SceneRouter 가 다시 띄울 때: 이전 판의 콜백 제거 */
+    @Override
+    public void reset() {
+        listener = null;
+    }
+
     /** GameBoardController에서 콜백 등록 */
     public void setOnStoneSelected(OnStoneSelected listener) {
         this.listener = listener;
@@ -1,27 +1,41 @@
 package com.omokpang.controller.effect;
 
+import com.omokpang.Resettable;
 import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.StackPane;
 import javafx.util.Duration;
 
-public class RemoveNoticeController {
+public class RemoveNoticeController implements Resettable {
 
     @FXML private StackPane root;
     @FXML private Label titleLabel;
     @FXML private Label messageLabel;
 
+    // 2.5초 뒤 자동 제거 (재사용할 때마다 처음부터 다시)
+    private final PauseTransition autoClose = new PauseTransition(Duration.seconds(2.5));
+    // FXML 기본 문구 (재사용할 때 되돌림)
+    private String defaultTitle;
+    private String defaultMessage;
+
     @FXML
     public void initialize() {
-        // 2.5초 뒤 자동으로 사라지게
-        PauseTransition hide = new PauseTransition(Duration.seconds(2.5));
-        hide.setOnFinished(e -> {
+        defaultTitle = titleLabel.getText();
+        defaultMessage = messageLabel.getText();
+
+        autoClose.setOnFinished(e -> {
             if (root.getParent() instanceof javafx.scene.layout.Pane parent) {
                 parent.getChildren().remove(root);
             }
         });
-        hide.play();
+    }
+
+    @Override
+    public void reset() {
+        titleLabel.setText(defaultTitle);
+        messageLabel.setText(defaultMessage);
+        autoClose.playFromStart();
     }
 
     public void setTitle(String title) {
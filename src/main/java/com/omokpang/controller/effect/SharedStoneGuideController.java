@@ -1,5 +1,6 @@
 package com.omokpang.controller.effect;
 
+import com.omokpang.Resettable;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.StackPane;
@@ -7,7 +8,7 @@ import javafx.scene.layout.StackPane;
 import java.util.function.BiConsumer;
 
 /** SharedStone 카드 사용자가 보는 안내 화면 */
-public class SharedStoneGuideController {
+public class SharedStoneGuideController implements Resettable {
 
     @FXML private StackPane rootOverlay;
     @FXML private Label guideLabel;
@@ -26,6 +27,14 @@ public class SharedStoneGuideController {
         rootOverlay.setMouseTransparent(true);
     }
 
+    /** SceneRouter 가 다시 띄울 때: 닫으면서 숨긴 상태 되돌리기 */
+    @Override
+    public void reset() {
+        onStoneSelected = null;
+        rootOverlay.setVisible(true);
+        rootOverlay.setManaged(true);
+    }
+
     /** GameBoard가 콜백 등록 */
     public void setOnStoneSelected(BiConsumer<Integer, Integer> callback) {
         this.onStoneSelected = callback;
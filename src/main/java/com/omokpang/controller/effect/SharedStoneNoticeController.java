@@ -1,5 +1,6 @@
 package com.omokpang.controller.effect;
 
+import com.omokpang.Resettable;
 import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -7,11 +8,14 @@ import javafx.scene.layout.StackPane;
 import javafx.util.Duration;
 
 /** SharedStone 카드 사용을 상대에게 보여주는 안내 */
-public class SharedStoneNoticeController {
+public class SharedStoneNoticeController implements Resettable {
 
     @FXML private StackPane rootOverlay;
     @FXML private Label noticeLabel;
 
+    // 3초 후 자동 제거 (재사용할 때마다 처음부터 다시)
+    private final PauseTransition autoClose = new PauseTransition(Duration.seconds(3));
+
     @FXML
     public void initialize() {
         noticeLabel.setText(
@@ -21,11 +25,12 @@ public class SharedStoneNoticeController {
 
         // 안내만 띄우고, 클릭은 보드로 통과
         rootOverlay.setMouseTransparent(true);
+        autoClose.setOnFinished(e -> close());
+    }
 
-        // 3초 후 자동 제거
-        PauseTransition pt = new PauseTransition(Duration.seconds(3));
-        pt.setOnFinished(e -> close());
-        pt.play();
+    @Override
+    public void reset() {
+        autoClose.playFromStart();
     }
 
     private void close() {
@@ -1,5 +1,6 @@
 package com.omokpang.controller.effect;
 
+import com.omokpang.Resettable;
 import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -7,12 +8,15 @@ import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.util.Duration;
 
-public class ShieldNoticeController {
+public class ShieldNoticeController implements Resettable {
 
     @FXML private StackPane root;
     @FXML private Label titleLabel;
     @FXML private Label messageLabel;
 
+    // 2초 후 자동 제거 (재사용할 때마다 처음부터 다시)
+    private final PauseTransition autoClose = new PauseTransition(Duration.seconds(2));
+
     public void setTexts(String title, String message) {
         if (titleLabel != null && title != null) {
             titleLabel.setText(title);
@@ -24,10 +28,12 @@ public class ShieldNoticeController {
 
     @FXML
     public void initialize() {
-        // 2초 후 자동으로 사라지도록
-        PauseTransition delay = new PauseTransition(Duration.seconds(2));
-        delay.setOnFinished(e -> close());
-        delay.play();
+        autoClose.setOnFinished(e -> close());
+    }
+
+    @Override
+    public void reset() {
+        autoClose.playFromStart();
     }
 
     public void close() {
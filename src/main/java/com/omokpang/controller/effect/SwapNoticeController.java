@@ -1,5 +1,6 @@
 package com.omokpang.controller.effect;
 
+import com.omokpang.Resettable;
 import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -10,11 +11,14 @@ import javafx.util.Duration;
  * 상대가 Swap 카드를 사용했을 때,
  * 중앙에 "돌의 위치가 교환되었습니다" 안내를 잠깐 보여주는 오버레이.
  */
-public class SwapNoticeController {
+public class SwapNoticeController implements Resettable {
 
     @FXML private StackPane rootOverlay;
     @FXML private Label messageLabel;
 
+    // 2초 후 자동 제거 (재사용할 때마다 처음부터 다시)
+    private final PauseTransition autoClose = new PauseTransition(Duration.seconds(2));
+
     @FXML
     public void initialize() {
         if (messageLabel != null &&
@@ -26,10 +30,12 @@ public class SwapNoticeController {
             rootOverlay.setMouseTransparent(false); // 아래 클릭 잠깐 막기
         }
 
-        // 2초 후 자동 제거
-        PauseTransition pause = new PauseTransition(Duration.seconds(2));
-        pause.setOnFinished(e -> close());
-        pause.play();
+        autoClose.setOnFinished(e -> close());
+    }
+
+    @Override
+    public void reset() {
+        autoClose.playFromStart();
     }
 
     private void close() {
@@ -1,5 +1,6 @@
 package com.omokpang.controller.effect;
 
+import com.omokpang.Resettable;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.StackPane;
@@ -10,22 +11,35 @@ import javafx.scene.layout.StackPane;
  * - 첫 클릭(내 돌) 이후에는 문구를 바꿔주고
  * - GameBoard에서 두 번째 선택이 끝나면 close()를 호출해 제거한다.
  */
-public class SwapSelectGuideController {
+public class SwapSelectGuideController implements Resettable {
+
+    private static final String DEFAULT_GUIDE = "변경하고 싶은 자신의 돌 1개와 상대방 돌 1개를 선택하세요";
 
     @FXML private StackPane rootOverlay;
     @FXML private Label guideLabel;
 
+    // 처음 문구 (FXML 에 있으면 그것, 없으면 기본 문구) — 재사용할 때 되돌린다
+    private String initialGuide;
+
     @FXML
     public void initialize() {
-        if (guideLabel != null &&
-                (guideLabel.getText() == null || guideLabel.getText().isBlank())) {
-            guideLabel.setText("변경하고 싶은 자신의 돌 1개와 상대방 돌 1개를 선택하세요");
+        if (guideLabel != null) {
+            initialGuide = (guideLabel.getText() == null || guideLabel.getText().isBlank())
+                    ? DEFAULT_GUIDE : guideLabel.getText();
         }
         if (rootOverlay != null) {
             rootOverlay.setMouseTransparent(true); // 클릭은 보드로 통과
         }
     }
 
+    /** SceneRouter 가 다시 띄울 때: 1단계 안내 문구로 */
+    @Override
+    public void reset() {
+        if (guideLabel != null) {
+            guideLabel.setText(initialGuide);
+        }
+    }
+
     /** 내 돌을 선택한 뒤 두 번째 단계 안내로 문구 변경 */
     public void onMyStoneSelected() {
         if (guideLabel != null) {
@@ -1,5 +1,6 @@
 package com.omokpang.controller.effect;
 
+import com.omokpang.Resettable;
 import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -14,11 +15,14 @@ import javafx.util.Duration;
  *   여기서 2초 정도 보여준 뒤 자동으로 StackPane에서 제거한다.
  * - 클릭은 모두 보드로 통과되도록 mouseTransparent 처리.
  */
-public class TimeLockNoticeController {
+public class TimeLockNoticeController implements Resettable {
 
     @FXML private StackPane rootOverlay;
     @FXML private Label noticeLabel;
 
+    // 2초 후 자동 제거 (재사용할 때마다 처음부터 다시)
+    private final PauseTransition autoClose = new PauseTransition(Duration.seconds(2));
+
     @FXML
     public void initialize() {
         if (noticeLabel != null &&
@@ -34,10 +38,12 @@ public class TimeLockNoticeController {
             rootOverlay.setMouseTransparent(true);
         }
 
-        // 2초 후 자동 제거
-        PauseTransition pause = new PauseTransition(Duration.seconds(2));
-        pause.setOnFinished(e -> close());
-        pause.play();
+        autoClose.setOnFinished(e -> close());
+    }
+
+    @Override
+    public void reset() {
+        autoClose.playFromStart();
     }
 
     /** 오버레이 제거 (centerStack에서 제거) */
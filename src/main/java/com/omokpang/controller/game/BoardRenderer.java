@@ -0,0 +1,51 @@
+/** BoardRenderer : 오목판 그리기 방식 추상화.
+ * 역할: GameBoardController 가 보드 상태(OmokBoard)를 바꾼 뒤 화면에 반영할 때 쓰는 그리기 인터페이스.
+ * 구현: NodeBoardRenderer(돌 하나 = ImageView 하나, 기존 방식) / CanvasBoardRenderer(Canvas 한 장 + 바뀐 영역만 다시 그림).
+ * 선택: 환경변수 OMOK_BOARD_RENDERER = canvas(기본) | node
+ * 좌표: 모두 격자 좌표(r, c). 픽셀 위치는 구현이 cell 크기로 계산한다.
+ */
+
+package com.omokpang.controller.game;
+
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+
+interface BoardRenderer {
+
+    /** 격자(가로·세로 선 + 테두리)를 그린다. 보드를 처음 만들 때 한 번 */
+    void drawGrid();
+
+    /** (r,c) 에 돌 이미지를 놓거나 바꾼다 (공용돌 전환 / Swap 후 다시 그리기 포함) */
+    void setStone(int r, int c, Image img);
+
+    /** (r,c) 의 돌을 지운다 */
+    void removeStone(int r, int c);
+
+    /** (r,c) 에 그려진 돌이 있는지 */
+    boolean hasStone(int r, int c);
+
+    /** (centerR, centerC) 중심 3x3 하이라이트 (Bomb 선택 모드). 이전 하이라이트는 지워진다 */
+    void showHighlight(int centerR, int centerC);
+
+    void clearHighlight();
+
+    /** (r,c) 위치 작은 폭발 이펙트 (2초 후 자동으로 사라짐) */
+    void showExplosion(int r, int c, Image img);
+
+    /** 프레임 통계 오버레이에 붙일 한 줄 (노드 수, 마지막 그리기 시간 등) */
+    String stats();
+
+    /** 환경변수(OMOK_BOARD_RENDERER)에 맞는 구현 생성 */
+    static BoardRenderer create(Pane boardRoot, Pane highlightPane, StackPane effectLayer,
+                                int n, double cell, double stoneSize) {
+        String mode = System.getenv("OMOK_BOARD_RENDERER");
+        if (mode != null && mode.trim().equalsIgnoreCase("node")) {
+            return new NodeBoardRenderer(boardRoot, highlightPane, effectLayer, n, cell, stoneSize);
+        }
+        if (mode != null && !mode.isBlank() && !mode.trim().equalsIgnoreCase("canvas")) {
+            System.out.println("[GameBoard] WARN: unknown OMOK_BOARD_RENDERER=" + mode + ", using canvas");
+        }
+        return new CanvasBoardRenderer(boardRoot, n, cell, stoneSize);
+    }
+}
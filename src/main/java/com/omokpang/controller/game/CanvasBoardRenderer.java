@@ -0,0 +1,282 @@
+/** CanvasBoardRenderer : Canvas 한 장에 보드를 그리는 렌더러.
+ * 역할: 격자·돌·공용돌·Bomb 하이라이트·폭발 이펙트를 scene graph 노드 대신 Canvas 하나에 직접 그린다.
+ * 핵심기능: 바뀐 칸 주변 사각형만 dirty 로 모아 두었다가 다음 FX 펄스에 그 영역만 지우고 다시 그림
+ *          → 보드가 차도 노드 수는 1개, 한 번 그리는 비용은 바뀐 영역 크기에만 비례.
+ * 좌표: 돌/폭발이 보드 밖으로 조금 나가므로 Canvas 는 보드보다 PAD 만큼 크게 만들고 (-PAD, -PAD) 에 둔다.
+ */
+
+package com.omokpang.controller.game;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class CanvasBoardRenderer implements BoardRenderer {
+
+    // 폭발 이펙트 크기 (노드 방식과 같은 80px)
+    private static final double EXPLOSION_SIZE = 80;
+    // 보드 바깥 여백: 가장자리 칸의 폭발 이펙트가 잘리지 않을 만큼
+    private static final double PAD = EXPLOSION_SIZE / 2;
+    // dirty 사각형이 이보다 많이 쌓이면 하나로 합쳐서 그린다
+    private static final int MAX_DIRTY_RECTS = 16;
+
+    private static final Color GRID_COLOR = Color.color(1, 1, 1, 0.25);
+    private static final Color BORDER_COLOR = Color.color(1, 1, 1, 0.6);
+    private static final Color HIGHLIGHT_FILL = Color.color(1, 0, 0, 0.15); // 반투명 붉은색
+
+    private final Pane boardRoot;
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+
+    private final int n;
+    private final double cell;
+    private final double size;
+    private final double stoneSize;
+
+    // 칸마다 그릴 돌 이미지 (null = 빈칸)
+    private final Image[][] stones;
+
+    // Bomb 하이라이트 중심 (보드 밖 좌표일 수도 있음, 테두리 근처 칸만 일부 표시)
+    private boolean highlightOn;
+    private int highlightR;
+    private int highlightC;
+
+    // 떠 있는 폭발 이펙트
+    private static final class Explosion {
+        final double x, y, w, h;
+        final Image img;
+
+        Explosion(double x, double y, double w, double h, Image img) {
+            this.x = x; this.y = y; this.w = w; this.h = h;
+            this.img = img;
+        }
+    }
+    private final List<Explosion> explosions = new ArrayList<>();
+
+    // 다음 펄스에 다시 그릴 영역 {x, y, w, h} (Canvas 좌표)
+    private final List<double[]> dirty = new ArrayList<>();
+    private boolean flushScheduled;
+
+    // 그리기 시간 통계 (FX 스레드에서만 갱신)
+    private long lastPaintNanos;
+    private long maxPaintNanos;
+    private long paints;
+
+    CanvasBoardRenderer(Pane boardRoot, int n, double cell, double stoneSize) {
+        this.boardRoot = boardRoot;
+        this.n = n;
+        this.cell = cell;
+        this.size = cell * (n - 1);
+        this.stoneSize = stoneSize;
+        this.stones = new Image[n][n];
+
+        this.canvas = new Canvas(size + PAD * 2, size + PAD * 2);
+        this.canvas.setLayoutX(-PAD);
+        this.canvas.setLayoutY(-PAD);
+        this.gc = canvas.getGraphicsContext2D();
+    }
+
+    @Override
+    public void drawGrid() {
+        boardRoot.getChildren().setAll(canvas);
+        markDirty(0, 0, canvas.getWidth(), canvas.getHeight());
+    }
+
+    @Override
+    public void setStone(int r, int c, Image img) {
+        stones[r][c] = img;
+        markCellDirty(r, c);
+    }
+
+    @Override
+    public void removeStone(int r, int c) {
+        if (stones[r][c] == null) return;
+        stones[r][c] = null;
+        markCellDirty(r, c);
+    }
+
+    @Override
+    public boolean hasStone(int r, int c) {
+        return stones[r][c] != null;
+    }
+
+    @Override
+    public void showHighlight(int centerR, int centerC) {
+        if (highlightOn && centerR == highlightR && centerC == highlightC) return;
+        clearHighlight();
+        highlightOn = true;
+        highlightR = centerR;
+        highlightC = centerC;
+        markHighlightDirty();
+    }
+
+    @Override
+    public void clearHighlight() {
+        if (!highlightOn) return;
+        markHighlightDirty();
+        highlightOn = false;
+    }
+
+    @Override
+    public void showExplosion(int r, int c, Image img) {
+        if (img == null || img.getWidth() <= 0 || img.getHeight() <= 0) return;
+
+        // 80x80 안에 비율 유지로 맞춰 칸 중심에 그림
+        double scale = Math.min(EXPLOSION_SIZE / img.getWidth(), EXPLOSION_SIZE / img.getHeight());
+        double w = img.getWidth() * scale;
+        double h = img.getHeight() * scale;
+        Explosion ex = new Explosion(PAD + c * cell - w / 2, PAD + r * cell - h / 2, w, h, img);
+
+        explosions.add(ex);
+        markDirty(ex.x, ex.y, ex.w, ex.h);
+
+        // 2초 뒤 제거
+        PauseTransition pt = new PauseTransition(Duration.seconds(2));
+        pt.setOnFinished(e -> {
+            explosions.remove(ex);
+            markDirty(ex.x, ex.y, ex.w, ex.h);
+        });
+        pt.play();
+    }
+
+    @Override
+    public String stats() {
+        return String.format("canvas renderer, board nodes=%d, paint last=%.2fms max=%.2fms (%d)",
+                boardRoot.getChildren().size(), lastPaintNanos / 1e6, maxPaintNanos / 1e6, paints);
+    }
+
+    // ====================== dirty 영역 관리 ======================
+
+    private void markCellDirty(int r, int c) {
+        markDirty(PAD + c * cell - stoneSize / 2, PAD + r * cell - stoneSize / 2, stoneSize, stoneSize);
+    }
+
+    private void markHighlightDirty() {
+        // 3x3 칸 + 테두리 두께
+        double x = PAD + (highlightC - 1) * cell - cell / 2 - 2;
+        double y = PAD + (highlightR - 1) * cell - cell / 2 - 2;
+        markDirty(x, y, cell * 3 + 4, cell * 3 + 4);
+    }
+
+    private void markDirty(double x, double y, double w, double h) {
+        // 안티앨리어싱 가장자리까지 포함하도록 1px 여유
+        dirty.add(new double[]{x - 1, y - 1, w + 2, h + 2});
+
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Platform.runLater(this::flush);
+        }
+    }
+
+    // 모인 dirty 영역만 다시 그린다 (FX 스레드)
+    private void flush() {
+        flushScheduled = false;
+        if (dirty.isEmpty()) return;
+
+        long start = System.nanoTime();
+
+        if (dirty.size() > MAX_DIRTY_RECTS) {
+            double[] union = dirty.get(0).clone();
+            for (double[] d : dirty) {
+                double x2 = Math.max(union[0] + union[2], d[0] + d[2]);
+                double y2 = Math.max(union[1] + union[3], d[1] + d[3]);
+                union[0] = Math.min(union[0], d[0]);
+                union[1] = Math.min(union[1], d[1]);
+                union[2] = x2 - union[0];
+                union[3] = y2 - union[1];
+            }
+            dirty.clear();
+            dirty.add(union);
+        }
+
+        for (double[] d : dirty) {
+            repaint(d[0], d[1], d[2], d[3]);
+        }
+        dirty.clear();
+
+        lastPaintNanos = System.nanoTime() - start;
+        maxPaintNanos = Math.max(maxPaintNanos, lastPaintNanos);
+        paints++;
+    }
+
+    // ====================== 그리기 ======================
+
+    // (x, y, w, h) 영역을 지우고, 그 영역에 걸치는 것만 다시 그린다
+    private void repaint(double x, double y, double w, double h) {
+        gc.save();
+        gc.beginPath();
+        gc.rect(x, y, w, h);
+        gc.clip();
+        gc.clearRect(x, y, w, h);
+
+        // 1) 격자 선 (영역과 겹치는 선만)
+        gc.setStroke(GRID_COLOR);
+        gc.setLineWidth(1);
+        for (int i = 0; i < n; i++) {
+            double p = PAD + i * cell;
+            if (p >= x && p <= x + w) gc.strokeLine(p, PAD, p, PAD + size);
+            if (p >= y && p <= y + h) gc.strokeLine(PAD, p, PAD + size, p);
+        }
+        gc.setStroke(BORDER_COLOR);
+        gc.setLineWidth(2);
+        gc.strokeRect(PAD, PAD, size, size);
+
+        // 2) 돌 (영역에 걸칠 수 있는 칸만)
+        int c0 = clampIndex((int) Math.floor((x - PAD - stoneSize / 2) / cell));
+        int c1 = clampIndex((int) Math.ceil((x + w - PAD + stoneSize / 2) / cell));
+        int r0 = clampIndex((int) Math.floor((y - PAD - stoneSize / 2) / cell));
+        int r1 = clampIndex((int) Math.ceil((y + h - PAD + stoneSize / 2) / cell));
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                Image img = stones[r][c];
+                if (img != null) drawStone(img, r, c);
+            }
+        }
+
+        // 3) Bomb 하이라이트 (돌 위)
+        if (highlightOn) {
+            gc.setFill(HIGHLIGHT_FILL);
+            gc.setStroke(Color.RED);
+            gc.setLineWidth(2);
+            for (int r = highlightR - 1; r <= highlightR + 1; r++) {
+                for (int c = highlightC - 1; c <= highlightC + 1; c++) {
+                    if (r < 0 || r >= n || c < 0 || c >= n) continue;
+                    double hx = PAD + c * cell - cell / 2;
+                    double hy = PAD + r * cell - cell / 2;
+                    gc.fillRect(hx, hy, cell, cell);
+                    gc.strokeRect(hx, hy, cell, cell);
+                }
+            }
+        }
+
+        // 4) 폭발 이펙트 (맨 위)
+        for (Explosion ex : explosions) {
+            if (ex.x < x + w && ex.x + ex.w > x && ex.y < y + h && ex.y + ex.h > y) {
+                gc.drawImage(ex.img, ex.x, ex.y, ex.w, ex.h);
+            }
+        }
+
+        gc.restore();
+    }
+
+    // ImageView(fitWidth/fitHeight = stoneSize, preserveRatio) 와 같은 크기·위치로 그림
+    private void drawStone(Image img, int r, int c) {
+        if (img.getWidth() <= 0 || img.getHeight() <= 0) return;
+        double scale = Math.min(stoneSize / img.getWidth(), stoneSize / img.getHeight());
+        double w = img.getWidth() * scale;
+        double h = img.getHeight() * scale;
+        gc.drawImage(img, PAD + c * cell - stoneSize / 2, PAD + r * cell - stoneSize / 2, w, h);
+    }
+
+    private int clampIndex(int i) {
+        return Math.max(0, Math.min(n - 1, i));
+    }
+}
@@ -1,10 +1,13 @@
 /** CardUseModalController : 카드 사용 선택 모달 컨트롤러.
  * 역할: 보유 카드 손패를 크게 렌더링하고, 선택된 카드를 GameBoardController에 콜백으로 전달.
  * 핵심기능: 카드 이미지(me_/sm_ → la_) 변환 / 버튼 클릭 시 카드 선택·모달 닫기 / centerStack에서 자기 자신 제거.
+ * 재사용: SceneRouter.overlay 로 한 번 읽은 모달을 reset() 후 다시 쓴다.
  */
 
 package com.omokpang.controller.game;
 
+import com.omokpang.ImageCache;
+import com.omokpang.Resettable;
 import com.omokpang.domain.card.Card;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
@@ -18,7 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 
-public class CardUseModalController {
+public class CardUseModalController implements Resettable {
 
     @FXML
     private StackPane root;
@@ -32,6 +35,13 @@ public class CardUseModalController {
     // 카드 선택 콜백 : 어떤 카드를 골랐는지 GameBoard에 알려줌
     private Consumer<Card> onCardSelected;
 
+    // 다시 띄울 때: 이전 손패·콜백 비우기 (setCards / setOnCardSelected 로 새로 채움)
+    @Override
+    public void reset() {
+        onCardSelected = null;
+        setCards(null);
+    }
+
     // GameBoardController 에서 카드 리스트 세팅
     public void setCards(List<Card> cards) {
         this.cards.clear();
@@ -60,9 +70,7 @@ public class CardUseModalController {
             String basePath = card.getImagePath(); // /images/gamecard/me_*.png
             String largePath = toLargeImagePath(basePath); // /images/gamecard/la_*.png 으로 변환
 
-            Image img = new Image(
-                    getClass().getResource(largePath).toExternalForm()
-            );
+            Image img = ImageCache.get(largePath);
             ImageView iv = new ImageView(img);
             iv.setFitHeight(220);
             iv.setPreserveRatio(true);
@@ -0,0 +1,83 @@
+/** FrameStatsOverlay : 게임판 프레임 시간 표시 (성능 비교용).
+ * 역할: AnimationTimer 로 FX 펄스 간격을 재서 최근 평균/최대 프레임 시간을 보드 위 작은 라벨로 보여준다.
+ * 핵심기능: 렌더러 통계(BoardRenderer.stats: 노드 수, Canvas 그리기 시간)를 같이 붙여
+ *          OMOK_BOARD_RENDERER=node / canvas 두 방식을 같은 판에서 비교할 수 있게 함.
+ * 켜기: 환경변수 OMOK_FRAME_STATS=1 (기본 꺼짐). 게임이 끝나면 마지막 값을 콘솔에도 남긴다.
+ */
+
+package com.omokpang.controller.game;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+
+import java.util.function.Supplier;
+
+class FrameStatsOverlay {
+
+    // 이 프레임 수마다 라벨 갱신
+    private static final int WINDOW = 60;
+
+    private final Label label = new Label();
+    private final Supplier<String> rendererStats;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            onFrame(now);
+        }
+    };
+
+    private long lastFrame;
+    private long sumNanos;
+    private long maxNanos;
+    private int frames;
+
+    FrameStatsOverlay(Supplier<String> rendererStats) {
+        this.rendererStats = rendererStats;
+
+        label.setMouseTransparent(true);
+        label.setStyle("-fx-text-fill: #7CFC00; -fx-font-size: 11px; " +
+                "-fx-background-color: rgba(0,0,0,0.55); -fx-padding: 2 6 2 6;");
+        StackPane.setAlignment(label, Pos.TOP_LEFT);
+    }
+
+    /** OMOK_FRAME_STATS 가 켜져 있는지 */
+    static boolean isEnabled() {
+        String v = System.getenv("OMOK_FRAME_STATS");
+        return v != null && (v.trim().equals("1") || v.trim().equalsIgnoreCase("true"));
+    }
+
+    /** layer 위에 라벨을 올리고 측정 시작 (FX 스레드) */
+    void start(StackPane layer) {
+        if (!layer.getChildren().contains(label)) {
+            layer.getChildren().add(label);
+        }
+        lastFrame = 0;
+        timer.start();
+    }
+
+    void stop() {
+        timer.stop();
+        System.out.println("[FrameStats] " + label.getText());
+    }
+
+    private void onFrame(long now) {
+        if (lastFrame != 0) {
+            long dt = now - lastFrame;
+            sumNanos += dt;
+            maxNanos = Math.max(maxNanos, dt);
+            frames++;
+        }
+        lastFrame = now;
+
+        if (frames >= WINDOW) {
+            label.setText(String.format("frame avg=%.1fms max=%.1fms | %s",
+                    sumNanos / 1e6 / frames, maxNanos / 1e6, rendererStats.get()));
+            sumNanos = 0;
+            maxNanos = 0;
+            frames = 0;
+        }
+    }
+}
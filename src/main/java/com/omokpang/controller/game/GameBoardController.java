@@ -3,10 +3,15 @@
  * 핵심기능: MatchSession 기반 아바타·팀 정보 세팅 / 1:1·4인·2vs2 팀전 지원 / 승리 시 ResultView로 랭킹·점수 전달.
  * 네트워크: OmokClient를 감싼 NetworkClient 인터페이스로 PLACE·TURN·카드 이벤트를 송수신.
  * 카드 흐름: 카드 슬롯 표시·CardUseModal 오픈·각 효과(폭탄, 스왑, 공용돌, 더블무브, 타임락, 제거, 실드, 디펜스)를 보드 상태에 반영.
+ * 오버레이: 카드 효과 안내 FXML 은 SceneRouter.overlay 로 한 번만 읽고 재사용 (컨트롤러는 Resettable).
+ * 그리기: 격자·돌·하이라이트·폭발은 BoardRenderer 가 담당 (기본 Canvas 한 장, OMOK_BOARD_RENDERER=node 면 기존 노드 방식).
+ *
+ * 재동기화: 서버 SNAPSHOT(보드·공용돌·턴·남은 수·카드)을 받으면 onSnapshotFromServer 에서 한 번에 다시 맞춘다.
  *
  *  변경점: 턴은 서버가 관리한다.
  *   - 내 턴이 끝나면 TURN_END 를 서버로 보냄
  *   - 서버가 TURN <nickname> 을 브로드캐스트 → onTurnFromServer(...)에서 반영
+ *   - 제한시간도 서버가 강제: 시간이 지나도 TURN_END 가 없으면 TIMEOUT <nickname> → onTimeoutFromServer(...) 후 다음 TURN
  */
 
 package com.omokpang.controller.game;
@@ -25,7 +30,14 @@ import com.omokpang.controller.effect.DefenseNoticeController;
 import java.util.ArrayList;
 import java.util.Collections;
 
+import com.omokpang.ImageCache;
+import com.omokpang.SceneRouter;
+import com.omokpang.domain.board.Bitboard;
+import com.omokpang.domain.board.OmokBoard;
 import com.omokpang.domain.card.Card;
+import com.omokpang.domain.card.CardType;
+import com.omokpang.domain.result.ResultRules;
+import com.omokpang.net.BoardSnapshot;
 import com.omokpang.session.MatchSession;
 
 import com.omokpang.controller.result.ResultController;
@@ -41,9 +53,6 @@ import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Line;
-import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
 
 import java.io.IOException;
@@ -95,6 +104,12 @@ public class GameBoardController {
 
         // 턴 종료 (서버가 턴을 넘기도록 요청)
         void sendTurnEnd();
+
+        // 내 남은 카드 알림 (서버 SNAPSHOT 용, 손패가 바뀔 때마다)
+        void sendCards(List<Card> cards);
+
+        // 상태가 어긋났을 때 서버에 전체 상태(SNAPSHOT) 요청
+        void requestSnapshot();
     }
 
     // 1:1 여부 / 내가 아래인지 여부
@@ -161,24 +176,47 @@ public class GameBoardController {
     private List<Card> receivedCards;
 
     // ================== 보드 / 게임 상수 ==================
-    private static final int N = 15;            // 보드 크기 (15 x 15)
+    private static final int N = OmokBoard.N;   // 보드 크기 (15 x 15)
+    private static final int MAX_PLAYERS = 4;   // 한 판 최대 인원
     private static final double SIZE = 360;     // 보드 한 변 길이 (360px 정사각형)
     private static final double CELL = SIZE / (N - 1); // 한 칸(격자 간격) 크기
+    private static final double STONE_SIZE = CELL * 0.9; // 돌 이미지 크기 (ImageCache 도 이 크기로 디코딩)
+    private static final double CARD_SLOT_SIZE = 40;     // 카드 슬롯 아이콘 크기
+
+    // 자주 쓰는 이미지 경로 (preloadAssets 에서 미리 읽어 둠)
+    private static final String DEFAULT_STONE_PATH = "/images/user/sm_user1.png";
+    private static final String SHARED_STONE_PATH = "/images/cards/shared_stone.png";
+    private static final String BOMB_SMALL_PATH = "/images/effects/bomb_small.png";
+    private static final String MESSAGE_BG_PATH = "/images/message/ui_select.png";
+
+    // 카드 효과 오버레이 (SceneRouter.overlay 로 재사용, preloadAssets 에서 미리 읽어 둠)
+    private static final String[] OVERLAY_PATHS = {
+            "/fxml/game/CardUseModal.fxml",
+            "/fxml/effect/SharedStoneGuide.fxml",
+            "/fxml/effect/SharedStoneNotice.fxml",
+            "/fxml/effect/BombGuide.fxml",
+            "/fxml/effect/BombNotice.fxml",
+            "/fxml/effect/SwapSelectGuide.fxml",
+            "/fxml/effect/SwapNotice.fxml",
+            "/fxml/effect/DoubleMoveNotice.fxml",
+            "/fxml/effect/TimeLockNotice.fxml",
+            "/fxml/effect/RemoveGuide.fxml",
+            "/fxml/effect/RemoveNotice.fxml",
+            "/fxml/effect/ShieldNotice.fxml",
+            "/fxml/effect/DefenseNotice.fxml"
+    };
 
-    // 보드 상태: 0=빈칸, 1=선공 돌, -1=후공 돌
-    private final int[][] board = new int[N][N];
+    // 보드 상태: sign = 플레이어 인덱스 + 1 (0=빈칸), 공용돌 포함 (domain.board 비트보드, 서버와 같은 모델)
+    private final OmokBoard board = new OmokBoard(MAX_PLAYERS);
 
     // 게임이 이미 끝났는지 여부 (카드 사용 후 중복 턴 전환 방지)
     private boolean gameEnded = false;
 
-    // 돌 이미지 뷰 저장 (SharedStone 등으로 변경하기 위해)
-    private final ImageView[][] stoneViews = new ImageView[N][N];
-
-    // 공용돌(SharedStone) 여부 표시
-    private final boolean[][] sharedStones = new boolean[N][N];
+    // 보드 그리기 (Canvas / 노드 방식, OMOK_BOARD_RENDERER) — 돌·하이라이트·폭발 이펙트는 모두 여기로
+    private BoardRenderer renderer;
 
-    // 현재 표시 중인 하이라이트 Rectangle 들
-    private final List<Rectangle> bombHighlights = new ArrayList<>();
+    // 프레임 시간 표시 (OMOK_FRAME_STATS=1 일 때만)
+    private FrameStatsOverlay frameStats;
 
     // ================== 타이머 관련 ==================
     private static final int DEFAULT_TURN_SECONDS = 20; // 기본 턴 시간
@@ -279,18 +317,13 @@ public class GameBoardController {
         // 기본은 1:1 + 나는 아래라고 가정
         applyLayoutConfig();
 
-        // MatchSession에서 아바타/닉네임 정보 읽어서 프로필 & 돌 세팅
-        initAvatarsFromSession();
-
-        // 선택한 카드 두 장 세팅 (있을 경우)
-        List<Card> myCards = MatchSession.getMySelectedCards();
-        if (myCards != null && !myCards.isEmpty()) {
-            setReceivedCards(myCards);
-        }
-
         // 보드 그리기 (격자)
         boardRoot.setPrefSize(SIZE, SIZE);
-        drawGrid();
+        renderer = BoardRenderer.create(boardRoot, highlightPane, centerStack, N, CELL, STONE_SIZE);
+        renderer.drawGrid();
+        if (FrameStatsOverlay.isEnabled()) {
+            frameStats = new FrameStatsOverlay(renderer::stats);
+        }
 
         // 보드 클릭 이벤트 등록
         boardRoot.setOnMouseClicked(e -> {
@@ -301,6 +334,25 @@ public class GameBoardController {
 
         // 말풍선 리스트
         setupMessageList();
+    }
+
+    /**
+     * 세션 정보로 판 시작 상태를 세팅 (GameIntro 가 화면을 꺼낸 직후 호출).
+     * initialize 는 GameIntro 카운트다운 동안 prewarm 으로 미리 돌 수 있으므로,
+     * 세션을 읽거나 타이머를 시작하는 일은 여기서 한다.
+     * 보드·렌더러·카드 상태는 비우지 않으므로 Resettable 이 아니다 → SceneRouter 가 캐시하지 않고 판마다 새로 읽는다.
+     */
+    public void startGame() {
+        if (frameStats != null) frameStats.start(centerStack);
+
+        // MatchSession에서 아바타/닉네임 정보 읽어서 프로필 & 돌 세팅
+        initAvatarsFromSession();
+
+        // 선택한 카드 두 장 세팅 (있을 경우)
+        List<Card> myCards = MatchSession.getMySelectedCards();
+        if (myCards != null && !myCards.isEmpty()) {
+            setReceivedCards(myCards);
+        }
 
         // 서버 턴 관리와 동기화: 처음 선공은 players[0]
         String[] players = MatchSession.getPlayers();
@@ -360,10 +412,10 @@ public class GameBoardController {
             String oppAvatarPath = avatars[oppIndex];
 
             bottomPlayerImage.setImage(
-                    new Image(getClass().getResource(myAvatarPath).toExternalForm())
+                    ImageCache.get(myAvatarPath)
             );
             topPlayerImage.setImage(
-                    new Image(getClass().getResource(oppAvatarPath).toExternalForm())
+                    ImageCache.get(oppAvatarPath)
             );
 
             // 돌 경로는 이미 stonePathOfPlayer에 세팅되어 있음
@@ -393,16 +445,16 @@ public class GameBoardController {
             String rightAvatarPath = avatars[rightIdx];
 
             bottomPlayerImage.setImage(
-                    new Image(getClass().getResource(myAvatarPath).toExternalForm())
+                    ImageCache.get(myAvatarPath)
             );
             topPlayerImage.setImage(
-                    new Image(getClass().getResource(topAvatarPath).toExternalForm())
+                    ImageCache.get(topAvatarPath)
             );
             leftPlayerImage.setImage(
-                    new Image(getClass().getResource(leftAvatarPath).toExternalForm())
+                    ImageCache.get(leftAvatarPath)
             );
             rightPlayerImage.setImage(
-                    new Image(getClass().getResource(rightAvatarPath).toExternalForm())
+                    ImageCache.get(rightAvatarPath)
             );
 
             if (MatchSession.isTeamMode2v2()) {
@@ -430,10 +482,10 @@ public class GameBoardController {
      * 아바타 이미지 경로("/images/user/user1.png")를
      * 돌 이미지 경로("/images/user/sm_user1.png")로 변환한다.
      */
-    private String toStonePath(String avatarPath) {
+    private static String toStonePath(String avatarPath) {
         // avatarPath 예시: "/images/user/user1.png" 또는 "/images/user/sm_user1.png"
         if (avatarPath == null || avatarPath.isBlank()) {
-            return "/images/user/sm_user1.png";
+            return DEFAULT_STONE_PATH;
         }
 
         // 이미 sm_ 버전이면 그대로 사용
@@ -461,6 +513,33 @@ public class GameBoardController {
         return dir + file;                 // "/images/user/sm_user1.png"
     }
 
+    // 돌 크기로 디코딩해 캐시된 이미지
+    private static Image stoneImage(String path) {
+        return ImageCache.get(path, STONE_SIZE, STONE_SIZE);
+    }
+
+    /**
+     * 게임판에서 쓰는 이미지(아바타·돌·공용돌·폭발·카드·말풍선)를 미리 읽어 둔다.
+     * GameIntroController 가 안내 화면을 보여 주는 동안 백그라운드에서 호출 → 게임 중 돌을 둘 때 디스크를 읽지 않음.
+     * 카드 효과 오버레이 FXML 도 함께 미리 읽어 SceneRouter 캐시에 넣는다.
+     */
+    static void preloadAssets(String[] avatars) {
+        if (avatars != null) {
+            for (String avatar : avatars) {
+                ImageCache.preload(avatar);
+                ImageCache.preload(STONE_SIZE, STONE_SIZE, toStonePath(avatar));
+            }
+        }
+        ImageCache.preload(STONE_SIZE, STONE_SIZE, DEFAULT_STONE_PATH, SHARED_STONE_PATH);
+        ImageCache.preload(BOMB_SMALL_PATH, MESSAGE_BG_PATH);
+        for (CardType type : CardType.values()) {
+            ImageCache.preload(CARD_SLOT_SIZE, CARD_SLOT_SIZE, type.getImagePath());
+        }
+        System.out.println("[GameBoard] assets preloaded: " + ImageCache.stats());
+
+        SceneRouter.prewarmOverlays(OVERLAY_PATHS);
+    }
+
     // ================== 외부에서 플레이어 배치 설정 ==================
     public void configureForOneVsOne(boolean ignore) {
         this.oneVsOne = true;
@@ -574,6 +653,23 @@ public class GameBoardController {
         if (timer != null) timer.stop();
     }
 
+    // 서버로부터 "TIMEOUT <nickname>" 을 받았을 때 호출 (곧이어 다음 TURN 이 온다)
+    public void onTimeoutFromServer(String nickname) {
+        System.out.println("[GameBoard] onTimeoutFromServer: " + nickname);
+
+        String me = MatchSession.getMyNickname();
+        if (me == null || !me.equals(nickname)) return;
+
+        // 서버가 이미 턴을 넘겼으므로 TURN_END 는 보내지 않는다
+        stopTimer();
+        myTurn = false;
+        movesLeftInCurrentTurn = 0;
+        timerLabel.setText("시간 초과");
+        cancelAllCardSelectionModes();
+        updateTurnLabel();
+        updateActivePlayerHighlight();
+    }
+
     // 내 턴을 종료하고 서버에 TURN_END 전송 (서버가 턴을 넘긴다)
     private void endMyTurn() {
         if (!isMyTurn()) return;
@@ -729,32 +825,7 @@ public class GameBoardController {
         }
     }
 
-    // ================== 보드 그리기 & 클릭 처리 & 승리 판정 ==================
-    // 격자 그리기
-    private void drawGrid() {
-        boardRoot.getChildren().clear();
-
-        for (int i = 0; i < N; i++) {
-            double p = i * CELL;
-            Line h = new Line(0, p, SIZE, p);
-            Line v = new Line(p, 0, p, SIZE);
-
-            h.setStroke(Color.color(1, 1, 1, 0.25));
-            v.setStroke(Color.color(1, 1, 1, 0.25));
-            boardRoot.getChildren().addAll(h, v);
-        }
-
-        Line b1 = new Line(0, 0, SIZE, 0);
-        Line b2 = new Line(SIZE, 0, SIZE, SIZE);
-        Line b3 = new Line(SIZE, SIZE, 0, SIZE);
-        Line b4 = new Line(0, SIZE, 0, 0);
-        for (Line b : new Line[]{b1, b2, b3, b4}) {
-            b.setStroke(Color.color(1, 1, 1, 0.6));
-            b.setStrokeWidth(2);
-        }
-        boardRoot.getChildren().addAll(b1, b2, b3, b4);
-    }
-
+    // ================== 보드 클릭 처리 & 승리 판정 ==================
     // 로컬(나)에서 마우스로 보드를 클릭했을 때 처리
     private void handleLocalClick(int r, int c) {
 
@@ -792,7 +863,7 @@ public class GameBoardController {
             return; // 내 턴 아니면 무시
         }
 
-        if (!isInside(r, c) || board[r][c] != 0) {
+        if (!isInside(r, c) || !board.isEmpty(r, c)) {
             return; // 범위 밖 / 이미 돌이 있는 자리
         }
 
@@ -815,18 +886,21 @@ public class GameBoardController {
 
     // 상대방으로부터 온 PLACE r c 처리
     public void onPlaceFromOpponent(int r, int c) {
-        if (!isInside(r, c) || board[r][c] != 0) {
+        if (!isInside(r, c)) {
+            return;
+        }
+        if (!board.isEmpty(r, c)) {
+            // 서버가 받아 준 수인데 내 보드엔 이미 돌이 있음 → 앞선 메시지를 놓쳤다. 전체 상태를 다시 받는다
+            System.out.println("[GameBoard] PLACE on occupied cell (" + r + "," + c + ") -> request SNAPSHOT");
+            if (networkClient != null) networkClient.requestSnapshot();
             return;
         }
         applyPlace(r, c);
         // 상대가 둔 수에 대해서는 이쪽에서 TURN_END 를 보내지 않는다.
     }
 
-    // 실제 돌 그리기 + 승리 검사 + 한 턴에 둘 수 있는 수(movesLeftInCurrentTurn) 차감
+    // 실제 돌 그리기 + 한 턴에 둘 수 있는 수(movesLeftInCurrentTurn) 차감
     private void applyPlace(int r, int c) {
-        double cx = c * CELL;
-        double cy = r * CELL;
-
         String me = MatchSession.getMyNickname();
         // 현재 턴인 사람 인덱스 찾기
         int currentIdx = -1;
@@ -844,125 +918,23 @@ public class GameBoardController {
         String stonePath = stonePathOfPlayer[currentIdx];
 
 
-        // 안전장치: 경로가 잘못되면 기본 돌로 대체 (NPE 방지)
-        java.net.URL url = getClass().getResource(stonePath);
-        if (url == null) {
+        // 캐시된 돌 이미지 (경로가 잘못되면 기본 돌로 대체, NPE 방지)
+        Image img = stoneImage(stonePath);
+        if (img == null) {
             System.out.println("[GameBoard] WARN: stone image not found: " + stonePath +
-                    " -> fallback to /images/user/sm_user1.png");
-            url = getClass().getResource("/images/user/sm_user1.png");
+                    " -> fallback to " + DEFAULT_STONE_PATH);
+            img = stoneImage(DEFAULT_STONE_PATH);
         }
+        renderer.setStone(r, c, img);
 
-        Image img = new Image(url.toExternalForm());
-        ImageView stone = new ImageView(img);
-
-        double stoneSize = CELL * 0.9;
-        stone.setFitWidth(stoneSize);
-        stone.setFitHeight(stoneSize);
-        stone.setPreserveRatio(true);
+        board.place(currentIdx, r, c);
 
-        stone.setLayoutX(cx - stoneSize / 2);
-        stone.setLayoutY(cy - stoneSize / 2);
-
-        boardRoot.getChildren().add(stone);
-
-        board[r][c] = sign;
-        stoneViews[r][c] = stone;
-
-        // 팀전이면 "팀 기준" 승리, 아니면 기존 개인 기준
-        if (isTeamMode2v2()) {
-            int teamId = playerTeam[currentIdx];   // 현재 돌을 둔 플레이어의 팀
-
-            if (checkTeamWin(r, c, teamId)) {
-                onGameOver(sign);
-                return;
-            }
-        } else {
-            if (checkWin(r, c, sign)) {
-                onGameOver(sign);
-                return;
-            }
-        }
+        // 승패 판정은 서버가 한다 (5목이 되면 서버가 GAME_OVER 를 보냄 → onGameOverFromServer)
 
         // 한 턴에 둘 수 있는 수 감소 (기본 1, DoubleMove 시 2)
         movesLeftInCurrentTurn--;
     }
 
-    // 마지막에 (r,c)에 둔 sign(1 또는 -1)이 5목인지 검사
-    private boolean checkWin(int r, int c, int sign) {
-        // 가로
-        if (countDirection(r, c, sign, 0, 1) + countDirection(r, c, sign, 0, -1) - 1 >= 5) return true;
-        // 세로
-        if (countDirection(r, c, sign, 1, 0) + countDirection(r, c, sign, -1, 0) - 1 >= 5) return true;
-        // ↘ 대각선
-        if (countDirection(r, c, sign, 1, 1) + countDirection(r, c, sign, -1, -1) - 1 >= 5) return true;
-        // ↗ 대각선
-        if (countDirection(r, c, sign, 1, -1) + countDirection(r, c, sign, -1, 1) - 1 >= 5) return true;
-
-        return false;
-    }
-
-    // 마지막에 (r,c)에 둔 teamId(0 또는 1)가 5목인지 검사
-    private boolean checkTeamWin(int r, int c, int teamId) {
-        // 가로
-        if (countDirectionForTeam(r, c, teamId, 0, 1)
-                + countDirectionForTeam(r, c, teamId, 0, -1) - 1 >= 5) return true;
-        // 세로
-        if (countDirectionForTeam(r, c, teamId, 1, 0)
-                + countDirectionForTeam(r, c, teamId, -1, 0) - 1 >= 5) return true;
-        // ↘ 대각선
-        if (countDirectionForTeam(r, c, teamId, 1, 1)
-                + countDirectionForTeam(r, c, teamId, -1, -1) - 1 >= 5) return true;
-        // ↗ 대각선
-        if (countDirectionForTeam(r, c, teamId, 1, -1)
-                + countDirectionForTeam(r, c, teamId, -1, 1) - 1 >= 5) return true;
-
-        return false;
-    }
-
-    // (dr,dc) 방향으로 같은 sign이 몇 개 연속인지 센다 (자기 자신 포함)
-    private int countDirection(int r, int c, int sign, int dr, int dc) {
-        int cnt = 0;
-        int nr = r;
-        int nc = c;
-
-        while (isStoneForSign(nr, nc, sign)) {
-            cnt++;
-            nr += dr;
-            nc += dc;
-        }
-        return cnt;
-    }
-
-    // 해당 좌표의 돌이 주어진 sign(1 또는 -1)의 연속에 포함되는지 여부
-    private boolean isStoneForSign(int r, int c, int sign) {
-        if (!isInside(r, c)) return false;
-
-        // 원래 그 플레이어 돌
-        if (board[r][c] == sign) return true;
-
-        // 공용돌이면 양쪽 다 자신의 돌로 인정
-        if (sharedStones[r][c]) return true;
-
-        return false;
-    }
-
-    // (r,c)가 teamId(0 또는 1)의 돌(또는 공용돌)인지 여부
-    private boolean isStoneForTeam(int r, int c, int teamId) {
-        if (!isInside(r, c)) return false;
-
-        // 공용돌이면 어느 팀에게나 자신의 돌로 인정
-        if (sharedStones[r][c]) return true;
-
-        int sign = board[r][c];
-        if (sign == 0) return false;
-
-        // sign -> 플레이어 인덱스(0~3) -> 팀 번호
-        int idx = sign - 1;
-        if (playerTeam == null || idx < 0 || idx >= playerTeam.length) return false;
-
-        return playerTeam[idx] == teamId;
-    }
-
     // 승패가 결정되었을 때 호출: winnerSign = 1..N (플레이어 인덱스 + 1)
     private void onGameOver(int winnerSign) {
         // 이미 끝난 뒤에 또 호출되는 것 방지
@@ -972,6 +944,8 @@ public class GameBoardController {
         // 더 이상 타이머 / 클릭 동작 X
         stopTimer();
         boardRoot.setOnMouseClicked(null);
+        System.out.println("[ImageCache] " + ImageCache.stats());
+        if (frameStats != null) frameStats.stop();
 
         boolean iWon;
 
@@ -1026,55 +1000,13 @@ public class GameBoardController {
                     winnerIdx = 0;
                 }
 
+                // 순위·포인트 규칙은 서버 정산과 같은 ResultRules 사용
+                int[] ranks = ResultRules.ranks(n, winnerIdx, isTeamMode2v2() ? playerTeam : null);
+
                 for (int i = 0; i < n; i++) {
 
-                    int rank;
-                    String score;
-
-                    if (n == 2) {
-                        // 2인: 1등 80, 2등 40
-                        if (i == winnerIdx) {
-                            rank = 1;
-                            score = "80";
-                        } else {
-                            rank = 2;
-                            score = "40";
-                        }
-                    } else if (n == 4 && isTeamMode2v2()) {
-                        // 4인 2vs2 팀전: 같은 팀 둘 다 80점, 나머지 둘은 40점
-                        int winnerTeam = playerTeam[winnerIdx];
-
-                        if (playerTeam[i] == winnerTeam) {
-                            rank = 1;
-                            score = "80";
-                        } else {
-                            rank = 2;
-                            score = "40";
-                        }
-
-                    } else if (n == 4) {
-                        // 4인 개인전(1v1v1v1): 1등만 80점, 나머지 3명은 40점
-                        if (i == winnerIdx) {
-                            rank = 1;
-                            score = "80";
-                        } else {
-                            // 2,3,4등을 인덱스 순서대로 부여
-                            int loserRankBase = 2;
-                            int smallerLosers = 0;
-                            for (int j = 0; j < i; j++) {
-                                if (j != winnerIdx) {
-                                    smallerLosers++;
-                                }
-                            }
-                            rank = loserRankBase + smallerLosers;  // 2,3,4
-                            score = "40";
-                        }
-
-                    } else {
-                        // 그 외 인원수는 일단 0점 처리 (필요 시 규칙 추가)
-                        rank = (i == winnerIdx) ? 1 : 2;
-                        score = (i == winnerIdx) ? "80" : "0";
-                    }
+                    int rank = ranks[i];
+                    String score = String.valueOf(ResultRules.points(n, rank));
 
                     list.add(new String[]{
                             String.valueOf(rank), // 순위
@@ -1101,6 +1033,20 @@ public class GameBoardController {
         }
     }
 
+    // 서버에서 "GAME_OVER <승자 닉네임>" 을 받았을 때 호출 (2v2 는 승리 팀의 대표 한 명)
+    public void onGameOverFromServer(String winnerNickname) {
+        System.out.println("[GameBoard] GAME_OVER from server: " + winnerNickname);
+        if (players == null || winnerNickname == null) return;
+
+        for (int i = 0; i < players.length; i++) {
+            if (players[i].equals(winnerNickname)) {
+                onGameOver(i + 1);
+                return;
+            }
+        }
+        System.out.println("[GameBoard] WARN: unknown winner " + winnerNickname);
+    }
+
     // 서버에서 "상대가 게임을 나갔다"는 이벤트를 받았을 때 호출
     public void onOpponentLeft() {
         System.out.println("[GameBoard] opponent left -> I win by default.");
@@ -1124,9 +1070,7 @@ public class GameBoardController {
     }
 
     private Region createMessageItem(String text) {
-        Image bgImg = new Image(
-                getClass().getResource("/images/message/ui_select.png").toExternalForm()
-        );
+        Image bgImg = ImageCache.get(MESSAGE_BG_PATH);
         ImageView bgView = new ImageView(bgImg);
         bgView.setPreserveRatio(true);
         bgView.setFitWidth(200);
@@ -1239,6 +1183,11 @@ public class GameBoardController {
     public void setReceivedCards(List<Card> cards) {
         this.receivedCards = cards;
 
+        // 서버에도 남은 카드 알림 (SNAPSHOT 에 담아 줄 수 있도록)
+        if (networkClient != null) {
+            networkClient.sendCards(cards);
+        }
+
         hasShieldCard = false;
         cardSlotBox.getChildren().clear();
 
@@ -1252,7 +1201,7 @@ public class GameBoardController {
                     hasShieldCard = true;
 
                     ImageView iv = new ImageView(
-                            new Image(getClass().getResource(card.getImagePath()).toExternalForm())
+                            ImageCache.get(card.getImagePath(), CARD_SLOT_SIZE, CARD_SLOT_SIZE)
                     );
                     iv.setFitWidth(40);
                     iv.setFitHeight(40);
@@ -1264,7 +1213,7 @@ public class GameBoardController {
                 }
                 default -> {
                     ImageView iv = new ImageView(
-                            new Image(getClass().getResource(card.getImagePath()).toExternalForm())
+                            ImageCache.get(card.getImagePath(), CARD_SLOT_SIZE, CARD_SLOT_SIZE)
                     );
                     iv.setFitWidth(40);
                     iv.setFitHeight(40);
@@ -1305,12 +1254,10 @@ public class GameBoardController {
         }
 
         try {
-            FXMLLoader loader = new FXMLLoader(
-                    getClass().getResource("/fxml/game/CardUseModal.fxml")
-            );
-            StackPane modalRoot = loader.load();
+            SceneRouter.View<CardUseModalController> view = SceneRouter.overlay("/fxml/game/CardUseModal.fxml");
+            Parent modalRoot = view.getRoot();
 
-            CardUseModalController controller = loader.getController();
+            CardUseModalController controller = view.getController();
             // 1) 내가 가진 카드 목록 전달 (SHIELD 제외)
             controller.setCards(usableCards);
             // 2) 어떤 카드를 골랐는지 콜백으로 전달
@@ -1400,11 +1347,9 @@ public class GameBoardController {
         sharedStoneSelecting = true;
 
         try {
-            FXMLLoader loader = new FXMLLoader(
-                    getClass().getResource("/fxml/effect/SharedStoneGuide.fxml")
-            );
-            StackPane overlay = loader.load();
-            sharedStoneGuideController = loader.getController();
+            SceneRouter.View<SharedStoneGuideController> view = SceneRouter.overlay("/fxml/effect/SharedStoneGuide.fxml");
+            Parent overlay = view.getRoot();
+            sharedStoneGuideController = view.getController();
 
             overlay.setMouseTransparent(true);
 
@@ -1421,7 +1366,7 @@ public class GameBoardController {
     private void handleSharedStoneTargetClick(int r, int c) {
         if (!isInside(r, c)) return;
 
-        int cellSign = board[r][c];
+        int cellSign = board.signAt(r, c);
 
         if (cellSign == 0) {
             System.out.println("[GameBoard] SharedStone: 빈 칸을 클릭했습니다.");
@@ -1461,7 +1406,7 @@ public class GameBoardController {
     private void onSharedStoneTargetChosenByMe(int r, int c) {
         sharedStoneSelecting = false;
 
-        // 실제 공용돌 적용 (여기서 승리하면 onGameOver에서 gameEnded = true)
+        // 실제 공용돌 적용 (승리 여부는 서버가 GAME_OVER 로 알려준다)
         applySharedStoneAt(r, c);
 
         // 서버에 좌표 전송 (상대 보드도 동일하게 변경)
@@ -1475,54 +1420,23 @@ public class GameBoardController {
         }
     }
 
-    // (r,c)에 이미 놓인 돌을 "공용돌" 이미지로 변경하고, sharedStones 플래그를 세팅.
+    // (r,c)에 이미 놓인 돌을 "공용돌" 이미지로 변경하고, 보드에 공용돌로 표시.
     private void applySharedStoneAt(int r, int c) {
         if (!isInside(r, c)) return;
-        if (board[r][c] == 0) return; // 빈 칸이면 무시
+        if (board.isEmpty(r, c)) return; // 빈 칸이면 무시
 
-        ImageView targetStone = stoneViews[r][c];
-        if (targetStone == null) {
-            System.out.println("[GameBoard] SharedStone: 해당 위치에 ImageView가 없습니다. (r=" + r + ", c=" + c + ")");
+        if (!renderer.hasStone(r, c)) {
+            System.out.println("[GameBoard] SharedStone: 해당 위치에 그려진 돌이 없습니다. (r=" + r + ", c=" + c + ")");
             return;
         }
 
         try {
-            Image sharedImg = new Image(
-                    getClass().getResource("/images/cards/shared_stone.png").toExternalForm()
-            );
-            targetStone.setImage(sharedImg);
-            sharedStones[r][c] = true;
+            renderer.setStone(r, c, stoneImage(SHARED_STONE_PATH));
+            board.share(r, c);
 
             System.out.println("[GameBoard] SharedStone 적용 완료 at (" + r + ", " + c + ")");
 
-            // 공용돌 포함 즉시 승리 여부 체크
-            if (players != null) {
-                if (isTeamMode2v2()) {
-                    // 팀 기준으로 0팀 / 1팀 검사
-                    for (int teamId = 0; teamId <= 1; teamId++) {
-                        if (checkTeamWin(r, c, teamId)) {
-                            // 대표 플레이어 하나 골라서 승자로 넘기기
-                            int winnerIdx = 0;
-                            for (int i = 0; i < playerTeam.length; i++) {
-                                if (playerTeam[i] == teamId) {
-                                    winnerIdx = i;
-                                    break;
-                                }
-                            }
-                            onGameOver(winnerIdx + 1);
-                            return;
-                        }
-                    }
-                } else {
-                    // 기존 개인 기준
-                    for (int sign = 1; sign <= players.length; sign++) {
-                        if (checkWin(r, c, sign)) {
-                            onGameOver(sign);
-                            return;
-                        }
-                    }
-                }
-            }
+            // 공용돌 포함 5목 여부는 서버가 판정 (GAME_OVER)
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -1533,11 +1447,9 @@ public class GameBoardController {
         System.out.println("[GameBoard] 상대가 SharedStone 카드를 사용했습니다.");
 
         try {
-            FXMLLoader loader = new FXMLLoader(
-                    getClass().getResource("/fxml/effect/SharedStoneNotice.fxml") // ⚠️ 경로 확인 필요
-            );
-            StackPane overlay = loader.load();
-            SharedStoneNoticeController controller = loader.getController();
+            SceneRouter.View<SharedStoneNoticeController> view = SceneRouter.overlay("/fxml/effect/SharedStoneNotice.fxml");
+            Parent overlay = view.getRoot();
+            SharedStoneNoticeController controller = view.getController();
 
             centerStack.getChildren().add(overlay);
         } catch (IOException e) {
@@ -1572,11 +1484,9 @@ public class GameBoardController {
         bombSelecting = true;
 
         try {
-            FXMLLoader loader = new FXMLLoader(
-                    getClass().getResource("/fxml/effect/BombGuide.fxml")
-            );
-            StackPane overlay = loader.load();
-            bombGuideController = loader.getController();
+            SceneRouter.View<BombGuideController> view = SceneRouter.overlay("/fxml/effect/BombGuide.fxml");
+            Parent overlay = view.getRoot();
+            bombGuideController = view.getController();
 
             bombGuideController.setOnAreaSelected((row, col) -> {
                 onBombAreaChosenByMe(row, col);
@@ -1597,37 +1507,11 @@ public class GameBoardController {
     }
 
     private void updateBombHighlight(int centerR, int centerC) {
-
-        if (highlightPane == null) return;
-
-        clearBombHighlight();
-
-        if (!bombSelecting) return;
-
-        for (int dr = -1; dr <= 1; dr++) {
-            for (int dc = -1; dc <= 1; dc++) {
-                int r = centerR + dr;
-                int c = centerC + dc;
-                if (!isInside(r, c)) continue;
-
-                Rectangle rect = new Rectangle(CELL, CELL);
-                rect.setStroke(Color.RED);
-                rect.setStrokeWidth(2);
-                rect.setFill(Color.color(1,0,0,0.15)); // 반투명 붉은색
-                rect.setLayoutX(c * CELL - CELL/2);
-                rect.setLayoutY(r * CELL - CELL/2);
-
-                bombHighlights.add(rect);
-                highlightPane.getChildren().add(rect);
-            }
-        }
-    }
-
-    private void clearBombHighlight() {
-        for (Rectangle rect : bombHighlights) {
-            highlightPane.getChildren().remove(rect);
+        if (!bombSelecting) {
+            renderer.clearHighlight();
+            return;
         }
-        bombHighlights.clear();
+        renderer.showHighlight(centerR, centerC);
     }
 
     // Bomb 선택 모드에서 보드를 클릭했을 때
@@ -1658,70 +1542,20 @@ public class GameBoardController {
 
     // (r,c)를 중심으로 하는 3×3 영역의 돌을 모두 제거 : 최소 0개 ~ 최대 9개 제거
     private void applyBombArea(int centerR, int centerC) {
-        int removed = 0;
-
-        for (int dr = -1; dr <= 1; dr++) {
-            for (int dc = -1; dc <= 1; dc++) {
-                int r = centerR + dr;
-                int c = centerC + dc;
+        if (!isInside(centerR, centerC)) return;
 
-                if (!isInside(r, c)) continue;
-                if (board[r][c] == 0) continue;
+        // 3x3 영역 마스크 한 번으로 보드에서 제거, 실제로 돌이 있던 칸만 돌려받는다
+        Bitboard removed = board.clearArea(centerR, centerC);
 
-                ImageView stone = stoneViews[r][c];
-                if (stone != null) {
-                    // 🔥 작은 폭발 효과
-                    showSmallExplosionAt(r, c);
-                    boardRoot.getChildren().remove(stone);
-                }
-
-                board[r][c] = 0;
-                stoneViews[r][c] = null;
-                sharedStones[r][c] = false;
-                removed++;
+        removed.forEach((r, c) -> {
+            if (renderer.hasStone(r, c)) {
+                // 🔥 작은 폭발 효과 (2초 후 자동 제거)
+                renderer.showExplosion(r, c, ImageCache.get(BOMB_SMALL_PATH));
             }
-        }
-
-        System.out.println("[GameBoard] Bomb!! 적용: " + removed + "개 제거 (center=" + centerR + "," + centerC + ")");
-    }
-
-    // 개별 돌 폭발 이펙트 (2초 후 자동 제거)
-    private void showSmallExplosionAt(int r, int c) {
-        Image explosion = new Image(
-                getClass().getResource("/images/effects/bomb_small.png").toExternalForm()
-        );
-
-        ImageView iv = new ImageView(explosion);
-        iv.setFitWidth(80);
-        iv.setFitHeight(80);
-        iv.setPreserveRatio(true);
-
-        double cx = c * CELL;
-        double cy = r * CELL;
-
-        iv.setLayoutX(cx - 24);
-        iv.setLayoutY(cy - 24);
-
-        centerStack.getChildren().add(iv);
-
-        // 2초 뒤 제거
-        PauseTransition pt = new PauseTransition(Duration.seconds(2));
-        pt.setOnFinished(e -> centerStack.getChildren().remove(iv));
-        pt.play();
-    }
-
-    // (dr,dc) 방향으로 같은 팀 돌이 몇 개 연속인지 센다
-    private int countDirectionForTeam(int r, int c, int teamId, int dr, int dc) {
-        int cnt = 0;
-        int nr = r;
-        int nc = c;
+            renderer.removeStone(r, c);
+        });
 
-        while (isStoneForTeam(nr, nc, teamId)) {
-            cnt++;
-            nr += dr;
-            nc += dc;
-        }
-        return cnt;
+        System.out.println("[GameBoard] Bomb!! 적용: " + removed.count() + "개 제거 (center=" + centerR + "," + centerC + ")");
     }
 
     // 서버에서 '상대가 Bomb!! 카드를 사용했다' 알림을 받았을 때
@@ -1729,10 +1563,8 @@ public class GameBoardController {
         System.out.println("[GameBoard] 상대가 Bomb!! 카드를 사용했습니다.");
 
         try {
-            FXMLLoader loader = new FXMLLoader(
-                    getClass().getResource("/fxml/effect/BombNotice.fxml")
-            );
-            StackPane overlay = loader.load();
+            SceneRouter.View<?> view = SceneRouter.overlay("/fxml/effect/BombNotice.fxml");
+            Parent overlay = view.getRoot();
 
             centerStack.getChildren().add(overlay);
         } catch (IOException e) {
@@ -1770,11 +1602,9 @@ public class GameBoardController {
         swapMyPos = null;
 
         try {
-            FXMLLoader loader = new FXMLLoader(
-                    getClass().getResource("/fxml/effect/SwapSelectGuide.fxml")
-            );
-            StackPane overlay = loader.load();
-            swapGuideController = loader.getController();
+            SceneRouter.View<SwapSelectGuideController> view = SceneRouter.overlay("/fxml/effect/SwapSelectGuide.fxml");
+            Parent overlay = view.getRoot();
+            swapGuideController = view.getController();
             centerStack.getChildren().add(overlay);
         } catch (IOException e) {
             e.printStackTrace();
@@ -1787,7 +1617,7 @@ public class GameBoardController {
 
         // 1단계: 내 돌 선택
         if (swapMyPos == null) {
-            if (board[r][c] != mySign) {
+            if (board.signAt(r, c) != mySign) {
                 System.out.println("[GameBoard] Swap: 내 돌이 아닌 곳을 클릭했습니다.");
                 return;
             }
@@ -1800,7 +1630,7 @@ public class GameBoardController {
         }
 
         // 2단계: 상대 팀 돌 선택
-        int cellSign = board[r][c];
+        int cellSign = board.signAt(r, c);
 
         if (cellSign == 0) {
             System.out.println("[GameBoard] Swap: 비어있는 칸을 클릭했습니다.");
@@ -1858,46 +1688,33 @@ public class GameBoardController {
         }
     }
 
-    // 두 좌표의 돌을 교환하고, 승리 여부를 검사한다.
+    // 두 좌표의 돌을 교환한다.
     private void applySwapStones(int myR, int myC, int oppR, int oppC) {
         if (!isInside(myR, myC) || !isInside(oppR, oppC)) return;
 
-        // 보드 값(1 / -1) 교환
-        int tmp = board[myR][myC];
-        board[myR][myC] = board[oppR][oppC];
-        board[oppR][oppC] = tmp;
-
-        // 공용돌 플래그도 함께 교환 (혹시 나중에 공용돌과 섞여 쓸 수도 있으니까)
-        boolean tmpShared = sharedStones[myR][myC];
-        sharedStones[myR][myC] = sharedStones[oppR][oppC];
-        sharedStones[oppR][oppC] = tmpShared;
+        // 보드 값 + 공용돌 여부 교환
+        board.swap(myR, myC, oppR, oppC);
 
         // 이미지 갱신
         refreshStoneImage(myR, myC);
         refreshStoneImage(oppR, oppC);
 
         System.out.println("[GameBoard] Swap 적용: (" + myR + "," + myC + ") <-> (" + oppR + "," + oppC + ")");
-
-        // 교환 후 양쪽 모두 5목 체크
-        checkWinAfterSwap(myR, myC, oppR, oppC);
+        // 교환으로 생긴 5목은 서버가 판정 (GAME_OVER)
     }
 
-    // 한 칸의 이미지를 현재 board / sharedStones 상태에 맞게 다시 그린다.
+    // 한 칸의 이미지를 현재 board(공용돌 여부 포함) 상태에 맞게 다시 그린다.
     private void refreshStoneImage(int r, int c) {
-        ImageView iv = stoneViews[r][c];
-        if (iv == null) return;
+        if (!renderer.hasStone(r, c)) return;
 
         try {
             // 공용돌이면 무조건 공용돌 이미지
-            if (sharedStones[r][c]) {
-                Image sharedImg = new Image(
-                        getClass().getResource("/images/cards/shared_stone.png").toExternalForm()
-                );
-                iv.setImage(sharedImg);
+            if (board.isShared(r, c)) {
+                renderer.setStone(r, c, stoneImage(SHARED_STONE_PATH));
                 return;
             }
 
-            int sign = board[r][c]; // 1 ~ players.length
+            int sign = board.signAt(r, c); // 1 ~ players.length
             if (sign <= 0 || players == null || stonePathOfPlayer == null) {
                 return;
             }
@@ -1914,32 +1731,79 @@ public class GameBoardController {
                 return;
             }
 
-            Image img = new Image(getClass().getResource(path).toExternalForm());
-            iv.setImage(img);
+            renderer.setStone(r, c, stoneImage(path));
 
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
-    // Swap 후 승리 여부를 검사한다.
-    private void checkWinAfterSwap(int r1, int c1, int r2, int c2) {
-        int[][] points = { {r1, c1}, {r2, c2} };
-
-        for (int[] p : points) {
-            int r = p[0];
-            int c = p[1];
-            int sign = board[r][c];
+    /**
+     * 서버 SNAPSHOT 으로 보드·턴·남은 수·내 카드를 통째로 다시 맞춘다. (놓친 메시지로 어긋났거나, 재접속 후 기록이 모자랄 때)
+     *  - 달라진 칸만 보드 모델과 renderer 에 반영 → 그리기는 다음 펄스에 한 번 (Canvas 는 dirty 영역을 모아서 다시 그림)
+     *  - 진행 중이던 카드 선택 모드는 취소
+     */
+    public void onSnapshotFromServer(BoardSnapshot snap) {
+        if (players == null || gameEnded) return;
+        System.out.println("[GameBoard] SNAPSHOT from server (turn=" + snap.getTurnIndex() +
+                ", moves=" + snap.getMovesLeft() + ")");
+
+        cancelAllCardSelectionModes();
+        renderer.clearHighlight();
+
+        // 1) 보드: 달라진 칸만
+        for (int r = 0; r < N; r++) {
+            for (int c = 0; c < N; c++) {
+                int sign = snap.signAt(r, c);
+                boolean shared = snap.isShared(r, c);
+                if (sign > players.length) sign = 0; // 이 판에 없는 플레이어
+                if (board.signAt(r, c) == sign && board.isShared(r, c) == shared) continue;
+
+                board.setCell(r, c, sign, shared);
+                if (sign == 0) {
+                    renderer.removeStone(r, c);
+                } else {
+                    if (!renderer.hasStone(r, c)) renderer.setStone(r, c, stoneImage(DEFAULT_STONE_PATH));
+                    refreshStoneImage(r, c);
+                }
+            }
+        }
 
-            if (sign == 0) continue;  // 빈칸이면 스킵
+        // 2) 턴 / 남은 수
+        int turnIdx = snap.getTurnIndex();
+        if (turnIdx >= 0 && turnIdx < players.length && !players[turnIdx].equals(currentTurnNickname)) {
+            onTurnFromServer(players[turnIdx]);
+        }
+        movesLeftInCurrentTurn = snap.getMovesLeft();
+        if (isMyTurn() && movesLeftInCurrentTurn <= 0) {
+            // 이미 다 뒀는데 TURN_END 가 빠졌던 경우
+            endMyTurn();
+        }
 
-            if (checkWin(r, c, sign)) {
-                onGameOver(sign);
-                return;
+        // 3) 내 카드 (서버가 알고 있고 내 손패와 다를 때만)
+        List<String> hand = snap.hand(myIndex);
+        if (hand != null && !hand.equals(cardNames(receivedCards))) {
+            List<Card> cards = new ArrayList<>();
+            for (String name : hand) {
+                try {
+                    cards.add(new Card(CardType.valueOf(name)));
+                } catch (IllegalArgumentException e) {
+                    System.out.println("[GameBoard] SNAPSHOT: unknown card " + name);
+                }
             }
+            setReceivedCards(cards);
         }
     }
 
+    private static List<String> cardNames(List<Card> cards) {
+        List<String> names = new ArrayList<>();
+        if (cards == null) return names;
+        for (Card card : cards) {
+            if (card != null) names.add(card.getName());
+        }
+        return names;
+    }
+
     public void onSwapStartFromOpponent() {
 
         System.out.println("[GameBoard] 상대 Swap 사용됨");
@@ -1964,10 +1828,8 @@ public class GameBoardController {
 
         // 방어 카드가 없으면, 그냥 안내 오버레이만 띄움
         try {
-            FXMLLoader loader = new FXMLLoader(
-                    getClass().getResource("/fxml/effect/SwapNotice.fxml")
-            );
-            centerStack.getChildren().add(loader.load());
+            SceneRouter.View<?> view = SceneRouter.overlay("/fxml/effect/SwapNotice.fxml");
+            centerStack.getChildren().add(view.getRoot());
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -2026,12 +1888,10 @@ public class GameBoardController {
 
     private void showDoubleMoveNotice(String message) {
         try {
-            FXMLLoader loader = new FXMLLoader(
-                    getClass().getResource("/fxml/effect/DoubleMoveNotice.fxml")
-            );
-            StackPane overlay = loader.load();
+            SceneRouter.View<DoubleMoveNoticeController> view = SceneRouter.overlay("/fxml/effect/DoubleMoveNotice.fxml");
+            Parent overlay = view.getRoot();
 
-            DoubleMoveNoticeController controller = loader.getController();
+            DoubleMoveNoticeController controller = view.getController();
             controller.setMessage(message);
 
             centerStack.getChildren().add(overlay);
@@ -2100,10 +1960,8 @@ public class GameBoardController {
         timeLockNextTurn = true;
 
         try {
-            FXMLLoader loader = new FXMLLoader(
-                    getClass().getResource("/fxml/effect/TimeLockNotice.fxml")
-            );
-            StackPane overlay = loader.load();
+            SceneRouter.View<?> view = SceneRouter.overlay("/fxml/effect/TimeLockNotice.fxml");
+            Parent overlay = view.getRoot();
             centerStack.getChildren().add(overlay);
         } catch (IOException e) {
             e.printStackTrace();
@@ -2133,11 +1991,9 @@ public class GameBoardController {
         removeSelecting = true;
 
         try {
-            FXMLLoader loader = new FXMLLoader(
-                    getClass().getResource("/fxml/effect/RemoveGuide.fxml")
-            );
-            StackPane overlay = loader.load();
-            removeGuideController = loader.getController();
+            SceneRouter.View<RemoveGuideController> view = SceneRouter.overlay("/fxml/effect/RemoveGuide.fxml");
+            Parent overlay = view.getRoot();
+            removeGuideController = view.getController();
 
             overlay.setMouseTransparent(true);
 
@@ -2155,16 +2011,16 @@ public class GameBoardController {
     private void handleRemoveTargetClick(int r, int c) {
         if (!isInside(r, c)) return;
 
-        int cellSign = board[r][c];
+        int cellSign = board.signAt(r, c);
 
         // 빈 칸 + 공용 아님 → 선택 불가
-        if (cellSign == 0 && !sharedStones[r][c]) {
+        if (cellSign == 0 && !board.isShared(r, c)) {
             System.out.println("[GameBoard] Remove: 빈 칸을 클릭했습니다.");
             return;
         }
 
-        // 공용돌(sharedStones)은 항상 제거 가능
-        if (!sharedStones[r][c]) {
+        // 공용돌은 항상 제거 가능
+        if (!board.isShared(r, c)) {
             // 팀 정보가 있는 경우: 같은 팀(나/팀원) 돌은 제거 불가
             if (playerTeam != null && players != null
                     && playerTeam.length == players.length) {
@@ -2222,16 +2078,10 @@ public class GameBoardController {
     // (r,c)의 돌을 제거한다.
     private void applyRemoveAt(int r, int c) {
         if (!isInside(r, c)) return;
-        if (board[r][c] == 0) return;
+        if (board.isEmpty(r, c)) return;
 
-        ImageView stone = stoneViews[r][c];
-        if (stone != null) {
-            boardRoot.getChildren().remove(stone);
-        }
-
-        board[r][c] = 0;
-        stoneViews[r][c] = null;
-        sharedStones[r][c] = false;
+        renderer.removeStone(r, c);
+        board.clear(r, c);
 
         System.out.println("[GameBoard] Remove 적용: (" + r + ", " + c + ")의 돌 제거");
     }
@@ -2280,11 +2130,9 @@ public class GameBoardController {
     // Remove 안내 배너 공통 메서드
     private void showRemoveNotice(String title, String message) {
         try {
-            FXMLLoader loader = new FXMLLoader(
-                    getClass().getResource("/fxml/effect/RemoveNotice.fxml")
-            );
-            StackPane overlay = loader.load();
-            RemoveNoticeController controller = loader.getController();
+            SceneRouter.View<RemoveNoticeController> view = SceneRouter.overlay("/fxml/effect/RemoveNotice.fxml");
+            Parent overlay = view.getRoot();
+            RemoveNoticeController controller = view.getController();
             if (title != null) controller.setTitle(title);
             if (message != null) controller.setMessage(message);
 
@@ -2329,11 +2177,9 @@ public class GameBoardController {
 
     private void showShieldNotice(String title, String message) {
         try {
-            FXMLLoader loader = new FXMLLoader(
-                    getClass().getResource("/fxml/effect/ShieldNotice.fxml")
-            );
-            StackPane overlay = loader.load();
-            ShieldNoticeController controller = loader.getController();
+            SceneRouter.View<ShieldNoticeController> view = SceneRouter.overlay("/fxml/effect/ShieldNotice.fxml");
+            Parent overlay = view.getRoot();
+            ShieldNoticeController controller = view.getController();
             controller.setTexts(title, message);
             centerStack.getChildren().add(overlay);
         } catch (IOException e) {
@@ -2427,12 +2273,10 @@ public class GameBoardController {
     // 하단 안내 배너: Defense 사용 직후
     private void showDefenseActivatedNotice() {
         try {
-            FXMLLoader loader = new FXMLLoader(
-                    getClass().getResource("/fxml/effect/DefenseNotice.fxml")
-            );
-            StackPane overlay = loader.load();
+            SceneRouter.View<DefenseNoticeController> view = SceneRouter.overlay("/fxml/effect/DefenseNotice.fxml");
+            Parent overlay = view.getRoot();
 
-            DefenseNoticeController controller = loader.getController();
+            DefenseNoticeController controller = view.getController();
             controller.setTexts(
                     "Defense",
                     "Defense 방어카드를 사용했습니다.\n다음 상대 턴의 Remove/Swap 공격을 자동으로 방어합니다."
@@ -2488,6 +2332,11 @@ public class GameBoardController {
     public void bindNetwork(NetworkClient client) {
         this.networkClient = client;
         this.cheerSender = client::sendCheer;
+
+        // startGame() 에서 받은 카드는 바인딩 전이라 아직 알리지 못했음
+        if (receivedCards != null) {
+            client.sendCards(receivedCards);
+        }
     }
 
     // 2:2 팀전인지 여부
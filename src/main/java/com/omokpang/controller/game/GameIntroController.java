@@ -1,18 +1,24 @@
 /** GameIntroController : 게임 시작 전 선공/후공 안내 화면 컨트롤러.
  * 역할: MatchSession(players, myNickname)을 읽어 선공/후공 또는 N번 플레이어 문구를 출력.
  * 핵심기능: 5초 카운트다운 후 GameBoardView로 전환하고 GameBoardController에 NetworkClient를 바인딩.
+ * 자원: 카운트다운 동안 보드에서 쓸 돌/카드/아바타 이미지를 백그라운드에서 ImageCache 로 미리 읽어 두고,
+ *       GameBoardView 와 카드 효과 오버레이 FXML 도 SceneRouter 로 미리 읽어 둔다.
  * 네트워크: OmokClient로부터 들어오는 TURN·PLACE·카드 관련 메시지를 파싱해 GameBoardController로 전달.
  */
 
 package com.omokpang.controller.game;
 
+import com.omokpang.SceneRouter;
+import com.omokpang.domain.card.Card;
+import com.omokpang.net.BoardSnapshot;
+import com.omokpang.net.CommandTable;
+import com.omokpang.net.MessageArgs;
 import com.omokpang.net.OmokClient;
 import com.omokpang.session.MatchSession;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
@@ -20,9 +26,13 @@ import javafx.stage.Stage;
 import javafx.util.Duration;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
 
 public class GameIntroController {
 
+    private static final String GAME_BOARD_VIEW = "/fxml/game/GameBoardView.fxml";
+
     @FXML private Label firstPlayerLabel;   // "당신이 선공입니다!" / "당신이 후공입니다!"
     @FXML private Label countdownLabel;     // "5초 뒤에 시작합니다."
 
@@ -73,9 +83,20 @@ public class GameIntroController {
             firstPlayerLabel.setText("플레이어 정보를 불러올 수 없습니다.");
         }
 
+        preloadBoardAssets();
         startCountdown();
     }
 
+    // 카운트다운 5초 동안 보드 FXML 파싱·이미지 디코딩을 끝내 둔다 (전환 순간 / 게임 중 첫 착수 때 끊김 방지)
+    private void preloadBoardAssets() {
+        SceneRouter.prewarm(GAME_BOARD_VIEW);
+
+        String[] avatars = MatchSession.getPlayerAvatars();
+        Thread t = new Thread(() -> GameBoardController.preloadAssets(avatars), "omok-asset-preload");
+        t.setDaemon(true);
+        t.start();
+    }
+
     // 1초마다 감소하는 카운트다운 타이머
     private void startCountdown() {
         updateCountdownLabel();
@@ -104,12 +125,11 @@ public class GameIntroController {
     // GameBoardView.fxml 로 전환 + NetworkClient 바인딩 + 서버 메시지 처리 등록
     private void openGameBoard() {
         try {
-            FXMLLoader loader = new FXMLLoader(
-                    getClass().getResource("/fxml/game/GameBoardView.fxml")
-            );
-
-            Parent root = loader.load();
-            boardController = loader.getController();
+            // 미리 읽어 둔 화면이 있으면 그것을 씀 (한 판에 한 번만 쓰는 새 화면, startGame() 에서 세션 정보 반영)
+            SceneRouter.View<GameBoardController> view = SceneRouter.take(GAME_BOARD_VIEW);
+            Parent root = view.getRoot();
+            boardController = view.getController();
+            boardController.startGame();
 
             // 1:1 / 4인 모드 구분
             String[] players = MatchSession.getPlayers();
@@ -186,6 +206,20 @@ public class GameIntroController {
                 public void sendTurnEnd() {
                     client.send("TURN_END");
                 }
+                @Override
+                public void sendCards(List<Card> cards) {
+                    StringBuilder sb = new StringBuilder("CARDS");
+                    if (cards != null) {
+                        for (Card card : cards) {
+                            if (card != null) sb.append(' ').append(card.getName());
+                        }
+                    }
+                    client.send(sb.toString());
+                }
+                @Override
+                public void requestSnapshot() {
+                    client.send("SYNC");
+                }
             });
 
             // 서버 → GameBoard 처리
@@ -202,6 +236,73 @@ public class GameIntroController {
         }
     }
 
+    // 서버 메시지 파싱 커서 (FX 스레드에서만 사용)
+    private final MessageArgs serverArgs = new MessageArgs();
+
+    // 서버 메시지 첫 토큰 → GameBoardController 처리 (서버의 명령 테이블과 같은 구조)
+    private final CommandTable<Consumer<MessageArgs>> serverCommands =
+            new CommandTable<Consumer<MessageArgs>>()
+                    // 말풍선: CHEER <fromNick> <text...>
+                    .on("CHEER", args -> {
+                        String fromNick = args.nextToken();
+                        if (fromNick != null) {
+                            boardController.onCheerReceived(fromNick, args.rest());
+                        }
+                    })
+                    // 상대 돌 두기
+                    .on("PLACE", args -> {
+                        if (args.remainingTokens() >= 2)
+                            boardController.onPlaceFromOpponent(args.nextInt(), args.nextInt());
+                    })
+                    // 서버 턴 전달
+                    .on("TURN", args -> boardController.onTurnFromServer(args.rest().trim()))
+                    // 서버 턴 제한시간 초과: TIMEOUT <nickname>
+                    .on("TIMEOUT", args -> boardController.onTimeoutFromServer(args.rest().trim()))
+                    // 서버 승패 판정
+                    .on("GAME_OVER", args -> boardController.onGameOverFromServer(args.nextToken()))
+                    // 상대방 탈주
+                    .on("OPPONENT_LEFT", args -> boardController.onOpponentLeft())
+                    // SharedStone 카드
+                    .on("SHARED_STONE_START", args -> boardController.onSharedStoneStartFromOpponent())
+                    .on("SHARED_STONE_TARGET", args -> {
+                        if (args.remainingTokens() >= 2)
+                            boardController.onSharedStoneTargetFromOpponent(args.nextInt(), args.nextInt());
+                    })
+                    // Bomb! 카드
+                    .on("BOMB_START", args -> boardController.onBombStartFromOpponent())
+                    .on("BOMB_TARGET", args -> {
+                        if (args.remainingTokens() >= 2)
+                            boardController.onBombTargetFromOpponent(args.nextInt(), args.nextInt());
+                    })
+                    // Time Lock 카드
+                    .on("TIMELOCK_START", args -> boardController.onTimeLockStartFromOpponent())
+                    // Swap 카드
+                    .on("SWAP_START", args -> boardController.onSwapStartFromOpponent())
+                    .on("SWAP_TARGET", args -> {
+                        if (args.remainingTokens() >= 4)
+                            boardController.onSwapTargetFromOpponent(
+                                    args.nextInt(), args.nextInt(), args.nextInt(), args.nextInt());
+                    })
+                    // Double Move 카드
+                    .on("DOUBLE_MOVE_START", args -> boardController.onDoubleMoveStartFromOpponent())
+                    // Remove 카드
+                    .on("REMOVE_START", args -> boardController.onRemoveStartFromOpponent())
+                    .on("REMOVE_TARGET", args -> {
+                        if (args.remainingTokens() >= 2)
+                            boardController.onRemoveTargetFromOpponent(args.nextInt(), args.nextInt());
+                    })
+                    // Shield 방어
+                    .on("SHIELD_BLOCK_REMOVE", args -> boardController.onShieldBlockRemoveFromOpponent())
+                    .on("SHIELD_BLOCK_SWAP", args -> boardController.onShieldBlockSwapFromOpponent())
+                    // 전체 상태 재동기화: SNAPSHOT <gameId> <seq> <turn> <moves> <cells> <hands>
+                    .on(BoardSnapshot.COMMAND, args -> {
+                        try {
+                            boardController.onSnapshotFromServer(BoardSnapshot.parse(args));
+                        } catch (IllegalArgumentException e) {
+                            System.out.println("[GameIntro] bad SNAPSHOT: " + e.getMessage());
+                        }
+                    });
+
     // 서버 메시지를 GameBoardController 로 전달하는 핵심 처리
     private void handleServerMessage(String line) {
 
@@ -209,132 +310,10 @@ public class GameIntroController {
 
         System.out.println("[GameIntro] recv: " + line);
 
-        // 말풍선
-        if (line.startsWith("CHEER ")) {
-            String payload = line.substring("CHEER ".length());
-            String[] p = payload.split("\\s+", 2);
-
-            if (p.length >= 1) {
-                String fromNick = p[0];
-                String text = (p.length == 2) ? p[1] : "";
-                boardController.onCheerReceived(fromNick, text);
-            }
-            return;
-        }
-
-        // 상대 돌 두기
-        if (line.startsWith("PLACE ")) {
-            String[] p = line.split("\\s+");
-            if (p.length >= 3) {
-                int r = Integer.parseInt(p[1]);
-                int c = Integer.parseInt(p[2]);
-                boardController.onPlaceFromOpponent(r, c);
-            }
-            return;
-        }
-
-        // 서버 턴 전달
-        if (line.startsWith("TURN ")) {
-            boardController.onTurnFromServer(
-                    line.substring("TURN ".length()).trim()
-            );
-            return;
-        }
-
-        // 상대방 탈주
-        if (line.equals("OPPONENT_LEFT")) {
-            boardController.onOpponentLeft();
-            return;
-        }
-
-        // SharedStone 카드
-        if (line.equals("SHARED_STONE_START")) {
-            boardController.onSharedStoneStartFromOpponent();
-            return;
-        }
-
-        if (line.startsWith("SHARED_STONE_TARGET")) {
-            String[] p = line.split("\\s+");
-            if (p.length >= 3) {
-                boardController.onSharedStoneTargetFromOpponent(
-                        Integer.parseInt(p[1]),
-                        Integer.parseInt(p[2])
-                );
-            }
-            return;
-        }
-
-        // Bomb! 카드
-        if (line.equals("BOMB_START")) {
-            boardController.onBombStartFromOpponent();
-            return;
-        }
-
-        if (line.startsWith("BOMB_TARGET")) {
-            String[] p = line.split("\\s+");
-            if (p.length >= 3)
-                boardController.onBombTargetFromOpponent(
-                        Integer.parseInt(p[1]),
-                        Integer.parseInt(p[2])
-                );
-            return;
-        }
-
-        // Time Lock 카드
-        if (line.equals("TIMELOCK_START")) {
-            boardController.onTimeLockStartFromOpponent();
-            return;
-        }
-
-        // Swap 카드
-        if (line.equals("SWAP_START")) {
-            boardController.onSwapStartFromOpponent();
-            return;
-        }
-
-        if (line.startsWith("SWAP_TARGET")) {
-            String[] p = line.split("\\s+");
-            if (p.length >= 5)
-                boardController.onSwapTargetFromOpponent(
-                        Integer.parseInt(p[1]),
-                        Integer.parseInt(p[2]),
-                        Integer.parseInt(p[3]),
-                        Integer.parseInt(p[4])
-                );
-            return;
-        }
-
-        // Double Move 카드
-        if (line.equals("DOUBLE_MOVE_START")) {
-            boardController.onDoubleMoveStartFromOpponent();
-            return;
-        }
-
-        // Remove 카드
-        if (line.equals("REMOVE_START")) {
-            boardController.onRemoveStartFromOpponent();
-            return;
-        }
-
-        if (line.startsWith("REMOVE_TARGET")) {
-            String[] p = line.split("\\s+");
-            if (p.length >= 3)
-                boardController.onRemoveTargetFromOpponent(
-                        Integer.parseInt(p[1]),
-                        Integer.parseInt(p[2])
-                );
-            return;
-        }
-
-        // Shield 방어
-        if (line.equals("SHIELD_BLOCK_REMOVE")) {
-            boardController.onShieldBlockRemoveFromOpponent();
-            return;
-        }
-
-        if (line.equals("SHIELD_BLOCK_SWAP")) {
-            boardController.onShieldBlockSwapFromOpponent();
-            return;
+        MessageArgs args = serverArgs.reset(line);
+        Consumer<MessageArgs> handler = serverCommands.find(line, args.commandEnd());
+        if (handler != null) {
+            handler.accept(args);
         }
     }
 }
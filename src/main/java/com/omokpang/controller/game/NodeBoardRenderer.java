@@ -0,0 +1,168 @@
+/** NodeBoardRenderer : 노드 기반 보드 그리기 (기존 방식).
+ * 역할: 격자 선은 Line, 돌은 칸마다 ImageView, Bomb 하이라이트는 Rectangle 로 scene graph 에 올린다.
+ * 비교용: OMOK_BOARD_RENDERER=node 로 켜고 프레임 통계 오버레이(OMOK_FRAME_STATS)로 CanvasBoardRenderer 와 비교.
+ *        돌이 늘수록 노드 수(= 레이아웃·CSS 처리 대상)가 같이 늘어난다.
+ */
+
+package com.omokpang.controller.game;
+
+import javafx.animation.PauseTransition;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.Rectangle;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class NodeBoardRenderer implements BoardRenderer {
+
+    private final Pane boardRoot;
+    private final Pane highlightPane;
+    private final StackPane effectLayer;
+
+    private final int n;
+    private final double cell;
+    private final double size;
+    private final double stoneSize;
+
+    // 돌 이미지 뷰 저장 (SharedStone 등으로 변경하기 위해)
+    private final ImageView[][] stoneViews;
+
+    // 현재 표시 중인 하이라이트 Rectangle 들
+    private final List<Rectangle> highlights = new ArrayList<>();
+
+    NodeBoardRenderer(Pane boardRoot, Pane highlightPane, StackPane effectLayer,
+                      int n, double cell, double stoneSize) {
+        this.boardRoot = boardRoot;
+        this.highlightPane = highlightPane;
+        this.effectLayer = effectLayer;
+        this.n = n;
+        this.cell = cell;
+        this.size = cell * (n - 1);
+        this.stoneSize = stoneSize;
+        this.stoneViews = new ImageView[n][n];
+    }
+
+    @Override
+    public void drawGrid() {
+        boardRoot.getChildren().clear();
+
+        for (int i = 0; i < n; i++) {
+            double p = i * cell;
+            Line h = new Line(0, p, size, p);
+            Line v = new Line(p, 0, p, size);
+
+            h.setStroke(Color.color(1, 1, 1, 0.25));
+            v.setStroke(Color.color(1, 1, 1, 0.25));
+            boardRoot.getChildren().addAll(h, v);
+        }
+
+        Line b1 = new Line(0, 0, size, 0);
+        Line b2 = new Line(size, 0, size, size);
+        Line b3 = new Line(size, size, 0, size);
+        Line b4 = new Line(0, size, 0, 0);
+        for (Line b : new Line[]{b1, b2, b3, b4}) {
+            b.setStroke(Color.color(1, 1, 1, 0.6));
+            b.setStrokeWidth(2);
+        }
+        boardRoot.getChildren().addAll(b1, b2, b3, b4);
+    }
+
+    @Override
+    public void setStone(int r, int c, Image img) {
+        ImageView stone = stoneViews[r][c];
+        if (stone != null) {
+            stone.setImage(img);
+            return;
+        }
+
+        stone = new ImageView(img);
+        stone.setFitWidth(stoneSize);
+        stone.setFitHeight(stoneSize);
+        stone.setPreserveRatio(true);
+
+        stone.setLayoutX(c * cell - stoneSize / 2);
+        stone.setLayoutY(r * cell - stoneSize / 2);
+
+        boardRoot.getChildren().add(stone);
+        stoneViews[r][c] = stone;
+    }
+
+    @Override
+    public void removeStone(int r, int c) {
+        ImageView stone = stoneViews[r][c];
+        if (stone != null) {
+            boardRoot.getChildren().remove(stone);
+        }
+        stoneViews[r][c] = null;
+    }
+
+    @Override
+    public boolean hasStone(int r, int c) {
+        return stoneViews[r][c] != null;
+    }
+
+    @Override
+    public void showHighlight(int centerR, int centerC) {
+        if (highlightPane == null) return;
+
+        clearHighlight();
+
+        for (int dr = -1; dr <= 1; dr++) {
+            for (int dc = -1; dc <= 1; dc++) {
+                int r = centerR + dr;
+                int c = centerC + dc;
+                if (r < 0 || r >= n || c < 0 || c >= n) continue;
+
+                Rectangle rect = new Rectangle(cell, cell);
+                rect.setStroke(Color.RED);
+                rect.setStrokeWidth(2);
+                rect.setFill(Color.color(1, 0, 0, 0.15)); // 반투명 붉은색
+                rect.setLayoutX(c * cell - cell / 2);
+                rect.setLayoutY(r * cell - cell / 2);
+
+                highlights.add(rect);
+                highlightPane.getChildren().add(rect);
+            }
+        }
+    }
+
+    @Override
+    public void clearHighlight() {
+        if (highlightPane == null) return;
+        for (Rectangle rect : highlights) {
+            highlightPane.getChildren().remove(rect);
+        }
+        highlights.clear();
+    }
+
+    @Override
+    public void showExplosion(int r, int c, Image img) {
+        ImageView iv = new ImageView(img);
+        iv.setFitWidth(80);
+        iv.setFitHeight(80);
+        iv.setPreserveRatio(true);
+
+        iv.setLayoutX(c * cell - 24);
+        iv.setLayoutY(r * cell - 24);
+
+        effectLayer.getChildren().add(iv);
+
+        // 2초 뒤 제거
+        PauseTransition pt = new PauseTransition(Duration.seconds(2));
+        pt.setOnFinished(e -> effectLayer.getChildren().remove(iv));
+        pt.play();
+    }
+
+    @Override
+    public String stats() {
+        int nodes = boardRoot.getChildren().size()
+                + (highlightPane != null ? highlightPane.getChildren().size() : 0);
+        return "node renderer, board nodes=" + nodes;
+    }
+}
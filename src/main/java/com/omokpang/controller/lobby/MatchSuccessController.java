@@ -1,10 +1,12 @@
 /** MatchSuccessController : 매칭 성공 후 결과 표시 화면.
  * 역할: 매칭된 플레이어 목록·아바타 표시 / 팀전(2v2) 및 개인전(1v1/4FFA) 자동 세팅.
  * 핵심기능: MatchSession에 팀/아바타 저장 / 5초 카운트다운 후 카드 선택 화면 이동.
+ *          카운트다운 동안 CardSelectView 를 SceneRouter 로 미리 읽어 둔다.
  */
 
 package com.omokpang.controller.lobby;
 
+import com.omokpang.ImageCache;
 import com.omokpang.SceneRouter;
 import com.omokpang.session.MatchSession;
 import javafx.animation.KeyFrame;
@@ -12,7 +14,6 @@ import javafx.animation.Timeline;
 import javafx.fxml.FXML;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
@@ -26,6 +27,8 @@ import java.util.Random;
 
 public class MatchSuccessController {
 
+    private static final String CARD_SELECT_VIEW = "/fxml/cards/CardSelectView.fxml";
+
     @FXML
     private HBox playerBox;
 
@@ -132,9 +135,7 @@ public class MatchSuccessController {
         VBox v = new VBox(10);
         v.setAlignment(Pos.CENTER);
 
-        ImageView avatar = new ImageView(
-                new Image(getClass().getResource(imgPath).toExternalForm())
-        );
+        ImageView avatar = new ImageView(ImageCache.get(imgPath));
         avatar.setFitWidth(200);
         avatar.setFitHeight(200);
 
@@ -150,11 +151,13 @@ public class MatchSuccessController {
         remainSec = 5;
         updateCountdownLabel();
 
+        SceneRouter.prewarm(CARD_SELECT_VIEW);
+
         countdown = new Timeline(new KeyFrame(Duration.seconds(1), e -> {
             remainSec--;
             if (remainSec <= 0) {
                 countdown.stop();
-                SceneRouter.go("/fxml/cards/CardSelectView.fxml");
+                SceneRouter.go(CARD_SELECT_VIEW);
             } else {
                 updateCountdownLabel();
             }
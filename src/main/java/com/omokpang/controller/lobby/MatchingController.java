@@ -6,6 +6,7 @@
 
 package com.omokpang.controller.lobby;
 
+import com.omokpang.ImageCache;
 import com.omokpang.SceneRouter;
 import com.omokpang.domain.user.User;
 import com.omokpang.net.OmokClient;
@@ -33,17 +34,11 @@ public class MatchingController {
     @FXML
     public void initialize() {
 
-        Image avatar = new Image(
-                getClass().getResource("/images/user/user3.png").toExternalForm()
-        );
+        Image avatar = ImageCache.get("/images/user/user3.png");
         myAvatar.setImage(avatar);
 
-        Image normal = new Image(
-                getClass().getResource("/images/button/match_btn.png").toExternalForm()
-        );
-        Image hover = new Image(
-                getClass().getResource("/images/button/match_btn.png").toExternalForm()
-        );
+        Image normal = ImageCache.get("/images/button/match_btn.png");
+        Image hover = ImageCache.get("/images/button/match_btn.png");
 
         cancelButtonImage.setImage(normal);
         cancelButtonImage.setOnMouseEntered(e -> cancelButtonImage.setImage(hover));
@@ -82,8 +77,8 @@ public class MatchingController {
         System.out.println("[UI] MatchingController recv: " + msg);
 
         if (msg.startsWith("MATCH ")) {
-            // 예) MATCH 1v1 채채채,채빵
-            //    MATCH 1v1v1v1 A,B,C,D
+            // 예) MATCH 1v1 채채채,채빵 lq3x9k-1
+            //    MATCH 1v1v1v1 A,B,C,D lq3x9k-2   (마지막 토큰은 결과 정산용 게임 ID)
             String[] parts = msg.split("\\s+");
             if (parts.length >= 3) {
                 String mode = parts[1];        // "1v1" 또는 "1v1v1v1"
@@ -93,6 +88,7 @@ public class MatchingController {
 
                 MatchSession.setMode(mode);
                 MatchSession.setPlayers(players);
+                MatchSession.setGameId(parts.length >= 4 ? parts[3] : null);
             }
 
             SceneRouter.go("/fxml/lobby/MatchSuccessView.fxml");
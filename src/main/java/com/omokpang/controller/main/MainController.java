@@ -1,13 +1,16 @@
 /** MainController : 홈 메뉴 화면 컨트롤러.
  * 역할: 개인전/팀전 모드 선택, 2인/4인 인원 선택, 규칙/랭크/게임시작 제어.
  * 핵심기능: 선택 상태 유지 / MatchSession에 모드 저장 후 매칭 화면 이동.
- * 상단에는 로그인 유저 정보(닉네임‧포인트‧승수) 표시.
+ * 상단에는 로그인 유저 정보(닉네임‧포인트‧승수‧전체 순위) 표시.
  */
 
 package com.omokpang.controller.main;
 
+import com.omokpang.ImageCache;
 import com.omokpang.SceneRouter;
 import com.omokpang.domain.user.User;
+import com.omokpang.net.MessageArgs;
+import com.omokpang.net.OmokClient;
 import com.omokpang.session.AppSession;
 import com.omokpang.session.MatchSession;
 import javafx.fxml.FXML;
@@ -15,8 +18,6 @@ import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
-import java.net.URL;
-
 public class MainController {
 
     // 상단 사용자 정보
@@ -24,6 +25,7 @@ public class MainController {
     @FXML private Label labelUsername;
     @FXML private Label labelPoint;
     @FXML private Label labelWin;
+    @FXML private Label labelRank;
 
     // 선택 이미지들
     @FXML private ImageView imgSolo;
@@ -56,7 +58,28 @@ public class MainController {
             labelUsername.setText(user.getNickname());        // 닉네임
             labelPoint.setText(String.valueOf(user.getPoints())); // 포인트
             labelWin.setText(String.valueOf(user.getWins()));     // 승리 수
+            showRank(user.getPoints());                            // 전체 순위
+        }
+    }
 
+    /** 전체 순위는 서버(RankIndex)에 물어본다: RANK <points> → RANK <points> <rank> <total> */
+    private void showRank(int points) {
+        labelRank.setText("-");
+        OmokClient client = OmokClient.getInstance();
+        client.setMessageHandler(this::handleServerMessage);
+        client.send("RANK " + points);
+    }
+
+    private void handleServerMessage(String line) {
+        if (!line.startsWith("RANK ")) return;
+        try {
+            MessageArgs args = new MessageArgs().reset(line);
+            args.nextInt(); // 물어본 포인트
+            int rank = args.nextInt();
+            // 서버 인덱스가 아직 준비 중이면 -1
+            if (rank > 0) labelRank.setText(rank + "위");
+        } catch (RuntimeException e) {
+            System.out.println("[Main] bad RANK: " + line);
         }
     }
 
@@ -172,11 +195,6 @@ public class MainController {
     /* ==================== 유틸 ==================== */
 
     private Image loadImg(String path) {
-        URL url = getClass().getResource(path);
-        if (url == null) {
-            System.out.println("[WARN] 이미지 리소스를 찾을 수 없음: " + path);
-            return null;
-        }
-        return new Image(url.toExternalForm());
+        return ImageCache.get(path);
     }
-}
\ No newline at end of file
+}
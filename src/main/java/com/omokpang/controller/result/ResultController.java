@@ -1,14 +1,14 @@
 /** ResultController : 게임 종료 후 결과·순위 표시 컨트롤러.
- * 역할: 승패 배너·점수·랭킹 UI 출력 / DB 업데이트(1등 클라이언트만 수행).
+ * 역할: 승패 배너·점수·랭킹 UI 출력. (DB 정산은 서버에서 수행)
  * 핵심기능: 플레이어 리스트 표시 / AppSession 유저 정보 갱신 / 다시하기·메인 이동 처리.
  */
 
 package com.omokpang.controller.result;
 
+import com.omokpang.ImageCache;
 import com.omokpang.SceneRouter;
 import com.omokpang.domain.user.User;
 import com.omokpang.session.AppSession;
-import com.omokpang.service.ResultService;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
@@ -22,8 +22,6 @@ import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
-import java.net.URL;
-
 public class ResultController {
 
     @FXML
@@ -49,17 +47,9 @@ public class ResultController {
     private Image rank1Img, rank2Img, rank3Img, rank4Img;
     private Image starImg;
 
-    // 서비스 (싱글톤)
-    private final ResultService resultService = ResultService.getInstance();
-
     /* ---------- 공통 이미지 로더 ---------- */
     private Image loadImage(String path) {
-        URL url = getClass().getResource(path);
-        if (url == null) {
-            System.out.println("[ResultController] WARN: image not found: " + path);
-            return null;
-        }
-        return new Image(url.toExternalForm());
+        return ImageCache.get(path);
     }
 
     @FXML
@@ -109,30 +99,9 @@ public class ResultController {
         loadRanking(players);
 
         // ==============================
-        // 1) 현재 로그인 유저 정보
-        // ==============================
-        User me = AppSession.getCurrentUser();
-        if (me == null || players == null || players.length == 0) {
-            return;
-        }
-
-        String myNick        = me.getNickname();
-        String firstRankNick = players[0][1];   // 1등 닉네임
-
-        // ==============================
-        // 2) "1등인 클라이언트"만 DB 업데이트
-        //    → 한 판당 딱 1번만 UPDATE 실행
-        // ==============================
-        if (myNick.equals(firstRankNick)) {
-            System.out.println("[ResultController] I am rank1, updating DB...");
-            resultService.applyGameResult(players);  // 두 사람 모두 DB 반영
-        } else {
-            System.out.println("[ResultController] Not rank1, skip DB update.");
-        }
-
-        // ==============================
-        // 3) 각 클라이언트의 AppSession 은
-        //    자기 닉네임에 해당하는 값만 메모리에서 갱신
+        // DB 정산은 서버가 GAME_OVER 때 직접 한다 (ResultSettler).
+        // 여기서는 이 클라이언트의 AppSession 만
+        // 자기 닉네임에 해당하는 값으로 메모리에서 갱신
         // ==============================
         applyResultToSession(players);
     }
@@ -251,4 +220,4 @@ public class ResultController {
             break;
         }
     }
-}
\ No newline at end of file
+}
@@ -1,36 +1,98 @@
 /** RankingController : 전체 사용자 랭킹 화면 컨트롤러.
- * 역할: DB에서 포인트 순 랭킹 조회 후 UI 리스트로 렌더링.
+ * 역할: 포인트 순 랭킹을 페이지 단위로 조회해 UI 리스트로 렌더링.
  * MainView → Ranking 화면 전환 시 동작.
- * UserRepository 사용.
+ * LeaderboardService 사용: 첫 페이지만 먼저 읽고, 리스트 끝 근처 셀이 그려지면 다음 페이지를 이어서 읽는다.
+ *                         DB 조회는 백그라운드 스레드에서, 화면 반영은 FX 스레드에서.
+ * 렌더링: ListView 가 화면에 보이는 만큼의 셀(RankingCell)만 만들어 재사용한다.
+ *        별 이미지·줄 스타일은 한 번만 만들어 모든 셀이 공유.
  */
 
 package com.omokpang.controller.splash;
 
-import com.omokpang.domain.user.User;
-import com.omokpang.repository.UserRepository;
+import com.omokpang.ImageCache;
+import com.omokpang.domain.user.LeaderboardEntry;
+import com.omokpang.service.LeaderboardService;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
-import javafx.scene.layout.VBox;
 
 import java.util.List;
 
 public class RankingController {
 
+    // 끝에서 이 줄 수 안쪽의 셀이 그려지면 다음 페이지 요청
+    private static final int LOAD_MORE_MARGIN = 10;
+
+    // 줄 높이 고정 (행 15px 패딩 + 간격 포함) → ListView 가 셀 크기를 재계산하지 않음
+    private static final double CELL_HEIGHT = 75;
+
+    // ---------- 줄 스타일 (한 번만 만들어 공유) ----------
+    private static final String ROW_STYLE_BASE =
+            "-fx-background-radius: 16;" +
+                    "-fx-border-radius: 16;";
+
+    private static final String ROW_STYLE_DEFAULT = ROW_STYLE_BASE +
+            "-fx-background-color: linear-gradient(to right, #e6e6e6, #f4f4f4);" +
+            "-fx-border-color: rgba(255,255,255,0.3);" +
+            "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.15), 8, 0.1, 0, 1);";
+
+    // 1, 2, 3위는 살짝 색 넣기
+    private static final String[] ROW_STYLE_TOP3 = {
+            ROW_STYLE_BASE +
+                    "-fx-background-color: linear-gradient(to right, rgba(255,215,0,0.25), rgba(255,245,157,0.55));" +
+                    "-fx-border-color: rgba(255,255,255,0.6);" +
+                    "-fx-effect: dropshadow(gaussian, rgba(255,215,0,0.35), 12, 0.3, 0, 2);",
+            ROW_STYLE_BASE +
+                    "-fx-background-color: linear-gradient(to right, rgba(192,192,192,0.25), rgba(230,230,230,0.6));" +
+                    "-fx-border-color: rgba(255,255,255,0.6);" +
+                    "-fx-effect: dropshadow(gaussian, rgba(192,192,192,0.35), 12, 0.3, 0, 2);",
+            ROW_STYLE_BASE +
+                    "-fx-background-color: linear-gradient(to right, rgba(205,127,50,0.25), rgba(239,188,125,0.55));" +
+                    "-fx-border-color: rgba(255,255,255,0.6);" +
+                    "-fx-effect: dropshadow(gaussian, rgba(205,127,50,0.35), 12, 0.3, 0, 2);"
+    };
+
+    private static final String CELL_STYLE =
+            "-fx-background-color: transparent; -fx-padding: 7 10 8 10;";
+    private static final String BOLD_TEXT_STYLE = "-fx-font-size: 22px; -fx-font-weight: bold;";
+    private static final String NAME_TEXT_STYLE = "-fx-font-size: 22px;";
+    private static final String STAR_TEXT_STYLE =
+            "-fx-font-size: 22px; -fx-text-fill: #FFD700; -fx-font-weight: bold;";
+
     @FXML
-    private VBox rankingList;
+    private ListView<LeaderboardEntry> rankingList;
+
+    private final LeaderboardService leaderboardService = LeaderboardService.getInstance();
+    private final ObservableList<LeaderboardEntry> items = FXCollections.observableArrayList();
 
-    private final UserRepository userRepository = new UserRepository();
+    // 모든 셀이 공유하는 별 이미지 (없으면 텍스트 별)
+    private Image starImg;
+
+    private boolean loading;
+    private boolean hasMore = true;
 
     @FXML
     public void initialize() {
-        loadRanking();
+        starImg = ImageCache.get("/images/result/star.png");
+
+        rankingList.setItems(items);
+        rankingList.setFixedCellSize(CELL_HEIGHT);
+        rankingList.setFocusTraversable(false);
+        rankingList.setCellFactory(list -> new RankingCell());
+
+        loadNextPage();
     }
 
     @FXML
@@ -38,103 +100,97 @@ public class RankingController {
         com.omokpang.SceneRouter.go("/fxml/main/MainView.fxml");
     }
 
-    private void loadRanking() {
-        rankingList.getChildren().clear();
-
-        List<User> users = userRepository.findAllOrderByPoints();
-
-        int rank = 1;
-        for (User u : users) {
-
-            int currentRank = rank++;
-
-            String baseRowStyle =
-                    "-fx-background-color: linear-gradient(to right, #e6e6e6, #f4f4f4);" +
-                            "-fx-background-radius: 16;" +
-                            "-fx-border-color: rgba(255,255,255,0.3);" +
-                            "-fx-border-radius: 16;" +
-                            "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.15), 8, 0.1, 0, 1);";
-
-            // 1, 2, 3위는 살짝 색 넣기
-            if (currentRank == 1) {
-                baseRowStyle =
-                        "-fx-background-color: linear-gradient(to right, rgba(255,215,0,0.25), rgba(255,245,157,0.55));" +
-                                "-fx-background-radius: 16;" +
-                                "-fx-border-color: rgba(255,255,255,0.6);" +
-                                "-fx-border-radius: 16;" +
-                                "-fx-effect: dropshadow(gaussian, rgba(255,215,0,0.35), 12, 0.3, 0, 2);";
-            } else if (currentRank == 2) {
-                baseRowStyle =
-                        "-fx-background-color: linear-gradient(to right, rgba(192,192,192,0.25), rgba(230,230,230,0.6));" +
-                                "-fx-background-radius: 16;" +
-                                "-fx-border-color: rgba(255,255,255,0.6);" +
-                                "-fx-border-radius: 16;" +
-                                "-fx-effect: dropshadow(gaussian, rgba(192,192,192,0.35), 12, 0.3, 0, 2);";
-            } else if (currentRank == 3) {
-                baseRowStyle =
-                        "-fx-background-color: linear-gradient(to right, rgba(205,127,50,0.25), rgba(239,188,125,0.55));" +
-                                "-fx-background-radius: 16;" +
-                                "-fx-border-color: rgba(255,255,255,0.6);" +
-                                "-fx-border-radius: 16;" +
-                                "-fx-effect: dropshadow(gaussian, rgba(205,127,50,0.35), 12, 0.3, 0, 2);";
+    // FX 스레드에서 호출: 다음 페이지를 백그라운드로 읽어 온다 (동시에 한 번만)
+    private void loadNextPage() {
+        if (loading || !hasMore) return;
+        loading = true;
+
+        LeaderboardEntry after = items.isEmpty() ? null : items.get(items.size() - 1);
+        int size = LeaderboardService.DEFAULT_PAGE_SIZE;
+
+        Thread t = new Thread(() -> {
+            try {
+                List<LeaderboardEntry> page = leaderboardService.getPageAfter(after, size);
+                Platform.runLater(() -> appendPage(page, size));
+            } catch (Exception e) {
+                // 실패는 끝이 아니다: hasMore 는 그대로 두고 loading 만 풀어서 다음 스크롤 때 다시 시도
+                System.out.println("[Ranking] WARN: page load failed: " + e);
+                Platform.runLater(() -> loading = false);
             }
+        }, "omok-ranking-loader");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    private void appendPage(List<LeaderboardEntry> page, int requested) {
+        loading = false;
+        if (page.size() < requested) hasMore = false;
+        items.addAll(page);
+    }
+
+    // ====================== 셀 ======================
+
+    /** 랭킹 한 줄. 노드는 셀마다 한 번만 만들고 updateItem 에서 내용만 바꾼다. */
+    private class RankingCell extends ListCell<LeaderboardEntry> {
+
+        private final HBox row = new HBox(20);
+        private final Label lblRank = new Label();
+        private final Label lblName = new Label();
+        private final Label lblPoint = new Label();
+
+        RankingCell() {
+            setStyle(CELL_STYLE);
 
-            HBox row = new HBox(20);
             row.setAlignment(Pos.CENTER_LEFT);
             row.setPrefWidth(550);
             row.setPadding(new Insets(15));
 
-            final String rowBaseStyle = baseRowStyle;
-            row.setStyle(rowBaseStyle);
-
-            Label lblRank = new Label(String.valueOf(currentRank));
             lblRank.setMinWidth(35);
-            lblRank.setStyle(
-                    "-fx-font-size: 22px;" +
-                            "-fx-font-weight: bold;"
-            );
-
-            // 닉네임
-            Label lblName = new Label(u.getNickname());
-            lblName.setStyle(
-                    "-fx-font-size: 22px;"
-            );
+            lblRank.setStyle(BOLD_TEXT_STYLE);
+            lblName.setStyle(NAME_TEXT_STYLE);
+            lblPoint.setStyle(BOLD_TEXT_STYLE);
 
             Region spacer = new Region();
             HBox.setHgrow(spacer, Priority.ALWAYS);
 
-            Label lblPoint = new Label(String.valueOf(u.getPoints()));
-            lblPoint.setStyle(
-                    "-fx-font-size: 22px;" +
-                            "-fx-font-weight: bold;"
-            );
+            row.getChildren().addAll(lblRank, lblName, spacer, createStar(), lblPoint);
+        }
 
-            ImageView star = null;
-            try {
-                Image starImg = new Image(
-                        getClass().getResource("/images/result/star.png").toExternalForm()
-                );
-                star = new ImageView(starImg);
-                star.setFitWidth(26);
-                star.setFitHeight(26);
-                star.setPreserveRatio(true);
-            } catch (Exception e) {
+        private Node createStar() {
+            if (starImg == null) {
                 // 이미지 없으면 fallback으로 텍스트 별 사용
                 Label starLabel = new Label("★");
-                starLabel.setStyle(
-                        "-fx-font-size: 22px;" +
-                                "-fx-text-fill: #FFD700;" +
-                                "-fx-font-weight: bold;"
-                );
-                row.getChildren().addAll(lblRank, lblName, spacer, starLabel, lblPoint);
-                rankingList.getChildren().add(row);
-                continue;
+                starLabel.setStyle(STAR_TEXT_STYLE);
+                return starLabel;
             }
-
+            ImageView star = new ImageView(starImg);
+            star.setFitWidth(26);
+            star.setFitHeight(26);
+            star.setPreserveRatio(true);
             HBox.setMargin(star, new Insets(0, 4, 0, 0));
-            row.getChildren().addAll(lblRank, lblName, spacer, star, lblPoint);
+            return star;
+        }
 
-            rankingList.getChildren().add(row);
+        @Override
+        protected void updateItem(LeaderboardEntry u, boolean empty) {
+            super.updateItem(u, empty);
+
+            if (empty || u == null) {
+                setGraphic(null);
+                return;
+            }
+
+            int rank = u.getRank();
+            lblRank.setText(String.valueOf(rank));
+            lblName.setText(u.getNickname());
+            lblPoint.setText(String.valueOf(u.getPoints()));
+            row.setStyle(rank >= 1 && rank <= 3 ? ROW_STYLE_TOP3[rank - 1] : ROW_STYLE_DEFAULT);
+            setGraphic(row);
+
+            // 리스트 끝 근처가 보이기 시작하면 다음 페이지
+            if (getIndex() >= items.size() - LOAD_MORE_MARGIN) {
+                loadNextPage();
+            }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,174 @@
+package com.omokpang.domain.board;
+
+/** Bitboard
+ * 역할: 15x15 오목판의 칸 집합을 비트로 표현하는 마스크 (UI 의존성 없음).
+ * 핵심기능: 칸 on/off, 마스크 간 OR / AND-NOT, shift-AND 로 5목 검출, 3x3 영역 마스크.
+ * 배치: 한 줄을 16비트로 잡는다 (15칸 + 항상 0 인 여분 1칸, 총 240비트 = long 4개).
+ *      여분 칸 덕분에 가로/대각선 shift 시 다음 줄로 넘어가는 비트가 자동으로 걸러진다.
+ */
+public final class Bitboard {
+
+    public static final int SIZE = 15;
+
+    // 한 줄 비트 폭 (15칸 + 여분 1칸)
+    private static final int STRIDE = 16;
+    private static final int WORDS = 4;
+
+    // 5목 검사용 shift 간격: 가로(→), 세로(↓), ↘, ↙
+    private static final int LINE_SHIFT_H = 1;
+    private static final int LINE_SHIFT_V = STRIDE;
+    private static final int LINE_SHIFT_DOWN_RIGHT = STRIDE + 1;
+    private static final int LINE_SHIFT_DOWN_LEFT = STRIDE - 1;
+
+    // (r,c) 중심 3x3 영역 마스크 (Bomb)
+    private static final Bitboard[] AREAS = new Bitboard[SIZE * STRIDE];
+
+    static {
+        for (int r = 0; r < SIZE; r++) {
+            for (int c = 0; c < SIZE; c++) {
+                Bitboard area = new Bitboard();
+                for (int ar = r - 1; ar <= r + 1; ar++) {
+                    for (int ac = c - 1; ac <= c + 1; ac++) {
+                        if (isInside(ar, ac)) area.set(ar, ac);
+                    }
+                }
+                AREAS[index(r, c)] = area;
+            }
+        }
+    }
+
+    private final long[] words = new long[WORDS];
+
+    public Bitboard() {}
+
+    public Bitboard(Bitboard other) {
+        copyFrom(other);
+    }
+
+    public static boolean isInside(int r, int c) {
+        return r >= 0 && r < SIZE && c >= 0 && c < SIZE;
+    }
+
+    private static int index(int r, int c) {
+        return r * STRIDE + c;
+    }
+
+    // ====================== 칸 단위 ======================
+
+    public boolean get(int r, int c) {
+        int i = index(r, c);
+        return (words[i >>> 6] & (1L << i)) != 0;
+    }
+
+    public void set(int r, int c) {
+        int i = index(r, c);
+        words[i >>> 6] |= 1L << i;
+    }
+
+    public void clear(int r, int c) {
+        int i = index(r, c);
+        words[i >>> 6] &= ~(1L << i);
+    }
+
+    public void set(int r, int c, boolean on) {
+        if (on) set(r, c);
+        else clear(r, c);
+    }
+
+    // ====================== 마스크 단위 ======================
+
+    public void copyFrom(Bitboard other) {
+        System.arraycopy(other.words, 0, words, 0, WORDS);
+    }
+
+    public void clearAll() {
+        for (int k = 0; k < WORDS; k++) words[k] = 0;
+    }
+
+    public void or(Bitboard other) {
+        for (int k = 0; k < WORDS; k++) words[k] |= other.words[k];
+    }
+
+    public void and(Bitboard other) {
+        for (int k = 0; k < WORDS; k++) words[k] &= other.words[k];
+    }
+
+    public void andNot(Bitboard other) {
+        for (int k = 0; k < WORDS; k++) words[k] &= ~other.words[k];
+    }
+
+    public boolean isEmpty() {
+        for (int k = 0; k < WORDS; k++) {
+            if (words[k] != 0) return false;
+        }
+        return true;
+    }
+
+    public int count() {
+        int n = 0;
+        for (int k = 0; k < WORDS; k++) n += Long.bitCount(words[k]);
+        return n;
+    }
+
+    /** (r,c) 를 중심으로 하는 3x3 영역 (판 밖은 제외). 공유 객체이므로 수정하지 말 것 */
+    public static Bitboard area3x3(int r, int c) {
+        return AREAS[index(r, c)];
+    }
+
+    /** 켜진 칸마다 호출 (행 우선 순서) */
+    public void forEach(CellVisitor visitor) {
+        for (int k = 0; k < WORDS; k++) {
+            long w = words[k];
+            while (w != 0) {
+                int i = (k << 6) + Long.numberOfTrailingZeros(w);
+                visitor.visit(i / STRIDE, i % STRIDE);
+                w &= w - 1;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface CellVisitor {
+        void visit(int r, int c);
+    }
+
+    // ====================== 5목 ======================
+
+    /**
+     * 가로/세로/대각선 어느 방향이든 5칸 이상 연속으로 켜져 있는지.
+     *  - 방향마다 m & (m>>s) → 2연속, 다시 & (>>2s) → 4연속, 4연속 & (>>s) → 5연속
+     *  - 판 전체를 long 4개 단위로 한 번에 보므로 돌 개수와 무관. 지역 변수만 쓰고 할당하지 않는다
+     */
+    public boolean hasFive() {
+        long a0 = words[0], a1 = words[1], a2 = words[2], a3 = words[3];
+        return hasFive(a0, a1, a2, a3, LINE_SHIFT_H)
+                || hasFive(a0, a1, a2, a3, LINE_SHIFT_V)
+                || hasFive(a0, a1, a2, a3, LINE_SHIFT_DOWN_RIGHT)
+                || hasFive(a0, a1, a2, a3, LINE_SHIFT_DOWN_LEFT);
+    }
+
+    // 한 방향(shift 간격 s) 검사. s, 2s 모두 64 미만이라 이웃 word 하나만 넘어온다
+    private static boolean hasFive(long a0, long a1, long a2, long a3, int s) {
+        long t0 = a0 & shr(a0, a1, s);
+        long t1 = a1 & shr(a1, a2, s);
+        long t2 = a2 & shr(a2, a3, s);
+        long t3 = a3 & (a3 >>> s);                  // 2연속
+
+        int s2 = 2 * s;
+        t0 &= shr(t0, t1, s2);
+        t1 &= shr(t1, t2, s2);
+        t2 &= shr(t2, t3, s2);
+        t3 &= t3 >>> s2;                            // 4연속
+        if ((t0 | t1 | t2 | t3) == 0) return false;
+
+        return (t0 & shr(t0, t1, s)) != 0           // 5연속
+                || (t1 & shr(t1, t2, s)) != 0
+                || (t2 & shr(t2, t3, s)) != 0
+                || (t3 & (t3 >>> s)) != 0;
+    }
+
+    // (hi:lo) 128비트를 n (1~63) 만큼 오른쪽으로 민 뒤 아래 64비트
+    private static long shr(long lo, long hi, int n) {
+        return (lo >>> n) | (hi << (64 - n));
+    }
+}
@@ -0,0 +1,157 @@
+package com.omokpang.domain.board;
+
+/** OmokBoard
+ * 역할: 카드 오목 한 판의 보드 상태 (클라이언트 GameBoardController / 서버 RoomBoard 공용, UI 의존성 없음).
+ * 핵심기능: 플레이어별 돌 마스크 + 공용돌 마스크 + (2v2) 팀 합집합 마스크로 상태를 보관하고,
+ *          Bitboard.hasFive() 로 5목을 판정한다. Bomb 의 3x3 제거도 마스크 연산 한 번.
+ * 규칙: sign = 플레이어 인덱스 + 1 (0 = 빈칸). 공용돌은 모든 플레이어(팀)의 돌로 인정.
+ */
+public class OmokBoard {
+
+    public static final int N = Bitboard.SIZE;
+
+    /** 승자 없음 */
+    public static final int NO_WINNER = -1;
+
+    // 플레이어 인덱스별 돌 (공용돌로 바뀐 돌도 원래 주인 마스크에 남는다)
+    private final Bitboard[] stones;
+
+    // 공용돌
+    private final Bitboard shared = new Bitboard();
+
+    // 플레이어 인덱스 → 팀 번호 (개인전이면 null)
+    private int[] team;
+
+    // 판정용 임시 마스크 (팀 합집합 + 공용돌)
+    private final Bitboard scratch = new Bitboard();
+
+    public OmokBoard(int playerCount) {
+        stones = new Bitboard[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            stones[i] = new Bitboard();
+        }
+    }
+
+    /** 팀 정보 설정 (길이 = 플레이어 수, 값 = 0/1). null 이면 개인전 */
+    public void setTeams(int[] team) {
+        this.team = team;
+    }
+
+    public int getPlayerCount() {
+        return stones.length;
+    }
+
+    // ====================== 조회 ======================
+
+    /** (r,c) 의 sign (플레이어 인덱스 + 1), 빈칸/판 밖이면 0 */
+    public int signAt(int r, int c) {
+        if (!Bitboard.isInside(r, c)) return 0;
+        for (int i = 0; i < stones.length; i++) {
+            if (stones[i].get(r, c)) return i + 1;
+        }
+        return 0;
+    }
+
+    public boolean isEmpty(int r, int c) {
+        return signAt(r, c) == 0;
+    }
+
+    public boolean isShared(int r, int c) {
+        return Bitboard.isInside(r, c) && shared.get(r, c);
+    }
+
+    // ====================== 변경 ======================
+
+    /** playerIdx 의 돌을 (r,c) 에 둔다. 판 밖이거나 이미 돌이 있으면 false */
+    public boolean place(int playerIdx, int r, int c) {
+        if (!Bitboard.isInside(r, c) || !isEmpty(r, c)) return false;
+        stones[playerIdx].set(r, c);
+        return true;
+    }
+
+    /** sign(0 = 빈칸) 과 공용돌 여부를 그대로 써 넣는다. (되돌리기 / 스냅샷 적용용) */
+    public void setCell(int r, int c, int sign, boolean isShared) {
+        if (!Bitboard.isInside(r, c)) return;
+        clear(r, c);
+        if (sign > 0) stones[sign - 1].set(r, c);
+        shared.set(r, c, isShared && sign > 0);
+    }
+
+    /** (r,c) 의 돌을 공용돌로 바꾼다. 빈칸이면 false */
+    public boolean share(int r, int c) {
+        if (!Bitboard.isInside(r, c) || isEmpty(r, c)) return false;
+        shared.set(r, c);
+        return true;
+    }
+
+    /** (r,c) 의 돌 제거 (공용돌 표시 포함). 제거했으면 true */
+    public boolean clear(int r, int c) {
+        if (!Bitboard.isInside(r, c)) return false;
+        boolean had = false;
+        for (Bitboard s : stones) {
+            if (s.get(r, c)) {
+                s.clear(r, c);
+                had = true;
+            }
+        }
+        shared.clear(r, c);
+        return had;
+    }
+
+    /**
+     * (r,c) 중심 3x3 영역의 돌을 모두 제거한다. (Bomb)
+     * @return 실제로 돌이 있다가 제거된 칸들
+     */
+    public Bitboard clearArea(int centerR, int centerC) {
+        Bitboard removed = new Bitboard();
+        if (!Bitboard.isInside(centerR, centerC)) return removed;
+
+        Bitboard area = Bitboard.area3x3(centerR, centerC);
+        for (Bitboard s : stones) {
+            scratch.copyFrom(s);
+            scratch.and(area);
+            removed.or(scratch);
+            s.andNot(area);
+        }
+        shared.andNot(area);
+        return removed;
+    }
+
+    /** 두 칸의 돌(공용돌 여부 포함)을 교환한다. */
+    public void swap(int r1, int c1, int r2, int c2) {
+        if (!Bitboard.isInside(r1, c1) || !Bitboard.isInside(r2, c2)) return;
+
+        int sign1 = signAt(r1, c1);
+        boolean shared1 = shared.get(r1, c1);
+        setCell(r1, c1, signAt(r2, c2), shared.get(r2, c2));
+        setCell(r2, c2, sign1, shared1);
+    }
+
+    // ====================== 판정 ======================
+
+    /** playerIdx(팀전이면 그 팀) 가 공용돌 포함 5목을 가지고 있는지 */
+    public boolean hasFive(int playerIdx) {
+        scratch.copyFrom(shared);
+        if (team == null) {
+            scratch.or(stones[playerIdx]);
+        } else {
+            // 팀 합집합 마스크
+            for (int i = 0; i < stones.length; i++) {
+                if (team[i] == team[playerIdx]) scratch.or(stones[i]);
+            }
+        }
+        return scratch.hasFive();
+    }
+
+    /**
+     * 현재 5목을 가진 플레이어. 없으면 NO_WINNER.
+     *  - 행동한 플레이어(preferIdx)를 먼저 확인 (팀전에서 같은 팀이면 그 사람이 대표)
+     */
+    public int findWinner(int preferIdx) {
+        if (preferIdx >= 0 && preferIdx < stones.length && hasFive(preferIdx)) return preferIdx;
+        for (int i = 0; i < stones.length; i++) {
+            if (i != preferIdx && hasFive(i)) return i;
+        }
+        return NO_WINNER;
+    }
+}
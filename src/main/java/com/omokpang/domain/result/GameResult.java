@@ -0,0 +1,27 @@
+package com.omokpang.domain.result;
+
+import java.util.List;
+
+/** GameResult
+ * 역할: 한 판의 정산 단위. (게임 ID + 모든 플레이어의 PlayerResult)
+ * 핵심기능: gameId 로 같은 판이 두 번 정산되지 않도록 식별.
+ */
+public class GameResult {
+
+    private final String gameId;
+    private final List<PlayerResult> players;
+
+    public GameResult(String gameId, List<PlayerResult> players) {
+        this.gameId = gameId;
+        this.players = List.copyOf(players);
+    }
+
+    public String getGameId() { return gameId; }
+
+    public List<PlayerResult> getPlayers() { return players; }
+
+    @Override
+    public String toString() {
+        return gameId + " " + players;
+    }
+}
@@ -0,0 +1,29 @@
+package com.omokpang.domain.result;
+
+/** PlayerResult
+ * 역할: 한 판이 끝났을 때 플레이어 한 명의 정산 결과.
+ * 핵심기능: 닉네임·승패·포인트 변화량을 불변 객체로 보유.
+ */
+public class PlayerResult {
+
+    private final String nickname;
+    private final boolean win;
+    private final int pointDelta;
+
+    public PlayerResult(String nickname, boolean win, int pointDelta) {
+        this.nickname = nickname;
+        this.win = win;
+        this.pointDelta = pointDelta;
+    }
+
+    public String getNickname() { return nickname; }
+
+    public boolean isWin() { return win; }
+
+    public int getPointDelta() { return pointDelta; }
+
+    @Override
+    public String toString() {
+        return nickname + (win ? " W " : " L ") + pointDelta;
+    }
+}
@@ -0,0 +1,60 @@
+package com.omokpang.domain.result;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** ResultRules
+ * 역할: 한 판이 끝났을 때 순위·포인트를 정하는 규칙 (서버 정산과 클라이언트 결과 화면이 같이 사용).
+ * 핵심기능:
+ *  - 2인: 승자 1등 80점, 패자 2등 40점
+ *  - 2v2 팀전: 승리 팀 둘 다 1등 80점, 나머지 둘은 2등 40점
+ *  - 4인 개인전: 승자 1등 80점, 나머지는 인덱스 순서대로 2·3·4등 40점
+ *  - 그 외 인원수: 승자 80점, 나머지 0점
+ */
+public final class ResultRules {
+
+    public static final int WIN_POINTS = 80;
+    public static final int LOSE_POINTS = 40;
+
+    private ResultRules() {}
+
+    /**
+     * @param n         플레이어 수
+     * @param winnerIdx 승자 인덱스 (2v2 는 승리 팀의 아무나)
+     * @param team      플레이어별 팀 (개인전이면 null)
+     * @return 플레이어별 순위 (1부터)
+     */
+    public static int[] ranks(int n, int winnerIdx, int[] team) {
+        int[] rank = new int[n];
+        int nextLoserRank = 2;
+        for (int i = 0; i < n; i++) {
+            boolean won = (team != null) ? team[i] == team[winnerIdx] : i == winnerIdx;
+            if (won) {
+                rank[i] = 1;
+            } else if (team != null || n != 4) {
+                rank[i] = 2;
+            } else {
+                rank[i] = nextLoserRank++; // 4인 개인전: 2,3,4
+            }
+        }
+        return rank;
+    }
+
+    /** 순위에 따른 이번 판 포인트 */
+    public static int points(int n, int rank) {
+        if (rank == 1) return WIN_POINTS;
+        return (n == 2 || n == 4) ? LOSE_POINTS : 0;
+    }
+
+    /** 정산용 결과 목록 (players 순서 그대로) */
+    public static List<PlayerResult> results(String[] players, int winnerIdx, int[] team) {
+        int n = players.length;
+        int[] rank = ranks(n, winnerIdx, team);
+
+        List<PlayerResult> results = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            results.add(new PlayerResult(players[i], rank[i] == 1, points(n, rank[i])));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,44 @@
+package com.omokpang.domain.user;
+
+/** LeaderboardEntry
+ * 역할: 랭킹 화면 한 줄에 필요한 사용자 정보 (비밀번호 등 계정 정보는 포함하지 않음).
+ * 핵심기능: 순위·닉네임·포인트 보유, id 는 다음 페이지 조회(keyset) 기준으로 사용.
+ * 순위 규칙: 서버 RankIndex 와 같다 → 순위 = 1 + (나보다 포인트가 높은 사람 수). 같은 포인트는 같은 순위.
+ *          position 은 정렬 순서상 몇 번째 줄인지 (다음 포인트 묶음의 순위가 곧 그 줄의 position).
+ */
+public class LeaderboardEntry {
+
+    private final int rank;
+    private final int position;
+    private final int id;
+    private final String nickname;
+    private final int points;
+
+    public LeaderboardEntry(int rank, int position, int id, String nickname, int points) {
+        this.rank = rank;
+        this.position = position;
+        this.id = id;
+        this.nickname = nickname;
+        this.points = points;
+    }
+
+    /**
+     * 정렬 순서(포인트 내림차순)로 prev 바로 다음 줄. prev 가 null 이면 1위 줄.
+     * 포인트가 prev 와 같으면 순위를 이어받고, 아니면 순위 = position.
+     */
+    public static LeaderboardEntry next(LeaderboardEntry prev, int id, String nickname, int points) {
+        int position = (prev == null) ? 1 : prev.position + 1;
+        int rank = (prev != null && prev.points == points) ? prev.rank : position;
+        return new LeaderboardEntry(rank, position, id, nickname, points);
+    }
+
+    public int getRank() { return rank; }
+
+    public int getPosition() { return position; }
+
+    public int getId() { return id; }
+
+    public String getNickname() { return nickname; }
+
+    public int getPoints() { return points; }
+}
@@ -0,0 +1,104 @@
+package com.omokpang.net;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/** BlockingConnection
+ * 역할: 스레드-소켓(blocking / virtual) 방식에서 사용하는 ClientConnection 구현체.
+ * 핵심기능: 송신 대기열에 프레임이 들어오면 writer 태스크를 하나 띄워서,
+ *          쌓인 프레임을 coalesceBuf 에 모아 한 번의 socket write 로 내보낸다.
+ * 스레드: writer 태스크는 연결당 동시에 하나만 돈다. (writeScheduled 로 보장)
+ *        느린 클라이언트는 자기 writer 만 막히고, 보내는 쪽(handler 스레드)은 막히지 않는다.
+ */
+public class BlockingConnection extends ClientConnection {
+
+    // 한 번에 모아서 쓸 최대 바이트
+    private static final int COALESCE_BYTES = 8192;
+
+    private final Socket socket;
+    private final OutputStream out;
+    private final Executor writerExecutor;
+
+    private final AtomicBoolean writeScheduled = new AtomicBoolean(false);
+
+    // writer 태스크 전용 버퍼 (동시에 하나만 돌기 때문에 공유해도 안전)
+    private final byte[] coalesceBuf = new byte[COALESCE_BYTES];
+
+    public BlockingConnection(Socket socket, Executor writerExecutor) throws IOException {
+        this.socket = socket;
+        this.out = socket.getOutputStream();
+        this.writerExecutor = writerExecutor;
+    }
+
+    @Override
+    protected void requestFlush() {
+        if (writeScheduled.compareAndSet(false, true)) {
+            writerExecutor.execute(this::drain);
+        }
+    }
+
+    // writer 태스크: 대기열이 빌 때까지 모아서 쓴다
+    private void drain() {
+        // 이 태스크가 writeScheduled 를 쥐고 있는지 (예외로 빠져나가도 플래그가 true 로 남지 않도록)
+        boolean owned = true;
+        try {
+            while (true) {
+                flushOutbox();
+                owned = false;
+                writeScheduled.set(false);
+
+                // 플래그를 내린 사이에 새 프레임이 들어왔으면 이어서 처리
+                if (!hasPendingFrames() || !writeScheduled.compareAndSet(false, true)) return;
+                owned = true;
+            }
+        } catch (IOException | RuntimeException e) {
+            // 쓰기 실패 = 끊긴 연결 (또는 스트림 오류). 읽기 스레드 쪽에서 onDisconnect 로 정리된다.
+            abort();
+        } finally {
+            if (owned) writeScheduled.set(false);
+        }
+    }
+
+    private void flushOutbox() throws IOException {
+        byte[] frame;
+        while ((frame = peekFrame()) != null) {
+            // 버퍼보다 큰 메시지는 단독으로 내보낸다
+            if (frame.length > coalesceBuf.length) {
+                pollFrame();
+                out.write(frame);
+                continue;
+            }
+
+            int len = 0;
+            while ((frame = peekFrame()) != null && frame.length <= coalesceBuf.length - len) {
+                pollFrame();
+                System.arraycopy(frame, 0, coalesceBuf, len, frame.length);
+                len += frame.length;
+            }
+            out.write(coalesceBuf, 0, len);
+        }
+        out.flush();
+    }
+
+    @Override
+    protected void abort() {
+        markClosed();
+        discardFrames();
+        try {
+            socket.close(); // 읽기 스레드의 readLine 이 예외로 빠져나오며 정리된다
+        } catch (Exception ignored) {}
+    }
+
+    @Override
+    public void close() {
+        abort();
+    }
+
+    @Override
+    public String toString() {
+        return socket.toString();
+    }
+}
@@ -0,0 +1,170 @@
+package com.omokpang.net;
+
+import com.omokpang.domain.board.OmokBoard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/** BoardSnapshot
+ * 역할: 방 상태 전체(보드·공용돌·턴·남은 수·카드)를 한 줄에 담는 SNAPSHOT 메시지 (서버·클라이언트 공용).
+ * 핵심기능: 서버는 encode 로 만들어 보내고, 클라이언트는 parse 한 결과로 화면을 한 번에 다시 맞춘다.
+ * 형식: SNAPSHOT <gameId> <seq> <turnIndex> <movesLeft> <cells> <hands>
+ *  - seq       : 받는 플레이어의 방 이벤트 순번 (RoomLog). 클라이언트는 이 값부터 이어서 센다
+ *  - turnIndex : 현재 턴 플레이어 인덱스,  movesLeft : 이번 턴에 남은 수 (DoubleMove 면 2)
+ *  - cells     : 15x15 를 행 우선으로. '1'~'4' = 플레이어 돌, 'A'~'D' = 공용돌(원래 주인 1~4),
+ *                'a'~'z' = 빈칸 1~26 칸 연속  → 빈 판 9글자, 가득 찬 판 225글자
+ *  - hands     : 플레이어별 남은 카드 (CardType 이름 ',' 구분, 없으면 '-', 서버가 모르면 '?'), 플레이어 사이는 '/'
+ * 예) SNAPSHOT mvc1-3 12 1 1 z1a2z... BOMB,SHIELD/-
+ */
+public final class BoardSnapshot {
+
+    public static final String COMMAND = "SNAPSHOT";
+
+    private static final int N = OmokBoard.N;
+    private static final int MAX_RUN = 26;
+
+    private final String gameId;
+    private final long seq;
+    private final int turnIndex;
+    private final int movesLeft;
+    // 칸별 sign (0 = 빈칸) / 공용돌 여부, 행 우선
+    private final byte[] signs;
+    private final boolean[] shared;
+    // 플레이어별 카드 이름 (없으면 빈 목록, 모르면 null)
+    private final List<List<String>> hands;
+
+    private BoardSnapshot(String gameId, long seq, int turnIndex, int movesLeft,
+                          byte[] signs, boolean[] shared, List<List<String>> hands) {
+        this.gameId = gameId;
+        this.seq = seq;
+        this.turnIndex = turnIndex;
+        this.movesLeft = movesLeft;
+        this.signs = signs;
+        this.shared = shared;
+        this.hands = hands;
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public int getTurnIndex() {
+        return turnIndex;
+    }
+
+    public int getMovesLeft() {
+        return movesLeft;
+    }
+
+    /** (r,c) 의 sign (플레이어 인덱스 + 1, 0 = 빈칸) */
+    public int signAt(int r, int c) {
+        return signs[r * N + c];
+    }
+
+    public boolean isShared(int r, int c) {
+        return shared[r * N + c];
+    }
+
+    /** player 의 남은 카드 이름들 (없으면 빈 목록, 서버가 모르면 null) */
+    public List<String> hand(int player) {
+        return (player >= 0 && player < hands.size()) ? hands.get(player) : null;
+    }
+
+    // ====================== 인코딩 (서버) ======================
+
+    /** 방 락 안에서 호출. hands[i] 는 CARDS 로 받은 카드 이름 ',' 구분 문자열 (없으면 "", 모르면 null) */
+    static String encode(String gameId, long seq, int turnIndex, int movesLeft,
+                         OmokBoard board, String[] hands) {
+        StringBuilder sb = new StringBuilder(64 + N * N);
+        sb.append(COMMAND).append(' ').append(gameId)
+                .append(' ').append(seq)
+                .append(' ').append(turnIndex)
+                .append(' ').append(movesLeft)
+                .append(' ');
+
+        int run = 0;
+        for (int r = 0; r < N; r++) {
+            for (int c = 0; c < N; c++) {
+                int sign = board.signAt(r, c);
+                if (sign == 0) {
+                    if (++run == MAX_RUN) {
+                        sb.append((char) ('a' + run - 1));
+                        run = 0;
+                    }
+                    continue;
+                }
+                if (run > 0) {
+                    sb.append((char) ('a' + run - 1));
+                    run = 0;
+                }
+                sb.append(board.isShared(r, c) ? (char) ('A' + sign - 1) : (char) ('0' + sign));
+            }
+        }
+        if (run > 0) sb.append((char) ('a' + run - 1));
+
+        sb.append(' ');
+        for (int i = 0; i < hands.length; i++) {
+            if (i > 0) sb.append('/');
+            sb.append(hands[i] == null ? "?" : hands[i].isEmpty() ? "-" : hands[i]);
+        }
+        return sb.toString();
+    }
+
+    // ====================== 디코딩 (클라이언트) ======================
+
+    /** 명령어(SNAPSHOT) 바로 뒤에 있는 args 를 읽는다. 형식이 틀리면 IllegalArgumentException */
+    public static BoardSnapshot parse(MessageArgs args) {
+        String gameId = args.nextToken();
+        long seq = args.nextInt();
+        int turnIndex = args.nextInt();
+        int movesLeft = args.nextInt();
+        String cells = args.nextToken();
+        String handsToken = args.nextToken();
+        if (gameId == null || cells == null || handsToken == null) {
+            throw new IllegalArgumentException("incomplete snapshot");
+        }
+
+        byte[] signs = new byte[N * N];
+        boolean[] shared = new boolean[N * N];
+        int pos = 0;
+        for (int i = 0; i < cells.length(); i++) {
+            char ch = cells.charAt(i);
+            if (ch >= 'a' && ch <= 'z') {
+                pos += ch - 'a' + 1;
+                continue;
+            }
+            if (pos >= N * N) break;
+            if (ch >= '1' && ch <= '4') {
+                signs[pos] = (byte) (ch - '0');
+            } else if (ch >= 'A' && ch <= 'D') {
+                signs[pos] = (byte) (ch - 'A' + 1);
+                shared[pos] = true;
+            } else {
+                throw new IllegalArgumentException("bad snapshot cell: " + ch);
+            }
+            pos++;
+        }
+        if (pos != N * N) {
+            throw new IllegalArgumentException("snapshot covers " + pos + " cells");
+        }
+
+        List<List<String>> hands = new ArrayList<>();
+        for (String h : handsToken.split("/")) {
+            if ("?".equals(h)) {
+                hands.add(null);
+            } else if ("-".equals(h)) {
+                hands.add(Collections.emptyList());
+            } else {
+                hands.add(Collections.unmodifiableList(Arrays.asList(h.split(","))));
+            }
+        }
+
+        return new BoardSnapshot(gameId, seq, turnIndex, movesLeft, signs, shared, hands);
+    }
+}
@@ -0,0 +1,186 @@
+package com.omokpang.net;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** ClientConnection
+ * 역할: GameServer 가 접속한 클라이언트 하나에 메시지를 보내기 위한 공통 추상화.
+ * 핵심기능: 한 줄(line) 단위 전송 / 미리 인코딩된 프레임 전송 / 연결 종료 / 로그인한 닉네임 보관.
+ * 송신: send 는 호출한 스레드에서 소켓에 직접 쓰지 않고 연결별 대기열(outbox)에 넣기만 한다.
+ *      실제 쓰기는 구현체의 writer(blocking: writer 태스크, nio: I/O 루프)가 여러 프레임을 모아서 처리.
+ *      대기열이 maxPendingFrames 를 넘으면 느린 클라이언트로 보고 연결을 끊는다.
+ * 생존 확인: 마지막으로 무언가를 받은 시각을 남겨 두고, GameServer 하트비트가 오래 조용한 연결에 PING 을 보낸다.
+ * 프로토콜: 처음엔 줄 단위 텍스트. PROTO 협상에 성공하면 setBinary(true) 이후로 WireCodec 바이너리 프레임.
+ * 구현체: BlockingConnection(스레드-소켓 방식), NioServer.NioConnection(Selector 방식).
+ */
+public abstract class ClientConnection {
+
+    // 연결 하나에 쌓아 둘 수 있는 최대 프레임 수 (--max-pending-frames)
+    private static volatile int maxPendingFrames = 256;
+
+    // LOGIN 이후에 세팅되는 닉네임 (로그인 전에는 null)
+    private volatile String nickname;
+
+    // 수신 메시지 파싱용 커서 (한 연결의 줄은 항상 한 스레드가 순서대로 처리하므로 재사용 가능)
+    private final MessageArgs args = new MessageArgs();
+
+    // 아직 소켓으로 나가지 못한 프레임들 (아무 스레드에서나 넣고, writer 한 곳에서만 꺼낸다)
+    private final Queue<byte[]> outbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    // PROTO BIN 협상 완료 → 송수신 모두 바이너리 프레임 (읽기 스레드가 세팅, 아무 스레드에서나 읽음)
+    private volatile boolean binary;
+
+    // 마지막으로 메시지를 받은 시각 (nanoTime, 읽기 스레드가 세팅 / 하트비트가 읽음)
+    private volatile long lastHeardNanos = System.nanoTime();
+
+    static void setMaxPendingFrames(int max) {
+        maxPendingFrames = Math.max(1, max);
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public void setNickname(String nickname) {
+        this.nickname = nickname;
+    }
+
+    MessageArgs args() {
+        return args;
+    }
+
+    public boolean isBinary() {
+        return binary;
+    }
+
+    /** 이후 송수신을 바이너리 프레임으로 전환. 협상 응답(텍스트)을 보낸 뒤, 읽기 스레드에서 호출 */
+    void setBinary(boolean binary) {
+        this.binary = binary;
+    }
+
+    /** 메시지를 하나 받았음 (어떤 메시지든 살아 있다는 뜻이므로 PONG 과 똑같이 취급) */
+    void markHeard() {
+        lastHeardNanos = System.nanoTime();
+    }
+
+    /** 마지막으로 메시지를 받은 뒤 지난 시간(ns) */
+    long idleNanos() {
+        return System.nanoTime() - lastHeardNanos;
+    }
+
+    /** 메시지 한 줄을 전송 가능한 바이트(UTF-8 + '\n')로 만든다. 여러 명에게 보낼 땐 한 번만 만들어 재사용 */
+    static byte[] encodeLine(String line) {
+        return (line + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** 줄바꿈을 제외한 메시지 한 줄을 이 연결의 모드(텍스트/바이너리)에 맞게 전송한다. (여러 스레드에서 호출될 수 있음) */
+    public void send(String line) {
+        sendFrame(binary ? WireCodec.encode(line) : encodeLine(line));
+    }
+
+    /**
+     * 이 연결의 모드로 인코딩된 프레임(encodeLine / WireCodec.encode)을 송신 대기열에 넣는다. 전달한 배열은 수정하지 않는다.
+     *  - 호출한 스레드는 소켓 쓰기로 막히지 않는다.
+     *  - 대기열이 가득 차면 이 연결을 끊는다. (느린 클라이언트 하나 때문에 방 전체가 밀리지 않도록)
+     */
+    public final void sendFrame(byte[] frame) {
+        if (!enqueue(frame, maxPendingFrames)) {
+            ServerMetrics.framesDropped(1);
+            evict();
+        }
+    }
+
+    /**
+     * 버려도 되는 프레임(예: CHEER)을 보낸다.
+     *  - 대기열이 절반 이상 차 있으면 연결은 유지하고 이 프레임만 버린다. (backpressure)
+     */
+    public final void offerFrame(byte[] frame) {
+        if (!enqueue(frame, maxPendingFrames / 2)) {
+            ServerMetrics.framesDropped(1);
+        }
+    }
+
+    private boolean enqueue(byte[] frame, int limit) {
+        if (closed.get()) return true; // 닫힌 연결에는 조용히 무시
+
+        int depth = pending.incrementAndGet();
+        if (depth > limit) {
+            pending.decrementAndGet();
+            return false;
+        }
+        outbox.add(frame);
+        ServerMetrics.frameQueued(depth);
+        requestFlush();
+        return true;
+    }
+
+    // 대기열 초과: 남은 프레임은 버리고 바로 끊는다
+    private void evict() {
+        if (closed.get()) return;
+        System.out.println("[SERVER] WARN: outbound queue full (" + pending.get() +
+                " frames), evicting: " + this);
+        ServerMetrics.clientEvicted();
+        abort();
+    }
+
+    // ====================== 구현체(writer)용 ======================
+
+    /** 대기열 맨 앞 프레임 (없으면 null) */
+    protected byte[] peekFrame() {
+        return outbox.peek();
+    }
+
+    /** 대기열 맨 앞 프레임을 꺼낸다. writer 스레드에서만 호출 */
+    protected byte[] pollFrame() {
+        byte[] frame = outbox.poll();
+        if (frame != null) {
+            pending.decrementAndGet();
+            ServerMetrics.framesSent(1);
+        }
+        return frame;
+    }
+
+    protected boolean hasPendingFrames() {
+        return !outbox.isEmpty();
+    }
+
+    /** 아직 보내지 못한 프레임 수 */
+    public int getPendingFrames() {
+        return pending.get();
+    }
+
+    /** 닫는 중이거나 닫힌 상태로 표시한다. 처음 표시한 호출만 true */
+    protected boolean markClosed() {
+        return closed.compareAndSet(false, true);
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /** 남아 있는 프레임을 버린다. (강제 종료 시) */
+    protected void discardFrames() {
+        int n = 0;
+        while (outbox.poll() != null) n++;
+        if (n > 0) {
+            pending.addAndGet(-n);
+            ServerMetrics.framesSent(n);
+            ServerMetrics.framesDropped(n);
+        }
+    }
+
+    /** outbox 에 새 프레임이 들어왔으니 writer 가 비우도록 예약한다. */
+    protected abstract void requestFlush();
+
+    /** 남은 프레임을 보내지 않고 즉시 연결을 끊는다. */
+    protected abstract void abort();
+
+    /** 연결을 닫는다. 이미 닫혀 있으면 아무 일도 하지 않는다. */
+    public abstract void close();
+}
@@ -0,0 +1,68 @@
+package com.omokpang.net;
+
+/** CommandTable
+ * 역할: 프로토콜 메시지의 첫 토큰(명령어) → 처리기(handler) 를 찾는 디스패치 테이블.
+ * 핵심기능: 명령어 문자열을 잘라내지 않고(substring 없이) 원본 줄의 앞부분으로 바로 O(1) 조회.
+ * 사용처: GameServer(클라이언트 → 서버), GameIntroController(서버 → 클라이언트).
+ */
+public class CommandTable<H> {
+
+    private String[] keys = new String[32];
+    private Object[] handlers = new Object[32];
+    private int size = 0;
+
+    /** 명령어 처리기 등록 (체이닝 가능) */
+    public CommandTable<H> on(String command, H handler) {
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        insert(keys, handlers, command, handler);
+        size++;
+        return this;
+    }
+
+    /** line 의 [0, end) 구간을 명령어로 보고 처리기를 찾는다. 없으면 null */
+    @SuppressWarnings("unchecked")
+    public H find(String line, int end) {
+        int mask = keys.length - 1;
+        int i = hash(line, end) & mask;
+
+        while (keys[i] != null) {
+            String k = keys[i];
+            if (k.length() == end && line.regionMatches(0, k, 0, end)) {
+                return (H) handlers[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    // String.hashCode 와 같은 방식으로 [0, end) 구간만 해싱
+    private static int hash(String s, int end) {
+        int h = 0;
+        for (int i = 0; i < end; i++) {
+            h = 31 * h + s.charAt(i);
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static void insert(String[] keys, Object[] handlers, String key, Object handler) {
+        int mask = keys.length - 1;
+        int i = hash(key, key.length()) & mask;
+        while (keys[i] != null && !keys[i].equals(key)) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        handlers[i] = handler;
+    }
+
+    private void resize(int capacity) {
+        String[] newKeys = new String[capacity];
+        Object[] newHandlers = new Object[capacity];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) insert(newKeys, newHandlers, keys[i], handlers[i]);
+        }
+        keys = newKeys;
+        handlers = newHandlers;
+    }
+}
@@ -0,0 +1,89 @@
+package com.omokpang.net;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/** FifoMatchQueue
+ * 역할: 들어온 순서대로 roomSize 명씩 묶는 기본 매칭 대기열.
+ * 핵심기능: lock-free deque + 동시성 Map 으로 O(1) 중복 확인.
+ *          입장마다 순번을 붙여서, 빠졌다가 다시 들어온 플레이어는 예전 자리가 아니라 새 자리에서 기다린다.
+ */
+class FifoMatchQueue implements MatchQueue {
+
+    // 대기 항목 한 건 (닉네임 + 입장 순번)
+    private static final class Entry {
+        final String nick;
+        final long seq;
+
+        Entry(String nick, long seq) {
+            this.nick = nick;
+            this.seq = seq;
+        }
+    }
+
+    private final AtomicLong seq = new AtomicLong();
+
+    // 대기 순서 (빠졌거나 재입장한 닉네임의 예전 항목이 남아 있을 수 있음 → 꺼낼 때 순번으로 걸러냄)
+    private final Deque<Entry> waiting = new ConcurrentLinkedDeque<>();
+
+    // 닉네임 → 현재 대기 항목의 순번 (중복 확인 O(1), deque 항목이 최신인지 확인하는 기준)
+    private final Map<String, Long> members = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean add(String nick) {
+        long s = seq.incrementAndGet();
+        if (members.putIfAbsent(nick, s) != null) return false;
+        waiting.add(new Entry(nick, s));
+        return true;
+    }
+
+    @Override
+    public void remove(String nick) {
+        members.remove(nick); // waiting 쪽은 꺼낼 때 건너뛴다
+    }
+
+    @Override
+    public int size() {
+        return members.size();
+    }
+
+    // 대기열 앞에서부터 roomSize 명씩 잘라 방 목록을 만든다
+    @Override
+    public List<String[]> drainRooms(int roomSize, Predicate<String> isOnline) {
+        int roomCount = size() / roomSize;
+        List<String[]> rooms = new ArrayList<>(roomCount);
+
+        Entry[] group = new Entry[roomSize];
+        int filled = 0;
+        while (rooms.size() < roomCount) {
+            Entry e = waiting.poll();
+            if (e == null) break;
+
+            // 이미 빠졌거나 다시 들어와 순번이 바뀐(예전 항목) 경우, 접속이 끊긴 경우는 건너뜀
+            if (!members.remove(e.nick, e.seq)) continue;
+            if (!isOnline.test(e.nick)) continue;
+
+            group[filled++] = e;
+            if (filled == roomSize) {
+                String[] players = new String[roomSize];
+                for (int i = 0; i < roomSize; i++) players[i] = group[i].nick;
+                rooms.add(players);
+                filled = 0;
+            }
+        }
+
+        // 방을 못 채운 인원은 순서 그대로 대기열 앞으로 되돌린다 (그 사이 다시 들어왔으면 새 항목을 따른다)
+        for (int i = filled - 1; i >= 0; i--) {
+            if (members.putIfAbsent(group[i].nick, group[i].seq) == null) {
+                waiting.addFirst(group[i]);
+            }
+        }
+        return rooms;
+    }
+}
@@ -0,0 +1,84 @@
+package com.omokpang.net;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/** FrameReader
+ * 역할: 소켓 입력 스트림에서 텍스트 한 줄 또는 바이너리 프레임 하나를 읽는 blocking 리더.
+ * 핵심기능: BufferedReader 와 달리 바이트 단위로 버퍼링하므로, PROTO 협상 직후처럼
+ *          같은 스트림 안에서 텍스트 → 바이너리로 바꿔 읽어도 앞서 읽어 둔 바이트를 잃지 않는다.
+ * 사용처: GameServer(blocking / virtual 모드 handleClient), OmokClient(수신 스레드).
+ */
+class FrameReader {
+
+    private final InputStream in;
+
+    // readLine 용 누적 버퍼 (한 스레드에서만 읽으므로 재사용)
+    private byte[] lineBuf = new byte[256];
+
+    FrameReader(InputStream in) {
+        this.in = new BufferedInputStream(in);
+    }
+
+    /** '\n' 까지 읽어 한 줄을 반환 ('\r\n' 허용). 스트림이 끝났으면 null */
+    String readLine() throws IOException {
+        int len = 0;
+        while (true) {
+            int b = in.read();
+            if (b < 0) {
+                if (len == 0) return null;
+                break;
+            }
+            if (b == '\n') break;
+
+            if (len == lineBuf.length) {
+                if (len >= WireCodec.MAX_BODY_BYTES) throw new IOException("line too long");
+                byte[] grown = new byte[len * 2];
+                System.arraycopy(lineBuf, 0, grown, 0, len);
+                lineBuf = grown;
+            }
+            lineBuf[len++] = (byte) b;
+        }
+        if (len > 0 && lineBuf[len - 1] == '\r') len--;
+        return new String(lineBuf, 0, len, StandardCharsets.UTF_8);
+    }
+
+    /** 길이 필드를 포함한 바이너리 프레임 하나를 읽는다. 스트림이 끝났으면 null */
+    byte[] readFrame() throws IOException {
+        int b0 = in.read();
+        if (b0 < 0) return null;
+
+        int prefix = 1;
+        int body = b0;
+        int b1 = 0;
+        if ((b0 & 0x80) != 0) {
+            b1 = readByte();
+            prefix = 2;
+            body = (b0 & 0x7F) | (b1 << 7);
+        }
+        if (body < 1 || body > WireCodec.MAX_BODY_BYTES) {
+            throw new IOException("bad frame length: " + body);
+        }
+
+        byte[] frame = new byte[prefix + body];
+        frame[0] = (byte) b0;
+        if (prefix == 2) frame[1] = (byte) b1;
+
+        int off = prefix;
+        while (off < frame.length) {
+            int n = in.read(frame, off, frame.length - off);
+            if (n < 0) throw new EOFException("truncated frame");
+            off += n;
+        }
+        return frame;
+    }
+
+    private int readByte() throws IOException {
+        int b = in.read();
+        if (b < 0) throw new EOFException("truncated frame");
+        return b;
+    }
+}
@@ -1,753 +1,911 @@
 package com.omokpang.net;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
+import com.omokpang.domain.card.CardType;
+import com.omokpang.domain.result.GameResult;
+import com.omokpang.domain.result.PlayerResult;
+import com.omokpang.domain.result.ResultRules;
+import com.omokpang.repository.DataSourceProvider;
+import com.omokpang.repository.RankIndex;
+import com.omokpang.repository.UserRepository;
+
 import java.net.ServerSocket;
 import java.net.Socket;
-import java.util.ArrayDeque;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 /** GameServer
  * 역할: OmokPang 전용 매칭/턴/카드 이벤트를 처리하는 TCP 서버(콘솔 실행).
  * 핵심기능: LOGIN·QUEUE·MATCH·TURN 관리 및 카드 관련 메시지 브로드캐스트.
  * 모드: 1v1 / 1v1v1v1 / 2v2 방 생성 및 Room 단위 턴 순환 관리.
+ * 프로토콜: 줄 단위 텍스트가 기본. WELCOME 뒤 PROTO BIN 으로 협상한 연결은 WireCodec 바이너리 프레임
+ *          (텍스트 / 바이너리 연결이 한 방에 섞여 있어도 수신자마다 맞는 형식으로 보낸다).
+ * 재접속: 방 이벤트는 RoomLog 에 순번과 함께 남기고, 끊긴 플레이어는 resume-grace-ms 동안 자리를 유지한다.
+ *        그 안에 다시 LOGIN + RESUME <gameId> <lastSeq> 하면 놓친 이벤트만 받아 이어서 진행.
+ *        돌아오지 않으면 기권 처리하고, 접속한 플레이어가 아무도 남지 않은 방은 결과 없이 닫는다.
+ * 턴 시계: 턴 제한시간(turn-seconds, TimeLock 을 맞은 턴은 timelock-seconds)은 서버가 강제한다.
+ *         시간이 지나면 TIMEOUT <nick> 후 다음 플레이어에게 TURN. 모든 방이 TimerWheel 스레드 하나를 공유.
+ * 동기화: SYNC 를 받으면(또는 RESUME 할 이벤트가 이미 밀려났으면) 방 상태 전체를 SNAPSHOT 한 줄로 보낸다.
+ * 하트비트: heartbeat-ms 동안 아무 것도 보내지 않은 연결에 PING, heartbeat-misses 번 연속 조용하면 끊고
+ *          onDisconnect 로 보통 끊김과 똑같이 정리한다 (반쯤 열린 TCP 가 clientMap / 스레드를 계속 잡지 않도록).
+ * 정산: 판이 끝나면 서버가 순위·포인트를 계산해 ResultSettler 로 DB 에 반영 (클라이언트는 DB 에 쓰지 않음).
+ *      커밋된 뒤 접속 중인 플레이어에게 SETTLED <gameId> 를 보낸다 (랭킹 캐시를 비우는 신호).
+ * 순위: RANK <points> → RANK <points> <순위> <전체 인원>. 서버의 RankIndex 로 답한다 (준비 전이면 순위 -1).
  */
 public class GameServer {
 
-    // 닉네임 -> 해당 클라이언트 출력 스트림
-    private static final Map<String, PrintWriter> clientMap = new ConcurrentHashMap<>();
+    // 닉네임 -> 해당 클라이언트 연결 (blocking / nio 공통)
+    private static final Map<String, ClientConnection> clientMap = new ConcurrentHashMap<>();
+
+    // 모드별 매칭 대기열 (1v1: 2명, 1v1v1v1 / 2v2: 4명이 모이면 방 생성). main 에서 정책에 맞게 생성
+    private static Matchmaker matchmaker;
+
+    // 레이팅 매칭용 포인트 캐시 (--match-policy=rating 일 때만 사용, 아니면 null)
+    private static RatingCache ratingCache;
+
+    // 게임 결과 DB 정산 (main 에서 생성)
+    private static ResultSettler resultSettler;
 
-    // 1:1 매칭 대기열 (닉네임만 저장)
-    private static final Queue<String> queue1v1 = new ArrayDeque<>();
+    // PROTO BIN 협상을 받아 줄지 (--binary=false 면 모든 연결을 텍스트로 유지)
+    private static volatile boolean binaryEnabled = true;
 
-    // 4인 FFA 큐
-    private static final Queue<String> queueFfa4 = new ArrayDeque<>();
+    // 바이너리 프레임 수신 로그 (--log-frames, 디버그용). 꺼져 있으면 프레임을 문자열로 풀지 않는다
+    private static volatile boolean logFrames;
 
-    // 2:2 팀전 큐
-    private static final Queue<String> queue2v2 = new ArrayDeque<>();
+    // 끊긴 플레이어 자리를 유지하는 시간 / 방마다 보관할 이벤트 수 (main 에서 설정)
+    private static volatile long resumeGraceMillis = 30000;
+    private static volatile int roomLogSize = 256;
+
+    // 턴 제한시간 / TimeLock 턴 제한시간 / 클라이언트 TURN_END 를 기다려 주는 여유 (ms, main 에서 설정. 턴 0 = 서버 턴 시계 끔)
+    private static volatile long turnMillis = 20000;
+    private static volatile long timelockMillis = 3000;
+    private static volatile long turnSlackMillis = 1500;
+
+    // PING 간격 / 연속으로 놓쳐도 되는 횟수 (main 에서 설정, 간격 0 = 하트비트 끔)
+    private static volatile long heartbeatMillis = 15000;
+    private static volatile int heartbeatMisses = 3;
+
+    // 턴 시계 / 재접속 대기 만료 / 하트비트 처리용 (모든 방·연결이 스레드 하나를 공유, 100ms 단위)
+    private static final TimerWheel timer = new TimerWheel("omok-timer", 100, 512);
 
     // "어떤 닉네임이 어떤 방에 속해 있는지"
     private static final Map<String, Room> roomMap = new ConcurrentHashMap<>();
 
-    // 간단한 Room 구조
+    // 게임 ID 발급용: 서버 시작 시각(36진수) + 일련번호 → 재시작해도 겹치지 않음
+    private static final String GAME_ID_PREFIX = Long.toString(System.currentTimeMillis(), 36);
+    private static final AtomicLong gameSeq = new AtomicLong();
+
+    // 간단한 Room 구조 (1v1 도 2인 Room 으로 관리)
     private static class Room {
-        String mode;           // "1v1" 또는 "1v1v1v1"
+        final String gameId;   // 결과 정산을 한 번만 하기 위한 판 ID (MATCH 로 클라이언트에 전달)
+        String mode;           // "1v1" / "1v1v1v1" / "2v2"
         String[] players;      // 방에 속한 닉네임들 (2 or 4)
         int turnIndex;         // 현재 턴 플레이어 인덱스 (0~n-1)
 
+        // 서버 기준 보드 (승패 판정)
+        final RoomBoard board;
+        // 승패가 결정되어 더 이상 수를 받지 않음
+        boolean finished;
+
+        // 보드/턴 변경 + 그에 따른 전송 순서를 지키기 위한 방 단위 락 (가상 스레드 pinning 방지로 ReentrantLock)
+        final ReentrantLock lock = new ReentrantLock();
+
+        // 플레이어들에게 나간 이벤트 기록 (RESUME 용)
+        final RoomLog log;
+        // 플레이어별 방 이벤트 수신 중단 시각(nanoTime, 0 = 수신 중). 끊겼거나 새로 LOGIN 해서 RESUME 을 기다리는 상태
+        final long[] detachedAt;
+        // 유예 시간 안에 돌아오지 않아 기권 처리된 플레이어 (턴이 더 이상 돌아가지 않음)
+        final boolean[] forfeited;
+        // 플레이어별 남은 카드 (CARDS 로 받은 CardType 이름 ',' 구분, 아직 모르면 null). SNAPSHOT 용
+        final String[] hands;
+
+        // 지금 턴의 제한시간 타이머와 그 턴 번호 (턴이 바뀌면 +1 → 늦게 깨어난 이전 턴 타이머는 무시)
+        TimerWheel.Timeout turnClock;
+        long turnToken;
+        // TimeLock 을 맞아 다음 자기 턴이 timelock-seconds 인 플레이어
+        final boolean[] timeLockNext;
+
         Room(String mode, String[] players, int turnIndex) {
+            this.gameId = GAME_ID_PREFIX + "-" + gameSeq.incrementAndGet();
             this.mode = mode;
             this.players = players;
             this.turnIndex = turnIndex;
+            this.board = new RoomBoard(players.length, "2v2".equals(mode));
+            this.log = new RoomLog(roomLogSize, players.length);
+            this.detachedAt = new long[players.length];
+            this.forfeited = new boolean[players.length];
+            this.hands = new String[players.length];
+            this.timeLockNext = new boolean[players.length];
+        }
+
+        // 방 락 안에서 호출: player 에게 보낼 SNAPSHOT 한 줄
+        String snapshotFor(int player) {
+            return BoardSnapshot.encode(gameId, log.lastSeq(player), turnIndex, board.movesLeft(),
+                    board.state(), hands);
         }
-    }
 
-    // 매칭된 상대 매핑 (양방향)
-    private static final Map<String, String> opponentMap = new ConcurrentHashMap<>();
+        // 플레이어별 팀 (2v2 만, 개인전이면 null). RoomBoard 와 같은 배치: 0,2 / 1,3
+        int[] teams() {
+            if (!"2v2".equals(mode)) return null;
+            int[] team = new int[players.length];
+            for (int i = 0; i < team.length; i++) team[i] = i % 2;
+            return team;
+        }
 
-    // 현재 누구 차례인지 저장 (양쪽 닉네임 모두 같은 값 저장)
-    //  - key: 플레이어 닉네임
-    //  - value: 현재 턴을 가진 플레이어의 닉네임
-    private static final Map<String, String> currentTurnMap = new ConcurrentHashMap<>();
+        int indexOf(String nick) {
+            for (int i = 0; i < players.length; i++) {
+                if (players[i].equals(nick)) return i;
+            }
+            return -1;
+        }
+    }
 
     public static void main(String[] args) throws Exception {
-        int port = 9000;
-        System.out.println("[SERVER] OmokPang Server start on port " + port);
+        ServerConfig config = ServerConfig.fromArgs(args);
+        int port = config.port();
+        System.out.println("[SERVER] OmokPang Server start on port " + port +
+                " (mode=" + config.mode() + ")");
+
+        // 송신 대기열 상한 / 통계 출력
+        ClientConnection.setMaxPendingFrames(config.maxPendingFrames());
+        binaryEnabled = config.binaryProtocol();
+        logFrames = config.logFrames();
+        resumeGraceMillis = config.resumeGraceMillis();
+        roomLogSize = config.roomLogSize();
+        turnMillis = TimeUnit.SECONDS.toMillis(config.turnSeconds());
+        timelockMillis = TimeUnit.SECONDS.toMillis(config.timelockSeconds());
+        turnSlackMillis = config.turnSlackMillis();
+        heartbeatMillis = config.heartbeatMillis();
+        heartbeatMisses = config.heartbeatMisses();
+        ServerMetrics.startReporter(config.metricsInterval());
+
+        // 매칭은 소켓 읽기 스레드가 아니라 전용 틱 스레드에서
+        matchmaker = createMatchmaker(config);
+        matchmaker.start(config.matchTickMillis());
+
+        // 결과 정산은 방 스레드가 아니라 크기가 정해진 전용 실행기에서
+        resultSettler = new ResultSettler(config.settleThreads(), config.settleQueue(),
+                Path.of(config.resultLedger()), GameServer::onGameSettled);
+        resultSettler.replayJournal();
+
+        // 메인 화면 "내 순위": 포인트 분포를 서버 한 곳에서만 들고 있는다 (정산은 ResultRepository 가 바로 반영)
+        if (DataSourceProvider.isConfigured()) {
+            RankIndex.getInstance().startRefresher(new UserRepository()::forEachPoints, config.rankRefreshSeconds());
+        } else {
+            System.out.println("[SERVER] WARN: DB not configured, rank index disabled");
+        }
+
+        // --mode=nio : Selector 기반 이벤트 루프
+        if (ServerConfig.MODE_NIO.equals(config.mode())) {
+            new NioServer(port, config.ioThreads()).run();
+            return;
+        }
+
+        // --mode=virtual : blocking 코드 그대로, 소켓마다 가상 스레드(Java 21)
+        boolean virtual = ServerConfig.MODE_VIRTUAL.equals(config.mode());
+        Thread.Builder threadBuilder = virtual
+                ? Thread.ofVirtual().name("omok-client-v", 0)
+                : Thread.ofPlatform().name("omok-client-", 0);
+
+        // 송신 writer 태스크용 실행기 (platform: 스레드 재사용 풀, virtual: 태스크마다 가상 스레드)
+        ExecutorService writerExecutor = virtual
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("omok-writer-v", 0).factory())
+                : Executors.newCachedThreadPool(Thread.ofPlatform().name("omok-writer-", 0).daemon(true).factory());
 
+        // --pin-check : JFR 로 가상 스레드 pinning 감시
+        if (virtual && config.pinCheck()) {
+            PinningMonitor.start(Duration.ofMillis(config.pinThresholdMillis()));
+        }
+
+        // 기본: 소켓마다 스레드를 하나씩 띄우는 blocking 방식
         ServerSocket serverSocket = new ServerSocket(port);
 
         while (true) {
             Socket clientSocket = serverSocket.accept();
             System.out.println("[SERVER] New client connected: " + clientSocket);
 
-            Thread t = new Thread(() -> handleClient(clientSocket));
-            t.start();
+            threadBuilder.start(() -> handleClient(clientSocket, writerExecutor));
         }
     }
 
-    // 방 안의 from 을 제외한 모든 플레이어에게 message 전송
-    private static void broadcastToRoomExcept(Room room, String from, String message) {
-        for (String p : room.players) {
-            if (p.equals(from)) continue; // 나 자신은 제외
-            PrintWriter out = clientMap.get(p);
-            if (out != null) {
-                out.println(message);
-            }
-        }
+    // --match-policy: fifo(기본, 들어온 순서) / rating(포인트가 가까운 순서, 오래 기다릴수록 범위 확대)
+    private static Matchmaker createMatchmaker(ServerConfig config) {
+        Supplier<MatchQueue> queueFactory;
+        if (ServerConfig.MATCH_RATING.equals(config.matchPolicy())) {
+            ratingCache = new RatingCache();
+            int window = config.ratingWindow();
+            int step = config.ratingWindowPerSecond();
+            queueFactory = () -> new RatingMatchQueue(ratingCache::get, window, step);
+            System.out.println("[SERVER] match policy: rating (window=" + window + ", +" + step + "/s)");
+        } else {
+            queueFactory = FifoMatchQueue::new;
+        }
+
+        return new Matchmaker(clientMap::containsKey, queueFactory, GameServer::openRoom)
+                .mode("1v1", 2)
+                .mode("1v1v1v1", 4)
+                .mode("2v2", 4);
     }
 
-    // 말풍선 전송: from → 같은 방의 다른 모든 플레이어 or 1:1 상대
-    private static void forwardCheer(String from, String text) {
+    // ====================== 방 단위 릴레이 ======================
+
+    /**
+     * from 이 속한 방의 나머지 플레이어 전원에게 message 를 전달한다.
+     *  - 방(수신자 목록)은 한 번만 조회
+     *  - 메시지는 형식(텍스트/바이너리)별로 한 번만 인코딩해서 같은 형식의 수신자에게 같은 바이트를 그대로 전송
+     *  - 전송은 각 연결의 송신 대기열에 넣기만 하므로 느린 수신자가 있어도 여기서 막히지 않는다
+     *  - 버려도 되는 메시지가 아니면 방 락 안에서 RoomLog 에 남기고 보낸다 (기록 순서 = 수신 순서)
+     *  - droppable = true 면 수신자 대기열이 밀려 있을 때 연결을 끊지 않고 이 메시지만 버린다 (CHEER 등)
+     */
+    private static void relayToRoom(String from, WireMessage message, boolean droppable) {
         Room room = roomMap.get(from);
-        String msg = "CHEER " + from + " " + text;
+        if (room == null) return;
+        relayToRoom(room, from, message, droppable);
+    }
 
-        // 방이 있으면: 같은 방의 나를 제외한 모두에게
-        if (room != null) {
-            broadcastToRoomExcept(room, from, msg);
+    private static void relayToRoom(Room room, String from, WireMessage message, boolean droppable) {
+        if (droppable) {
+            // CHEER 등: 기록하지 않고, 락도 잡지 않는다
+            for (int i = 0; i < room.players.length; i++) {
+                ClientConnection out = receiverAt(room, i, from);
+                if (out != null) out.offerFrame(message.frameFor(out));
+            }
             return;
         }
 
-        // 방이 없으면 기존 1:1
-        String opp = opponentMap.get(from);
-        if (opp == null) return;
-
-        PrintWriter outOpp = clientMap.get(opp);
-        if (outOpp != null) {
-            outOpp.println(msg);
+        room.lock.lock();
+        try {
+            room.log.append(room.indexOf(from), message);
+            for (int i = 0; i < room.players.length; i++) {
+                ClientConnection out = receiverAt(room, i, from);
+                if (out != null) out.sendFrame(message.frameFor(out));
+            }
+        } finally {
+            room.lock.unlock();
         }
     }
 
-    // 돌 두기 전송: from → 같은 방의 다른 모든 플레이어 or 1:1 상대
-    private static void forwardPlace(String from, int r, int c) {
-        Room room = roomMap.get(from);
-        String msg = "PLACE " + r + " " + c;
-
-        // 방이 있으면 방 전체(나 제외)에게 브로드캐스트
-        if (room != null) {
-            broadcastToRoomExcept(room, from, msg);
-            return;
-        }
-
-        // 방이 없으면 기존 1:1
-        String opp = opponentMap.get(from);
-        if (opp == null) return;
+    // 방 전체(나 포함)에게 같은 프레임 전송
+    private static void broadcastToRoom(Room room, String message) {
+        relayToRoom(room, null, WireMessage.of(message), false);
+    }
 
-        PrintWriter outOpp = clientMap.get(opp);
-        if (outOpp != null) {
-            outOpp.println(msg);
-        }
+    // i 번 플레이어가 지금 받을 연결 (보낸 사람 / RESUME 대기 중 / 접속 끊김이면 null)
+    private static ClientConnection receiverAt(Room room, int i, String from) {
+        String p = room.players[i];
+        if (p.equals(from)) return null; // 나 자신은 제외
+        if (room.detachedAt[i] != 0) return null;
+        return clientMap.get(p);
     }
 
-    // SharedStone 시작 알림: from -> 같은 방의 다른 플레이어 or 1:1 상대
-    private static void forwardSharedStoneStart(String from) {
-        Room room = roomMap.get(from);
-        String msg = "SHARED_STONE_START";
+    // ====================== 턴 관리 유틸 ======================
 
-        if (room != null) {
-            broadcastToRoomExcept(room, from, msg);
+    /** TURN_END 를 받은 플레이어 닉네임 기준으로 방 안의 다음 플레이어에게 턴을 넘김 */
+    private static void handleTurnEnd(String nick) {
+        Room room = roomMap.get(nick);
+        if (room == null) {
+            System.out.println("[SERVER] TURN_END from " + nick + " but no room.");
             return;
         }
 
-        String opp = opponentMap.get(from);
-        if (opp == null) return;
+        room.lock.lock();
+        try {
+            // 이미 승패가 난 방이면 턴을 넘기지 않는다
+            if (room.finished) return;
 
-        PrintWriter outOpp = clientMap.get(opp);
-        if (outOpp != null) {
-            outOpp.println(msg);
+            // 방 안에서만 턴 교체
+            if (!nick.equals(room.players[room.turnIndex])) {
+                System.out.println("[SERVER] WARN: TURN_END from non-turn player in room: " + nick);
+                return;
+            }
+            advanceTurn(room);
+        } finally {
+            room.lock.unlock();
         }
     }
 
-    // SharedStone 타겟 좌표 전달: from -> 같은 방의 다른 플레이어 or 1:1 상대
-    private static void forwardSharedStoneTarget(String from, int r, int c) {
-        Room room = roomMap.get(from);
-        String msg = "SHARED_STONE_TARGET " + r + " " + c;
+    // 방 락 안에서 호출: 다음 플레이어(기권한 플레이어는 건너뜀)에게 턴을 넘기고 TURN 전송 (턴 시계도 새로 건다)
+    private static void advanceTurn(Room room) {
+        do {
+            room.turnIndex = (room.turnIndex + 1) % room.players.length;
+        } while (room.forfeited[room.turnIndex]);
+        room.board.onTurnChange();
+        broadcastTurn(room);
+    }
 
-        if (room != null) {
-            broadcastToRoomExcept(room, from, msg);
-            return;
-        }
+    // 방 락 안에서 호출: 지금 턴의 제한시간 타이머를 새로 건다 (이전 턴 타이머는 취소)
+    private static void startTurnClock(Room room) {
+        if (room.turnClock != null) room.turnClock.cancel();
+        room.turnToken++;
+        if (turnMillis <= 0) return;
 
-        String opp = opponentMap.get(from);
-        if (opp == null) return;
+        int idx = room.turnIndex;
+        long limit = room.timeLockNext[idx] ? timelockMillis : turnMillis;
+        room.timeLockNext[idx] = false; // 한 번만 적용
 
-        PrintWriter outOpp = clientMap.get(opp);
-        if (outOpp != null) {
-            outOpp.println(msg);
-        }
+        long token = room.turnToken;
+        room.turnClock = timer.schedule(() -> onTurnTimeout(room, token),
+                limit + turnSlackMillis, TimeUnit.MILLISECONDS);
     }
 
-    // Bomb!! 시작 알림
-    private static void forwardBombStart(String from) {
-        Room room = roomMap.get(from);
-        String msg = "BOMB_START";
-
-        if (room != null) {
-            broadcastToRoomExcept(room, from, msg);
-            return;
+    // 턴 제한시간 초과: TURN_END 가 오지 않았으면 서버가 대신 턴을 넘긴다 (TIMEOUT <nick> → TURN <next>)
+    private static void onTurnTimeout(Room room, long token) {
+        room.lock.lock();
+        try {
+            // 그 사이 TURN_END 로 턴이 바뀌었거나 판이 끝났으면 무시
+            if (room.finished || room.turnToken != token) return;
+
+            String nick = room.players[room.turnIndex];
+            broadcastToRoom(room, "TIMEOUT " + nick);
+            System.out.println("[SERVER] TIMEOUT(room=" + room.gameId + "): " + nick);
+            advanceTurn(room);
+        } finally {
+            room.lock.unlock();
         }
+    }
 
-        String opp = opponentMap.get(from);
-        if (opp == null) return;
-
-        PrintWriter outOpp = clientMap.get(opp);
-        if (outOpp != null) {
-            outOpp.println(msg);
+    // TIMELOCK_START: 쓴 사람의 상대(2v2 는 상대 팀) 전원의 다음 턴을 timelock-seconds 로 줄인다
+    private static void onTimeLock(Room room, int attacker) {
+        int[] teams = room.teams();
+        for (int i = 0; i < room.players.length; i++) {
+            if (i == attacker) continue;
+            if (teams != null && teams[i] == teams[attacker]) continue;
+            room.timeLockNext[i] = true;
         }
     }
 
-    // Bomb!! 타겟 좌표 전달
-    private static void forwardBombTarget(String from, int r, int c) {
-        Room room = roomMap.get(from);
-        String msg = "BOMB_TARGET " + r + " " + c;
-
-        if (room != null) {
-            broadcastToRoomExcept(room, from, msg);
-            return;
-        }
+    // 승패 결정: 방 전체에 GAME_OVER <승자 닉네임> (2v2 는 승리 팀의 대표 한 명) + 결과 정산 예약
+    private static void finishGame(Room room, int winnerIdx) {
+        room.finished = true;
+        if (room.turnClock != null) room.turnClock.cancel();
+        String winner = room.players[winnerIdx];
+        broadcastToRoom(room, "GAME_OVER " + winner);
+        System.out.println("[SERVER] GAME_OVER(room=" + room.mode + "): " + winner);
 
-        String opp = opponentMap.get(from);
-        if (opp == null) return;
+        resultSettler.submit(new GameResult(room.gameId,
+                ResultRules.results(room.players, winnerIdx, room.teams())));
+    }
 
-        PrintWriter outOpp = clientMap.get(opp);
-        if (outOpp != null) {
-            outOpp.println(msg);
+    // 정산이 DB 에 반영된 뒤: 레이팅 매칭용 포인트 캐시도 맞춰 준다
+    private static void onGameSettled(GameResult game) {
+        for (PlayerResult p : game.getPlayers()) {
+            if (ratingCache != null) {
+                ratingCache.add(p.getNickname(), p.getPointDelta());
+            }
+            ClientConnection conn = clientMap.get(p.getNickname());
+            if (conn != null) {
+                conn.send("SETTLED " + game.getGameId());
+            }
         }
     }
 
-    // Time Lock 시작 알림: from -> 같은 방의 다른 플레이어 or 1:1 상대
-    private static void forwardTimeLockStart(String from) {
-        Room room = roomMap.get(from);
-        String msg = "TIMELOCK_START";
+    // ====================== 클라이언트 핸들러 ======================
 
-        if (room != null) {
-            broadcastToRoomExcept(room, from, msg);
-            return;
+    // blocking 모드: 소켓 하나를 전담하는 스레드에서 한 줄(바이너리면 한 프레임)씩 읽어 넘긴다
+    private static void handleClient(Socket socket, ExecutorService writerExecutor) {
+        ClientConnection conn = null;
+
+        try {
+            FrameReader in = new FrameReader(socket.getInputStream());
+            conn = new BlockingConnection(socket, writerExecutor);
+            conn.send("WELCOME OmokPang!");
+            onConnect(conn);
+
+            while (true) {
+                // PROTO 협상으로 모드가 바뀌면 바로 다음 읽기부터 적용된다
+                if (conn.isBinary()) {
+                    byte[] frame = in.readFrame();
+                    if (frame == null) break;
+                    handleFrame(conn, frame);
+                } else {
+                    String line = in.readLine();
+                    if (line == null) break;
+                    handleLine(conn, line);
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("[SERVER] client disconnected: " + socket);
+        } finally {
+            if (conn != null) {
+                onDisconnect(conn);
+            }
         }
+    }
 
-        String opp = opponentMap.get(from);
-        if (opp == null) return;
+    // ====================== 명령 디스패치 ======================
 
-        PrintWriter outOpp = clientMap.get(opp);
-        if (outOpp != null) {
-            outOpp.println(msg);
-        }
+    // 수신 명령 처리기: args 는 명령어 바로 뒤부터 읽는 커서
+    @FunctionalInterface
+    private interface ServerCommand {
+        void handle(ClientConnection conn, MessageArgs args);
     }
 
-    // Swap 시작 알림: from -> 같은 방의 다른 플레이어 or 1:1 상대
-    private static void forwardSwapStart(String from) {
-        Room room = roomMap.get(from);
-        String msg = "SWAP_START";
+    // 첫 토큰(명령어) → 처리기. 새 카드 메시지는 여기 한 줄만 추가하면 된다.
+    private static final CommandTable<ServerCommand> commands = new CommandTable<ServerCommand>()
+            // 프로토콜 협상: PROTO BIN <version>
+            .on("PROTO", GameServer::onProto)
+            .on("LOGIN", GameServer::onLogin)
+            // 하트비트 응답: 받은 것만으로 markHeard 가 되므로 따로 할 일은 없다
+            .on("PONG", (conn, args) -> {})
+            // 재접속: RESUME <gameId> <lastSeq>
+            .on("RESUME", loggedIn(2, GameServer::onResume))
+            // 전체 상태 요청: SYNC → SNAPSHOT ...
+            .on("SYNC", loggedIn((nick, args) -> sendSnapshot(nick)))
+            // 내 순위: RANK <points> → RANK <points> <rank> <total>
+            .on("RANK", loggedIn(1, GameServer::onRank))
+            // 내 남은 카드 알림: CARDS <CardType...> (손패가 바뀔 때마다)
+            .on("CARDS", loggedIn(GameServer::onCards))
+            .on("QUEUE", GameServer::onQueue)
+            // 🔥 턴 종료: TURN_END
+            .on("TURN_END", loggedIn((nick, args) -> handleTurnEnd(nick)))
+            // 🔥 말풍선: CHEER <text...>
+            .on("CHEER", loggedIn((nick, args) -> relayToRoom(nick, WireMessage.of("CHEER " + nick + " " + args.rest()), true)))
+            // 🔥 돌 두기: PLACE r c   (예: PLACE 7 8)
+            .on("PLACE", boardMove(2, (board, p, args) -> board.place(p, args.nextInt(), args.nextInt())))
+            // 🔥 SharedStone: SHARED_STONE_START / SHARED_STONE_TARGET r c
+            .on("SHARED_STONE_START", boardMove(0, (board, p, args) -> RoomBoard.NO_WINNER))
+            .on("SHARED_STONE_TARGET", boardMove(2, (board, p, args) -> board.share(p, args.nextInt(), args.nextInt())))
+            // 🔥 Bomb: BOMB_START / BOMB_TARGET r c
+            .on("BOMB_START", boardMove(0, (board, p, args) -> RoomBoard.NO_WINNER))
+            .on("BOMB_TARGET", boardMove(2, (board, p, args) -> board.bomb(args.nextInt(), args.nextInt())))
+            // 🔥 Time Lock 시작: TIMELOCK_START
+            .on("TIMELOCK_START", roomMove((room, p) -> onTimeLock(room, p)))
+            // 🔥 Swap: SWAP_START / SWAP_TARGET myR myC oppR oppC
+            .on("SWAP_START", boardMove(0, (board, p, args) -> {
+                board.startAttack("SWAP");
+                return RoomBoard.NO_WINNER;
+            }))
+            .on("SWAP_TARGET", boardMove(4, (board, p, args) ->
+                    board.swap(p, args.nextInt(), args.nextInt(), args.nextInt(), args.nextInt())))
+            // 🔥 DoubleMove 시작: DOUBLE_MOVE_START
+            .on("DOUBLE_MOVE_START", boardMove(0, (board, p, args) -> {
+                board.doubleMove();
+                return RoomBoard.NO_WINNER;
+            }))
+            // 🔥 Remove: REMOVE_START / REMOVE_TARGET r c
+            .on("REMOVE_START", boardMove(0, (board, p, args) -> {
+                board.startAttack("REMOVE");
+                return RoomBoard.NO_WINNER;
+            }))
+            .on("REMOVE_TARGET", boardMove(2, (board, p, args) -> board.remove(args.nextInt(), args.nextInt())))
+            // 🔥 Shield 방어: SHIELD_BLOCK_REMOVE / SHIELD_BLOCK_SWAP (공격받은 쪽이 상대 턴에 보낸다)
+            .on("SHIELD_BLOCK_REMOVE", boardMove(0, false, (board, p, args) -> board.blockAttack("REMOVE")))
+            .on("SHIELD_BLOCK_SWAP", boardMove(0, false, (board, p, args) -> board.blockAttack("SWAP")));
+
+    // 로그인한 연결에서만 처리하는 명령
+    @FunctionalInterface
+    private interface PlayerCommand {
+        void handle(String nickname, MessageArgs args);
+    }
 
-        if (room != null) {
-            broadcastToRoomExcept(room, from, msg);
-            return;
-        }
+    private static ServerCommand loggedIn(PlayerCommand command) {
+        return loggedIn(0, command);
+    }
 
-        String opp = opponentMap.get(from);
-        if (opp == null) return;
+    // 인자(토큰)가 minArgs 개 미만이면 무시
+    private static ServerCommand loggedIn(int minArgs, PlayerCommand command) {
+        return (conn, args) -> {
+            String nickname = conn.getNickname();
+            if (nickname == null) return;
+            if (minArgs > 0 && args.remainingTokens() < minArgs) return;
+            command.handle(nickname, args);
+        };
+    }
 
-        PrintWriter outOpp = clientMap.get(opp);
-        if (outOpp != null) {
-            outOpp.println(msg);
-        }
+    // 서버 보드에 반영하는 명령: 반환값은 승자 인덱스 (없으면 RoomBoard.NO_WINNER, 둘 수 없는 수면 RoomBoard.INVALID)
+    @FunctionalInterface
+    private interface BoardMove {
+        int apply(RoomBoard board, int playerIdx, MessageArgs args);
     }
 
-    // Swap 타겟 좌표 전달: from -> 같은 방의 다른 플레이어 or 1:1 상대
-    private static void forwardSwapTarget(String from, int myR, int myC, int oppR, int oppC) {
-        Room room = roomMap.get(from);
-        String msg = "SWAP_TARGET " + myR + " " + myC + " " + oppR + " " + oppC;
+    /**
+     * 서버 보드에 먼저 적용하고, 받은 메시지를 그대로 같은 방의 다른 플레이어에게 전달한다.
+     *  - 방 락 안에서 적용 + 전달 → 모든 클라이언트가 같은 순서로 받는다
+     *  - 승자가 생기면 이어서 GAME_OVER 를 방 전체에 보낸다
+     *  - 승패가 난 뒤에 오는 수는 무시
+     *  - 턴이 아닌 플레이어의 수 / 보드가 거부한 수는 전달·기록하지 않고 보낸 사람에게 SNAPSHOT 으로 되돌린다
+     */
+    private static ServerCommand boardMove(int intArgs, BoardMove move) {
+        return boardMove(intArgs, true, move);
+    }
 
-        if (room != null) {
-            broadcastToRoomExcept(room, from, msg);
-            return;
-        }
+    // turnOnly = false : 상대 턴에 보내는 명령 (Shield 방어). 대신 턴 플레이어 본인은 보낼 수 없다
+    private static ServerCommand boardMove(int intArgs, boolean turnOnly, BoardMove move) {
+        return loggedIn(intArgs, (nick, args) -> {
+            Room room = roomMap.get(nick);
+            if (room == null) return;
 
-        String opp = opponentMap.get(from);
-        if (opp == null) return;
+            room.lock.lock();
+            try {
+                if (room.finished) return;
 
-        PrintWriter outOpp = clientMap.get(opp);
-        if (outOpp != null) {
-            outOpp.println(msg);
-        }
+                int idx = room.indexOf(nick);
+                if ((idx == room.turnIndex) != turnOnly) {
+                    rejectMove(room, nick, args, turnOnly ? "not your turn" : "turn player cannot block");
+                    return;
+                }
+
+                int winner = move.apply(room.board, idx, args);
+                if (winner == RoomBoard.INVALID) {
+                    rejectMove(room, nick, args, "invalid move");
+                    return;
+                }
+                relayToRoom(room, nick, WireMessage.of(args), false);
+
+                if (winner != RoomBoard.NO_WINNER) {
+                    finishGame(room, winner);
+                }
+            } finally {
+                room.lock.unlock();
+            }
+        });
     }
 
-    // DoubleMove 시작 알림: from -> 같은 방의 다른 플레이어 or 1:1 상대
-    private static void forwardDoubleMoveStart(String from) {
-        Room room = roomMap.get(from);
-        String msg = "DOUBLE_MOVE_START";
+    // 보드는 건드리지 않고 방 상태만 바꾸는 명령 (턴 시계 등)
+    @FunctionalInterface
+    private interface RoomMove {
+        void apply(Room room, int playerIdx);
+    }
 
-        if (room != null) {
-            broadcastToRoomExcept(room, from, msg);
-            return;
-        }
+    // 방 락 안에서 방 상태에 반영한 뒤 받은 메시지를 그대로 릴레이 (boardMove 와 같은 순서 보장)
+    private static ServerCommand roomMove(RoomMove move) {
+        return loggedIn((nick, args) -> {
+            Room room = roomMap.get(nick);
+            if (room == null) return;
 
-        String opp = opponentMap.get(from);
-        if (opp == null) return;
+            room.lock.lock();
+            try {
+                if (room.finished) return;
 
-        PrintWriter outOpp = clientMap.get(opp);
-        if (outOpp != null) {
-            outOpp.println(msg);
-        }
-    }
+                int idx = room.indexOf(nick);
+                if (idx != room.turnIndex) {
+                    rejectMove(room, nick, args, "not your turn");
+                    return;
+                }
 
-    // Remove 시작 알림: from -> 같은 방의 다른 플레이어 or 1:1 상대
-    private static void forwardRemoveStart(String from) {
-        Room room = roomMap.get(from);
-        String msg = "REMOVE_START";
+                move.apply(room, idx);
+                relayToRoom(room, nick, WireMessage.of(args), false);
+            } finally {
+                room.lock.unlock();
+            }
+        });
+    }
 
-        if (room != null) {
-            broadcastToRoomExcept(room, from, msg);
-            return;
+    // 방 락 안에서 호출: 거부한 수는 보낸 사람 화면만 서버 보드로 되돌린다
+    private static void rejectMove(Room room, String nick, MessageArgs args, String reason) {
+        System.out.println("[SERVER] WARN: rejected " + args.line() + " from " + nick + " (" + reason + ")");
+        ClientConnection conn = clientMap.get(nick);
+        if (conn != null) {
+            conn.send(room.snapshotFor(room.indexOf(nick)));
         }
+    }
 
-        String opp = opponentMap.get(from);
-        if (opp == null) return;
+    /** 클라이언트가 보낸 한 줄을 처리한다. (blocking / nio 모드 공통 진입점) */
+    static void handleLine(ClientConnection conn, String line) {
+        System.out.println("[SERVER] recv: " + line);
+        conn.markHeard();
+        dispatch(conn, line, null);
+    }
 
-        PrintWriter outOpp = clientMap.get(opp);
-        if (outOpp != null) {
-            outOpp.println(msg);
-        }
+    /** 바이너리 모드 연결이 보낸 프레임 하나를 처리한다. 좌표 프레임은 줄로 되돌리지 않고 바로 처리 */
+    static void handleFrame(ClientConnection conn, byte[] frame) {
+        if (logFrames) System.out.println("[SERVER] recv(bin): " + WireCodec.decodeLine(frame));
+        conn.markHeard();
+        dispatch(conn, null, frame);
     }
 
-    // Remove 타겟 좌표 전달: from -> 같은 방의 다른 플레이어 or 1:1 상대
-    private static void forwardRemoveTarget(String from, int r, int c) {
-        Room room = roomMap.get(from);
-        String msg = "REMOVE_TARGET " + r + " " + c;
+    // 메시지 하나 처리 (모든 서버 모드 공통). 잘못된 인자(PLACE x 7 등)나 깨진 프레임으로 난 예외는 그 메시지만 버린다
+    //  (blocking / virtual 은 읽기 루프 밖으로 나가면 연결이 끊기고, NIO 는 같은 줄을 끝없이 다시 읽는다)
+    private static void dispatch(ClientConnection conn, String line, byte[] frame) {
+        try {
+            MessageArgs args = (frame != null) ? conn.args().resetFrame(frame) : conn.args().reset(line);
+            ServerCommand command = commands.find(args.command(), args.commandEnd());
 
-        if (room != null) {
-            broadcastToRoomExcept(room, from, msg);
-            return;
+            if (command == null) {
+                // 기타: 테스트용 에코
+                conn.send("ECHO: " + args.line());
+                return;
+            }
+            command.handle(conn, args);
+        } catch (RuntimeException e) {
+            System.out.println("[SERVER] WARN: bad message from " + conn + " (" + conn.getNickname() +
+                    "), dropped: " + e);
         }
+    }
 
-        String opp = opponentMap.get(from);
-        if (opp == null) return;
+    // PROTO BIN <version> : 지원하면 텍스트로 PROTO_OK BIN <version> 을 보낸 뒤 바이너리로 전환, 아니면 PROTO_OK TEXT
+    private static void onProto(ClientConnection conn, MessageArgs args) {
+        String kind = args.nextToken();
+        int version = (args.remainingTokens() > 0) ? args.nextInt() : -1;
 
-        PrintWriter outOpp = clientMap.get(opp);
-        if (outOpp != null) {
-            outOpp.println(msg);
+        if (binaryEnabled && !conn.isBinary() && "BIN".equalsIgnoreCase(kind) && version == WireCodec.VERSION) {
+            conn.send("PROTO_OK BIN " + WireCodec.VERSION); // 아직 텍스트 모드이므로 텍스트로 나간다
+            conn.setBinary(true);
+            System.out.println("[SERVER] binary protocol: " + conn);
+        } else if (!conn.isBinary()) {
+            conn.send("PROTO_OK TEXT");
         }
     }
 
-    // Shield 방어 – Remove 무효화 알림
-    private static void forwardShieldBlockRemove(String from) {
-        Room room = roomMap.get(from);
-        String msg = "SHIELD_BLOCK_REMOVE";
+    // LOGIN <nickname>
+    private static void onLogin(ClientConnection conn, MessageArgs args) {
+        String nickname = args.rest().trim();
+        conn.setNickname(nickname);
+        clientMap.put(nickname, conn);
+        System.out.println("[SERVER] LOGIN: " + nickname);
 
-        if (room != null) {
-            broadcastToRoomExcept(room, from, msg);
-            return;
+        // 레이팅 매칭이면 포인트를 미리 읽어 둔다 (매칭 중에는 DB 조회 없음)
+        if (ratingCache != null) {
+            ratingCache.preload(nickname);
         }
 
-        String opp = opponentMap.get(from);
-        if (opp == null) return;
-
-        PrintWriter outOpp = clientMap.get(opp);
-        if (outOpp != null) {
-            outOpp.println(msg);
+        // 진행 중인 방이 있으면 RESUME 전까지 방 이벤트를 보내지 않는다 (놓친 것과 순서가 섞이지 않도록)
+        Room room = roomMap.get(nickname);
+        if (room != null) {
+            detach(room, nickname);
         }
     }
 
-    // Shield 방어 – Swap 무효화 알림
-    private static void forwardShieldBlockSwap(String from) {
-        Room room = roomMap.get(from);
-        String msg = "SHIELD_BLOCK_SWAP";
+    // RESUME <gameId> <lastSeq> : lastSeq 이후 놓친 방 이벤트를 순서대로 다시 보내고 수신을 재개
+    //  (놓친 이벤트가 이미 링에서 밀려났으면 SNAPSHOT 으로 대신한다)
+    private static void onResume(String nick, MessageArgs args) {
+        String gameId = args.nextToken();
+        long lastSeq = args.nextInt();
+        ClientConnection conn = clientMap.get(nick);
+        if (conn == null) return;
 
-        if (room != null) {
-            broadcastToRoomExcept(room, from, msg);
+        Room room = roomMap.get(nick);
+        if (room == null || !room.gameId.equals(gameId)) {
+            conn.send("RESUME_FAIL " + gameId);
             return;
         }
 
-        String opp = opponentMap.get(from);
-        if (opp == null) return;
+        room.lock.lock();
+        try {
+            int idx = room.indexOf(nick);
+            List<WireMessage> missed = room.log.since(idx, lastSeq);
+            if (missed == null) {
+                conn.send(room.snapshotFor(idx));
+                room.detachedAt[idx] = 0;
+                System.out.println("[SERVER] RESUME(" + nick + "): seq " + lastSeq + " / " +
+                        room.log.lastSeq(idx) + " out of log, sent SNAPSHOT");
+                return;
+            }
 
-        PrintWriter outOpp = clientMap.get(opp);
-        if (outOpp != null) {
-            outOpp.println(msg);
+            conn.send("RESUME_OK " + gameId + " " + missed.size());
+            for (WireMessage m : missed) {
+                conn.sendFrame(m.frameFor(conn));
+            }
+            room.detachedAt[idx] = 0;
+            System.out.println("[SERVER] RESUME(" + nick + "): " + missed.size() + " event(s) after seq " + lastSeq);
+        } finally {
+            room.lock.unlock();
         }
     }
 
-    // ====================== 턴 관리 유틸 ======================
+    // RANK: 인덱스 조회만 하므로 수신 스레드에서 바로 답한다 (DB 를 기다리지 않음)
+    private static void onRank(String nick, MessageArgs args) {
+        ClientConnection conn = clientMap.get(nick);
+        if (conn == null) return;
 
-    /** a, b 한 쌍에 대해 현재 턴을 가진 닉네임을 저장 */
-    private static void setCurrentTurnForPair(String a, String b, String turnOwner) {
-        currentTurnMap.put(a, turnOwner);
-        currentTurnMap.put(b, turnOwner);
+        int points = args.nextInt();
+        RankIndex rankIndex = RankIndex.getInstance();
+        conn.send("RANK " + points + " " + rankIndex.rankOf(points) + " " + rankIndex.size());
     }
 
-    /** a, b 한 쌍에게 현재 턴 주인을 브로드캐스트 (TURN <nickname>) */
-    private static void broadcastTurnToPair(String a, String b) {
-        String turnOwner = currentTurnMap.get(a); // 양쪽 값이 같으니 a 기준으로
-        if (turnOwner == null) return;
-
-        PrintWriter outA = clientMap.get(a);
-        PrintWriter outB = clientMap.get(b);
-
-        if (outA != null) outA.println("TURN " + turnOwner);
-        if (outB != null) outB.println("TURN " + turnOwner);
+    // SYNC: 방 상태 전체를 요청한 플레이어에게만 보낸다
+    private static void sendSnapshot(String nick) {
+        ClientConnection conn = clientMap.get(nick);
+        Room room = roomMap.get(nick);
+        if (conn == null || room == null) return;
 
-        System.out.println("[SERVER] TURN broadcast: " + a + "," + b + " -> " + turnOwner);
+        room.lock.lock();
+        try {
+            conn.send(room.snapshotFor(room.indexOf(nick)));
+        } finally {
+            room.lock.unlock();
+        }
     }
 
-    /** TURN_END 를 받은 플레이어 닉네임 기준으로 다음 턴을 상대에게 넘김 */
-    private static void handleTurnEnd(String nick) {
-        // 먼저 4인용 방부터 확인
+    // CARDS <CardType...> : 모르는 이름은 버리고 남은 카드 목록을 통째로 바꾼다
+    private static void onCards(String nick, MessageArgs args) {
         Room room = roomMap.get(nick);
-        if (room != null) {
-            // 방 안에서만 턴 교체
-            if (!nick.equals(room.players[room.turnIndex])) {
-                System.out.println("[SERVER] WARN: TURN_END from non-turn player in room: " + nick);
-                return;
+        if (room == null) return;
+
+        StringBuilder hand = new StringBuilder();
+        String token;
+        while ((token = args.nextToken()) != null) {
+            try {
+                CardType.valueOf(token);
+            } catch (IllegalArgumentException e) {
+                System.out.println("[SERVER] WARN: unknown card from " + nick + ": " + token);
+                continue;
             }
-            room.turnIndex = (room.turnIndex + 1) % room.players.length;
-            broadcastTurn(room);
-            return;
+            if (hand.length() > 0) hand.append(',');
+            hand.append(token);
         }
 
-        String opp = opponentMap.get(nick);
-        if (opp == null) {
-            System.out.println("[SERVER] TURN_END from " + nick + " but no opponent.");
-            return;
-        }
-
-        String cur = currentTurnMap.get(nick);
-        if (cur == null || !cur.equals(nick)) {
-            System.out.println("[SERVER] WARN: TURN_END from non-turn player: " + nick +
-                    " (currentTurn=" + cur + ")");
-            return;
+        room.lock.lock();
+        try {
+            room.hands[room.indexOf(nick)] = hand.toString();
+        } finally {
+            room.lock.unlock();
         }
-
-        setCurrentTurnForPair(nick, opp, opp);
-        broadcastTurnToPair(nick, opp);
     }
 
-    // ====================== 클라이언트 핸들러 ======================
-
-    private static void handleClient(Socket socket) {
-        String nickname = null;
-
-        try (BufferedReader in = new BufferedReader(
-                new InputStreamReader(socket.getInputStream()));
-             PrintWriter out = new PrintWriter(socket.getOutputStream(), true)
-        ) {
-            out.println("WELCOME OmokPang!");
-
-            String line;
-            while ((line = in.readLine()) != null) {
-                System.out.println("[SERVER] recv: " + line);
-
-                if (line.startsWith("LOGIN ")) {
-                    nickname = line.substring("LOGIN ".length()).trim();
-                    clientMap.put(nickname, out);
-                    System.out.println("[SERVER] LOGIN: " + nickname);
-                    continue;
-                }
-
-                if (line.startsWith("QUEUE ")) {
-                    String[] parts = line.split("\\s+");
-                    if (parts.length >= 3) {
-                        String mode = parts[1];   // "1v1" / "1v1v1v1" / "2v2"
-                        String nick = parts[2];
-
-                        if ("1v1".equals(mode)) {
-                            enqueue1v1(nick);
-                        } else if ("1v1v1v1".equals(mode)) {
-                            enqueueFfa4(nick);
-                        } else if ("2v2".equals(mode)) {
-                            enqueue2v2(nick);
-                        }
-                    }
-                    continue;
-                }
-
-                // 🔥 턴 종료: TURN_END
-                if (line.startsWith("TURN_END")) {
-                    if (nickname != null) {
-                        handleTurnEnd(nickname);
-                    }
-                    continue;
-                }
-
-                // 🔥 말풍선: CHEER <text...>
-                if (line.startsWith("CHEER ")) {
-                    if (nickname != null) {
-                        String text = line.substring("CHEER ".length());
-                        forwardCheer(nickname, text);
-                    }
-                    continue;
-                }
-
-                // 🔥 돌 두기: PLACE r c   (예: PLACE 7 8)
-                if (line.startsWith("PLACE ")) {
-                    if (nickname != null) {
-                        String[] parts = line.split("\\s+");
-                        if (parts.length >= 3) {
-                            int r = Integer.parseInt(parts[1]);
-                            int c = Integer.parseInt(parts[2]);
-                            forwardPlace(nickname, r, c);
-                        }
-                    }
-                    continue;
-                }
-
-                // 🔥 SharedStone 시작: SHARED_STONE_START
-                if (line.startsWith("SHARED_STONE_START")) {
-                    if (nickname != null) {
-                        forwardSharedStoneStart(nickname);
-                    }
-                    continue;
-                }
-
-                // 🔥 SharedStone 타겟: SHARED_STONE_TARGET r c
-                if (line.startsWith("SHARED_STONE_TARGET")) {
-                    if (nickname != null) {
-                        String[] parts = line.split("\\s+");
-                        if (parts.length >= 3) {
-                            int r = Integer.parseInt(parts[1]);
-                            int c = Integer.parseInt(parts[2]);
-                            forwardSharedStoneTarget(nickname, r, c);
-                        }
-                    }
-                    continue;
-                }
-
-                // 🔥 Bomb 시작: BOMB_START
-                if (line.startsWith("BOMB_START")) {
-                    if (nickname != null) {
-                        forwardBombStart(nickname);
-                    }
-                    continue;
-                }
-
-                // 🔥 Bomb 타겟: BOMB_TARGET r c
-                if (line.startsWith("BOMB_TARGET")) {
-                    if (nickname != null) {
-                        String[] parts = line.split("\\s+");
-                        if (parts.length >= 3) {
-                            int r = Integer.parseInt(parts[1]);
-                            int c = Integer.parseInt(parts[2]);
-                            forwardBombTarget(nickname, r, c);
-                        }
-                    }
-                    continue;
-                }
-
-                // 🔥 Time Lock 시작: TIMELOCK_START
-                if (line.startsWith("TIMELOCK_START")) {
-                    if (nickname != null) {
-                        forwardTimeLockStart(nickname);
-                    }
-                    continue;
-                }
-
-                // 🔥 Swap 시작: SWAP_START
-                if (line.startsWith("SWAP_START")) {
-                    if (nickname != null) {
-                        forwardSwapStart(nickname);
-                    }
-                    continue;
-                }
-
-                // 🔥 Swap 타겟: SWAP_TARGET myR myC oppR oppC
-                if (line.startsWith("SWAP_TARGET")) {
-                    if (nickname != null) {
-                        String[] parts = line.split("\\s+");
-                        if (parts.length >= 5) {
-                            int myR  = Integer.parseInt(parts[1]);
-                            int myC  = Integer.parseInt(parts[2]);
-                            int oppR = Integer.parseInt(parts[3]);
-                            int oppC = Integer.parseInt(parts[4]);
-                            forwardSwapTarget(nickname, myR, myC, oppR, oppC);
-                        }
-                    }
-                    continue;
-                }
-
-                // 🔥 DoubleMove 시작: DOUBLE_MOVE_START
-                if (line.startsWith("DOUBLE_MOVE_START")) {
-                    if (nickname != null) {
-                        forwardDoubleMoveStart(nickname);
-                    }
-                    continue;
-                }
-
-                // 🔥 Remove 시작: REMOVE_START
-                if (line.startsWith("REMOVE_START")) {
-                    if (nickname != null) {
-                        forwardRemoveStart(nickname);
-                    }
-                    continue;
-                }
-
-                // 🔥 Remove 타겟: REMOVE_TARGET r c
-                if (line.startsWith("REMOVE_TARGET")) {
-                    if (nickname != null) {
-                        String[] parts = line.split("\\s+");
-                        if (parts.length >= 3) {
-                            int r = Integer.parseInt(parts[1]);
-                            int c = Integer.parseInt(parts[2]);
-                            forwardRemoveTarget(nickname, r, c);
-                        }
-                    }
-                    continue;
-                }
-
-                // 🔥 Shield 방어: SHIELD_BLOCK_REMOVE
-                if (line.startsWith("SHIELD_BLOCK_REMOVE")) {
-                    if (nickname != null) {
-                        forwardShieldBlockRemove(nickname);
-                    }
-                    continue;
-                }
-
-                // 🔥 Shield 방어: SHIELD_BLOCK_SWAP
-                if (line.startsWith("SHIELD_BLOCK_SWAP")) {
-                    if (nickname != null) {
-                        forwardShieldBlockSwap(nickname);
-                    }
-                    continue;
-                }
-
-                // 기타: 테스트용 에코
-                out.println("ECHO: " + line);
-            }
-        } catch (Exception e) {
-            System.out.println("[SERVER] client disconnected: " + socket);
+    // nick 의 방 이벤트 수신을 멈춘다. 유예 시간 안에 RESUME 이 없으면 방에서 뺀다
+    private static void detach(Room room, String nick) {
+        long token;
+        room.lock.lock();
+        try {
+            int idx = room.indexOf(nick);
+            token = System.nanoTime() | 1; // 0 은 "수신 중" 이므로 피한다
+            room.detachedAt[idx] = token;
         } finally {
-            if (nickname != null) {
-                clientMap.remove(nickname);
-
-                // 상대도 함께 정리
-                String opp = opponentMap.remove(nickname);
-                if (opp != null) {
-                    opponentMap.remove(opp);
-                    currentTurnMap.remove(opp);
-                }
-                currentTurnMap.remove(nickname);
+            room.lock.unlock();
+        }
+
+        timer.schedule(() -> {
+            room.lock.lock();
+            try {
+                // 그 사이 RESUME 했거나 다시 끊겼다면(새 token) 이번 만료는 무시
+                int idx = room.indexOf(nick);
+                if (room.detachedAt[idx] != token) return;
+                roomMap.remove(nick, room);
+                System.out.println("[SERVER] resume window expired: " + nick + " (room=" + room.gameId + ")");
+                if (!room.finished) forfeit(room, idx);
+            } finally {
+                room.lock.unlock();
             }
-        }
+        }, resumeGraceMillis, TimeUnit.MILLISECONDS);
     }
 
-    // ====================== 매칭 로직 ======================
+    /**
+     * 방 락 안에서 호출: 유예 시간이 지난 idx 번 플레이어를 기권 처리한다.
+     *  - 접속 중인 플레이어가 아무도 없으면 승자 없이 방을 닫는다 (정산 없음, 턴 시계 중단)
+     *  - 남은 플레이어가 한 명(2v2 는 한 팀)뿐이면 그쪽 승리로 GAME_OVER + 정산
+     *  - 아니면 판을 이어 가고, 기권한 플레이어의 턴이었다면 바로 다음 사람에게 넘긴다
+     */
+    private static void forfeit(Room room, int idx) {
+        room.forfeited[idx] = true;
+
+        int[] teams = room.teams();
+        int survivor = -1;
+        boolean oneSide = true;
+        boolean anyConnected = false;
+        for (int i = 0; i < room.players.length; i++) {
+            if (room.forfeited[i]) continue;
+            if (room.detachedAt[i] == 0) anyConnected = true;
+            if (survivor < 0) {
+                survivor = i;
+            } else if (teams == null || teams[i] != teams[survivor]) {
+                oneSide = false;
+            }
+        }
 
-    // 1:1 대기열에 넣고, 2명 모이면 MATCH + 초기 TURN 보내기
-    private static synchronized void enqueue1v1(String nick) {
-        if (queue1v1.contains(nick)) {
+        if (!anyConnected) {
+            room.finished = true;
+            if (room.turnClock != null) room.turnClock.cancel();
+            System.out.println("[SERVER] room abandoned, closing without result (room=" + room.gameId + ")");
             return;
         }
-
-        queue1v1.add(nick);
-        System.out.println("[SERVER] QUEUE 1v1: " + nick +
-                " (현재 대기: " + queue1v1.size() + ")");
-
-        if (queue1v1.size() >= 2) {
-            String a = queue1v1.poll();
-            String b = queue1v1.poll();
-
-            PrintWriter outA = clientMap.get(a);
-            PrintWriter outB = clientMap.get(b);
-
-            if (outA != null && outB != null) {
-                String matchMsg = "MATCH 1v1 " + a + "," + b;
-                outA.println(matchMsg);
-                outB.println(matchMsg);
-                System.out.println("[SERVER] MATCHED 1v1: " + matchMsg);
-
-                // 서로의 상대를 등록 (양방향)
-                opponentMap.put(a, b);
-                opponentMap.put(b, a);
-
-                // 🔥 선공은 a 로 고정 (players[0] = a)
-                setCurrentTurnForPair(a, b, a);
-                broadcastTurnToPair(a, b); // TURN a
-            }
+        if (oneSide) {
+            System.out.println("[SERVER] FORFEIT(room=" + room.gameId + "): " + room.players[idx]);
+            finishGame(room, survivor);
+            return;
         }
+        System.out.println("[SERVER] FORFEIT(room=" + room.gameId + "): " + room.players[idx] + ", game continues");
+        if (room.turnIndex == idx) advanceTurn(room);
     }
 
-    // 4인 FFA 대기열
-    private static synchronized void enqueueFfa4(String nick) {
-        if (queueFfa4.contains(nick)) return;
-
-        queueFfa4.add(nick);
-        System.out.println("[SERVER] QUEUE 1v1v1v1: " + nick +
-                " (현재 대기: " + queueFfa4.size() + ")");
-
-        if (queueFfa4.size() >= 4) {
-            String a = queueFfa4.poll();
-            String b = queueFfa4.poll();
-            String c = queueFfa4.poll();
-            String d = queueFfa4.poll();
+    // QUEUE <mode> <nickname>
+    private static void onQueue(ClientConnection conn, MessageArgs args) {
+        if (args.remainingTokens() < 2) return;
 
-            PrintWriter outA = clientMap.get(a);
-            PrintWriter outB = clientMap.get(b);
-            PrintWriter outC = clientMap.get(c);
-            PrintWriter outD = clientMap.get(d);
+        String mode = args.nextToken();   // "1v1" / "1v1v1v1" / "2v2"
+        String nick = args.nextToken();
 
-            if (outA != null && outB != null && outC != null && outD != null) {
-                String playersStr = a + "," + b + "," + c + "," + d;
-                String matchMsg = "MATCH 1v1v1v1 " + playersStr;
-
-                outA.println(matchMsg);
-                outB.println(matchMsg);
-                outC.println(matchMsg);
-                outD.println(matchMsg);
+        matchmaker.enqueue(mode, nick);
+    }
 
-                System.out.println("[SERVER] MATCHED 1v1v1v1: " + matchMsg);
+    /** 새 연결을 받은 직후 (blocking / nio 모드 공통): 하트비트 시작 */
+    static void onConnect(ClientConnection conn) {
+        if (heartbeatMillis > 0) {
+            timer.schedule(() -> heartbeat(conn), heartbeatMillis, TimeUnit.MILLISECONDS);
+        }
+    }
 
-                // 🔥 방 생성 (선공은 a, 그 다음 b,c,d 순으로 턴)
-                String[] players = {a, b, c, d};
-                Room room = new Room("1v1v1v1", players, 0);
+    /**
+     * 타이머 휠에서 heartbeat-ms 마다 연결 하나씩 확인한다.
+     *  - 간격 안에 뭔가 받았으면 아무 것도 보내지 않는다 (게임 중인 연결은 PING 이 거의 없음)
+     *  - 간격 이상 조용하면 PING, heartbeat-misses 간격 이상 조용하면 끊는다 → 읽기 쪽이 onDisconnect 로 정리
+     */
+    private static void heartbeat(ClientConnection conn) {
+        if (conn.isClosed()) return;
+
+        long idle = TimeUnit.NANOSECONDS.toMillis(conn.idleNanos());
+        if (idle >= heartbeatMillis * heartbeatMisses) {
+            System.out.println("[SERVER] no heartbeat for " + idle + "ms, closing: " + conn +
+                    " (" + conn.getNickname() + ")");
+            ServerMetrics.clientReaped();
+            conn.abort();
+            return;
+        }
+        if (idle >= heartbeatMillis) {
+            conn.send("PING");
+        }
+        timer.schedule(() -> heartbeat(conn), heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
 
-                for (String p : players) {
-                    roomMap.put(p, room);
+    /** 연결이 끊겼을 때 맵 정리 (blocking / nio 모드 공통) */
+    static void onDisconnect(ClientConnection conn) {
+        String nickname = conn.getNickname();
+        if (nickname == null) return;
+
+        // 같은 닉네임으로 새로 접속한 연결은 지우지 않는다
+        if (clientMap.remove(nickname, conn)) {
+            // 방 매핑 정리: 유예 시간이 있으면 RESUME 을 기다렸다가, 없으면 바로 (남은 플레이어들에게는 더 이상 릴레이되지 않음)
+            Room room = roomMap.get(nickname);
+            if (room != null && resumeGraceMillis > 0) {
+                detach(room, nickname);
+            } else if (room != null) {
+                roomMap.remove(nickname, room);
+                room.lock.lock();
+                try {
+                    room.detachedAt[room.indexOf(nickname)] = 1; // 더 이상 받지 않음
+                    if (!room.finished) forfeit(room, room.indexOf(nickname));
+                } finally {
+                    room.lock.unlock();
                 }
-
-                // 첫 턴 브로드캐스트
-                broadcastTurn(room);
             }
+            // 매칭 대기 중이었다면 대기열에서도 제거
+            matchmaker.remove(nickname);
         }
     }
 
-    // 해당 방의 현재 턴을 모든 플레이어에게 알리기
+    // ====================== 매칭 로직 ======================
+
+    // 해당 방의 현재 턴을 모든 플레이어에게 알리고 턴 시계 시작 (방 락 안에서 호출)
     private static void broadcastTurn(Room room) {
         String curNick = room.players[room.turnIndex];
 
-        for (String p : room.players) {
-            PrintWriter out = clientMap.get(p);
-            if (out != null) out.println("TURN " + curNick);
-        }
+        broadcastToRoom(room, "TURN " + curNick);
+        startTurnClock(room);
 
         System.out.println("[SERVER] TURN broadcast(room=" + room.mode +
                 "): " + curNick);
     }
 
-    // 2:2 팀전 대기열
-    private static synchronized void enqueue2v2(String nick) {
-        // 이미 큐에 있으면 중복 방지
-        if (queue2v2.contains(nick)) return;
-
-        queue2v2.add(nick);
-        System.out.println("[SERVER] QUEUE 2v2: " + nick +
-                " (현재 대기: " + queue2v2.size() + ")");
-
-        // 4명 모이면 매칭
-        if (queue2v2.size() >= 4) {
-            String a = queue2v2.poll();
-            String b = queue2v2.poll();
-            String c = queue2v2.poll();
-            String d = queue2v2.poll();
-
-            PrintWriter outA = clientMap.get(a);
-            PrintWriter outB = clientMap.get(b);
-            PrintWriter outC = clientMap.get(c);
-            PrintWriter outD = clientMap.get(d);
-
-            if (outA != null && outB != null && outC != null && outD != null) {
-                String playersStr = a + "," + b + "," + c + "," + d;
-
-                // ✅ 모드명을 "2v2" 로 보냄
-                String matchMsg = "MATCH 2v2 " + playersStr;
-
-                outA.println(matchMsg);
-                outB.println(matchMsg);
-                outC.println(matchMsg);
-                outD.println(matchMsg);
-
-                System.out.println("[SERVER] MATCHED 2v2: " + matchMsg);
-
-                // ✅ 방 생성 (턴 순서는 a → b → c → d 순으로 진행)
-                String[] players = { a, b, c, d };
-                Room room = new Room("2v2", players, 0);
-
-                for (String p : players) {
-                    roomMap.put(p, room);
-                }
-
-                // 첫 턴 브로드캐스트
-                broadcastTurn(room);
-            }
+    /**
+     * Matchmaker 가 묶어 준 플레이어들로 방을 만들고 MATCH + 첫 TURN 을 보낸다.
+     *  - 접속이 끊긴 플레이어는 Matchmaker 에서 미리 걸러진다.
+     *  - MATCH 메시지는 한 번만 인코딩해서 모두에게 전송 (MATCH <mode> <p1,p2,..> <gameId>)
+     *  - 선공은 players[0], 이후 배열 순서대로 턴 진행
+     */
+    private static void openRoom(String mode, String[] players) {
+        Room room = new Room(mode, players, 0);
+        for (String p : players) {
+            roomMap.put(p, room);
+        }
+
+        String matchMsg = "MATCH " + mode + " " + String.join(",", players) + " " + room.gameId;
+        broadcastToRoom(room, matchMsg);
+        System.out.println("[SERVER] MATCHED " + mode + ": " + matchMsg);
+
+        // 첫 턴 브로드캐스트 (턴 시계 시작)
+        room.lock.lock();
+        try {
+            broadcastTurn(room);
+        } finally {
+            room.lock.unlock();
         }
     }
 
@@ -0,0 +1,27 @@
+package com.omokpang.net;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/** MatchQueue
+ * 역할: 한 모드의 매칭 대기열 정책(누구와 누구를 묶을지)을 추상화.
+ * 구현체: FifoMatchQueue(들어온 순서), RatingMatchQueue(포인트가 가까운 순서).
+ * 동시성: add/remove 는 여러 스레드에서 호출될 수 있고, drainRooms 는 한 번에 한 스레드만 호출한다.
+ */
+interface MatchQueue {
+
+    /** 대기열에 넣는다. 이미 대기 중이면 false */
+    boolean add(String nick);
+
+    /** 대기열에서 뺀다. (없으면 무시) */
+    void remove(String nick);
+
+    /** 현재 대기 인원 */
+    int size();
+
+    /**
+     * 지금 만들 수 있는 방들을 대기열에서 꺼내 돌려준다. 각 배열의 길이는 roomSize, [0] 이 선공.
+     *  - isOnline 을 통과하지 못한 닉네임은 버린다.
+     */
+    List<String[]> drainRooms(int roomSize, Predicate<String> isOnline);
+}
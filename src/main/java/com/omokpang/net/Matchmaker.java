@@ -0,0 +1,190 @@
+package com.omokpang.net;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/** Matchmaker
+ * 역할: 모드별(1v1 / 1v1v1v1 / 2v2) 매칭 대기열 관리 및 방 구성.
+ * 핵심기능: 모드마다 독립된 대기열(MatchQueue) 을 두고, 대기 인원이 방 크기(k) 이상이면
+ *          한 번에 만들 수 있는 방(최대 N/k 개)을 모두 묶어서 만든다.
+ * 정책: 누구끼리 묶을지는 MatchQueue 구현체가 정한다. (FIFO / 레이팅)
+ * 동시성: 한 모드의 방 구성은 한 스레드만 수행(forming 플래그), 다른 모드의 입장은 서로 막지 않는다.
+ * 틱 모드: start(tickMillis) 이후에는 입장한 스레드가 방을 만들지 않고,
+ *         전용 스케줄러 스레드가 주기마다 모든 모드를 한꺼번에 비우고 MATCH 를 몰아서 보낸다.
+ */
+public class Matchmaker {
+
+    /** 방이 하나 구성될 때 호출된다. players[0] 이 선공 */
+    @FunctionalInterface
+    public interface MatchListener {
+        void onMatched(String mode, String[] players);
+    }
+
+    private final Map<String, ModeQueue> queues = new ConcurrentHashMap<>();
+    private final Predicate<String> isOnline;
+    private final Supplier<MatchQueue> queueFactory;
+    private final MatchListener listener;
+
+    // 틱 스케줄러 (null 이면 입장 즉시 방 구성)
+    private volatile ScheduledExecutorService ticker;
+
+    public Matchmaker(Predicate<String> isOnline, MatchListener listener) {
+        this(isOnline, FifoMatchQueue::new, listener);
+    }
+
+    public Matchmaker(Predicate<String> isOnline, Supplier<MatchQueue> queueFactory, MatchListener listener) {
+        this.isOnline = isOnline;
+        this.queueFactory = queueFactory;
+        this.listener = listener;
+    }
+
+    /** 모드 등록 (서버 시작 시 한 번) */
+    public Matchmaker mode(String mode, int roomSize) {
+        queues.put(mode, new ModeQueue(mode, roomSize, queueFactory.get()));
+        return this;
+    }
+
+    /**
+     * 주기적으로 방을 구성하는 전용 스레드를 시작한다.
+     *  - 소켓 읽기 스레드에서는 대기열에 넣기만 하고, 매칭 비용은 이 스레드가 부담
+     *  - tickMillis <= 0 이면 기존처럼 입장 시점에 바로 구성
+     */
+    public synchronized void start(long tickMillis) {
+        if (ticker != null || tickMillis <= 0) return;
+
+        ScheduledExecutorService ses = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "omok-match");
+            t.setDaemon(true);
+            return t;
+        });
+        ses.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        ticker = ses;
+        System.out.println("[SERVER] matchmaking tick: " + tickMillis + "ms");
+    }
+
+    /** 틱 스레드를 멈춘다 (진행 중인 틱은 끝날 때까지 기다림). 이후 입장은 다시 입장 시점에 바로 구성 */
+    public synchronized void stop() throws InterruptedException {
+        ScheduledExecutorService ses = ticker;
+        if (ses == null) return;
+
+        ticker = null;
+        ses.shutdown();
+        ses.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    // 한 틱: 모든 모드의 대기열을 먼저 비워 방 목록을 만든 뒤, MATCH 를 한 번에 내보낸다
+    private void tick() {
+        try {
+            List<String> modes = new ArrayList<>();
+            List<String[]> rooms = new ArrayList<>();
+
+            for (ModeQueue q : queues.values()) {
+                for (String[] players : q.drainIfReady()) {
+                    modes.add(q.mode);
+                    rooms.add(players);
+                }
+            }
+
+            for (int i = 0; i < rooms.size(); i++) {
+                listener.onMatched(modes.get(i), rooms.get(i));
+            }
+        } catch (Exception e) {
+            // 예외가 나가면 스케줄이 멈추므로 여기서 막는다
+            e.printStackTrace();
+        }
+    }
+
+    /** 대기열에 넣는다. 모르는 모드이거나 이미 대기 중이면 false */
+    public boolean enqueue(String mode, String nick) {
+        ModeQueue q = queues.get(mode);
+        if (q == null) return false;
+
+        if (!q.add(nick)) return false;
+        System.out.println("[SERVER] QUEUE " + mode + ": " + nick +
+                " (현재 대기: " + q.size() + ")");
+
+        // 틱 모드면 다음 틱에서 구성된다
+        if (ticker == null) {
+            q.formRooms();
+        }
+        return true;
+    }
+
+    /** 모든 모드 대기열에서 제거 (접속 종료 시) */
+    public void remove(String nick) {
+        for (ModeQueue q : queues.values()) {
+            q.remove(nick);
+        }
+    }
+
+    // ====================== 모드별 대기열 ======================
+
+    private class ModeQueue {
+
+        private final String mode;
+        private final int roomSize;
+
+        // 매칭 정책 (FIFO / 레이팅)
+        private final MatchQueue queue;
+
+        // 이 모드의 방 구성을 진행 중인지
+        private final AtomicBoolean forming = new AtomicBoolean(false);
+
+        ModeQueue(String mode, int roomSize, MatchQueue queue) {
+            this.mode = mode;
+            this.roomSize = roomSize;
+            this.queue = queue;
+        }
+
+        boolean add(String nick) {
+            return queue.add(nick);
+        }
+
+        void remove(String nick) {
+            queue.remove(nick);
+        }
+
+        int size() {
+            return queue.size();
+        }
+
+        /**
+         * 대기 인원으로 만들 수 있는 방을 한 번에 모두 만든다.
+         *  - 다른 스레드가 구성 중이면 바로 반환 (그 스레드가 끝나고 다시 확인함)
+         *  - 인원은 충분해도 정책상 묶을 수 없으면(레이팅 범위 밖) 다음 입장 때 다시 시도
+         */
+        void formRooms() {
+            while (size() >= roomSize && forming.compareAndSet(false, true)) {
+                List<String[]> rooms;
+                try {
+                    rooms = queue.drainRooms(roomSize, isOnline);
+                } finally {
+                    forming.set(false);
+                }
+                if (rooms.isEmpty()) return;
+
+                for (String[] players : rooms) {
+                    listener.onMatched(mode, players);
+                }
+            }
+        }
+
+        // 틱 스레드용: 구성할 수 있는 만큼 잘라서 돌려준다 (다른 스레드가 구성 중이면 빈 목록)
+        List<String[]> drainIfReady() {
+            if (size() < roomSize || !forming.compareAndSet(false, true)) return List.of();
+            try {
+                return queue.drainRooms(roomSize, isOnline);
+            } finally {
+                forming.set(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.omokpang.net;
+
+/** MessageArgs
+ * 역할: "PLACE 7 8" 같은 공백 구분 메시지의 인자를 앞에서부터 읽는 커서.
+ * 핵심기능: split / Integer.parseInt 없이 좌표(int)를 바로 파싱 → 객체 할당 없음.
+ * 사용법: 연결(또는 화면)마다 하나 만들어 두고 reset(line) 으로 재사용한다.
+ * 바이너리: resetFrame(frame) 으로 받은 좌표 프레임은 줄로 되돌리지 않고 풀어 둔 좌표를 바로 읽는다.
+ *          (line() 을 부를 때만 줄을 만든다)
+ */
+public class MessageArgs {
+
+    private String line = "";
+    private int commandEnd;
+    private int pos;
+
+    // 바이너리로 받은 원본 프레임 (텍스트로 받았으면 null)
+    private byte[] frame;
+    // 좌표 프레임일 때 풀어 둔 좌표 (packedCount < 0 이면 텍스트 커서 사용)
+    private final int[] packed = new int[8];
+    private int packedCount = -1;
+    private int packedPos;
+
+    /** 새 줄로 커서를 초기화. 명령어(첫 토큰) 바로 뒤에서 시작한다. */
+    public MessageArgs reset(String line) {
+        this.line = line;
+        int sp = line.indexOf(' ');
+        this.commandEnd = (sp < 0) ? line.length() : sp;
+        this.pos = commandEnd;
+        this.frame = null;
+        this.packedCount = -1;
+        return this;
+    }
+
+    /** 바이너리 프레임(WireCodec)으로 초기화. 좌표 프레임은 줄을 만들지 않고 좌표만 풀어 둔다 */
+    MessageArgs resetFrame(byte[] frame) {
+        int opcode = WireCodec.opcode(frame);
+        int layout = WireCodec.layout(opcode);
+
+        if (layout == WireCodec.NONE || layout == WireCodec.COORDS) {
+            String command = WireCodec.command(opcode);
+            this.line = (layout == WireCodec.NONE) ? command : null;
+            this.commandEnd = command.length();
+            this.pos = commandEnd;
+            this.packedCount = (layout == WireCodec.COORDS) ? WireCodec.unpackCoords(frame, packed) : -1;
+            this.packedPos = 0;
+        } else {
+            reset(WireCodec.decodeLine(frame));
+        }
+        this.frame = frame;
+        return this;
+    }
+
+    /** 명령어(첫 토큰)가 끝나는 위치 → CommandTable.find(command(), commandEnd()) 에 사용 */
+    public int commandEnd() {
+        return commandEnd;
+    }
+
+    /** 명령어 조회용 문자열 (앞 commandEnd() 글자가 명령어). 좌표 프레임이면 줄을 만들지 않는다 */
+    public String command() {
+        return (line != null) ? line : WireCodec.command(WireCodec.opcode(frame));
+    }
+
+    public String line() {
+        if (line == null) line = WireCodec.decodeLine(frame);
+        return line;
+    }
+
+    /** 바이너리로 받은 원본 프레임 (텍스트로 받았으면 null) → 릴레이 시 재인코딩 없이 재사용 */
+    byte[] frame() {
+        return frame;
+    }
+
+    /** 아직 읽지 않은 토큰 수 */
+    public int remainingTokens() {
+        if (packedCount >= 0) return packedCount - packedPos;
+
+        int count = 0;
+        int i = pos;
+        int n = line.length();
+        while (i < n) {
+            while (i < n && isSpace(line.charAt(i))) i++;
+            if (i >= n) break;
+            count++;
+            while (i < n && !isSpace(line.charAt(i))) i++;
+        }
+        return count;
+    }
+
+    /** 다음 토큰을 int 로 읽는다. 숫자가 아니면 NumberFormatException */
+    public int nextInt() {
+        if (packedCount >= 0) {
+            if (packedPos >= packedCount) throw new NumberFormatException("missing number: " + line());
+            return packed[packedPos++];
+        }
+
+        skipSpaces();
+        int n = line.length();
+        if (pos >= n) throw new NumberFormatException("missing number: " + line);
+
+        boolean negative = false;
+        if (line.charAt(pos) == '-') {
+            negative = true;
+            pos++;
+        }
+
+        // 음수 쪽이 1 더 넓으므로 음수로 누적하고, int 범위를 넘으면 NumberFormatException
+        long limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int start = pos;
+        long value = 0;
+        while (pos < n && !isSpace(line.charAt(pos))) {
+            int d = line.charAt(pos) - '0';
+            if (d < 0 || d > 9) throw new NumberFormatException("not a number: " + line);
+            value = value * 10 - d;
+            if (value < limit) throw new NumberFormatException("out of int range: " + line);
+            pos++;
+        }
+        if (pos == start) throw new NumberFormatException("not a number: " + line);
+
+        return (int) (negative ? value : -value);
+    }
+
+    /** 다음 토큰을 문자열로 읽는다. 없으면 null */
+    public String nextToken() {
+        if (packedCount >= 0) {
+            return (packedPos < packedCount) ? String.valueOf(packed[packedPos++]) : null;
+        }
+
+        skipSpaces();
+        int n = line.length();
+        if (pos >= n) return null;
+
+        int start = pos;
+        while (pos < n && !isSpace(line.charAt(pos))) pos++;
+        return line.substring(start, pos);
+    }
+
+    /** 구분 공백 하나를 건너뛴 나머지 전부 (예: CHEER 의 본문) */
+    public String rest() {
+        if (packedCount >= 0) {
+            StringBuilder sb = new StringBuilder();
+            while (packedPos < packedCount) {
+                if (sb.length() > 0) sb.append(' ');
+                sb.append(packed[packedPos++]);
+            }
+            return sb.toString();
+        }
+
+        int start = pos;
+        if (start < line.length() && isSpace(line.charAt(start))) start++;
+        pos = line.length();
+        return line.substring(Math.min(start, line.length()));
+    }
+
+    private void skipSpaces() {
+        int n = line.length();
+        while (pos < n && isSpace(line.charAt(pos))) pos++;
+    }
+
+    private static boolean isSpace(char ch) {
+        return ch == ' ' || ch == '\t';
+    }
+}
@@ -0,0 +1,327 @@
+package com.omokpang.net;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/** NioServer
+ * 역할: ServerSocketChannel/Selector 기반의 논블로킹 GameServer 접속 처리기.
+ * 핵심기능: accept 스레드 1개 + 고정 개수의 I/O 루프가 모든 소켓을 나눠서 처리.
+ * 프로토콜: 기존과 같은 줄 단위 텍스트(LOGIN, QUEUE, PLACE, TURN_END ...)를 그대로 사용하고
+ *          한 줄이 완성되면 GameServer.handleLine 으로 넘긴다.
+ *          PROTO BIN 협상을 마친 연결은 프레임 하나가 완성될 때마다 GameServer.handleFrame 으로 넘긴다.
+ */
+public class NioServer {
+
+    // 한 줄 최대 길이 (이보다 길면 비정상 클라이언트로 보고 연결 종료)
+    private static final int MAX_LINE_BYTES = 4096;
+
+    // 읽기 버퍼: 가장 긴 줄 / 가장 긴 바이너리 프레임(길이 필드 2바이트 포함)이 들어갈 크기
+    private static final int READ_BUFFER_BYTES = Math.max(MAX_LINE_BYTES, WireCodec.MAX_BODY_BYTES + 2);
+
+    // 연결별 쓰기 버퍼 크기
+    private static final int WRITE_BUFFER_BYTES = 8192;
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final int port;
+    private final IoLoop[] loops;
+
+    public NioServer(int port, int ioThreads) {
+        this.port = port;
+        this.loops = new IoLoop[ioThreads];
+    }
+
+    /** accept 루프를 현재 스레드에서 실행한다. (반환하지 않음) */
+    public void run() throws IOException {
+        for (int i = 0; i < loops.length; i++) {
+            loops[i] = new IoLoop(i);
+            Thread t = new Thread(loops[i], "omok-io-" + i);
+            t.setDaemon(true);
+            t.start();
+        }
+
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(port));
+            System.out.println("[SERVER] NIO mode: " + loops.length + " I/O loop(s)");
+
+            int next = 0;
+            while (true) {
+                SocketChannel ch = server.accept(); // accept 자체는 blocking 으로 충분
+                if (ch == null) continue;
+
+                ch.configureBlocking(false);
+                ch.socket().setTcpNoDelay(true);
+                System.out.println("[SERVER] New client connected: " + ch.getRemoteAddress());
+
+                // 라운드로빈으로 I/O 루프에 배정
+                loops[next].register(ch);
+                next = (next + 1) % loops.length;
+            }
+        }
+    }
+
+    // ====================== I/O 루프 ======================
+
+    private static class IoLoop implements Runnable {
+
+        private final int id;
+        private final Selector selector;
+
+        // 다른 스레드에서 넘겨받은 신규 채널 / 쓰기 요청
+        private final Queue<SocketChannel> pendingRegistrations = new ConcurrentLinkedQueue<>();
+        private final Queue<NioConnection> pendingWrites = new ConcurrentLinkedQueue<>();
+
+        IoLoop(int id) throws IOException {
+            this.id = id;
+            this.selector = Selector.open();
+        }
+
+        void register(SocketChannel ch) {
+            pendingRegistrations.add(ch);
+            selector.wakeup();
+        }
+
+        void requestWrite(NioConnection conn) {
+            pendingWrites.add(conn);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                try {
+                    selector.select();
+                    processRegistrations();
+                    processPendingWrites();
+
+                    Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                    while (it.hasNext()) {
+                        SelectionKey key = it.next();
+                        it.remove();
+
+                        NioConnection conn = (NioConnection) key.attachment();
+                        if (conn == null) continue;
+                        if (!key.isValid()) {
+                            conn.closeNow();
+                            continue;
+                        }
+
+                        try {
+                            if (key.isReadable()) conn.onReadable();
+                            if (key.isValid() && key.isWritable()) conn.onWritable();
+                        } catch (IOException | RuntimeException e) {
+                            conn.closeNow();
+                        }
+                    }
+                } catch (Exception e) {
+                    System.out.println("[SERVER] I/O loop " + id + " error: " + e.getMessage());
+                }
+            }
+        }
+
+        private void processRegistrations() {
+            SocketChannel ch;
+            while ((ch = pendingRegistrations.poll()) != null) {
+                try {
+                    NioConnection conn = new NioConnection(this, ch);
+                    conn.key = ch.register(selector, SelectionKey.OP_READ, conn);
+                    conn.send("WELCOME OmokPang!");
+                    GameServer.onConnect(conn);
+                } catch (IOException e) {
+                    try {
+                        ch.close();
+                    } catch (IOException ignored) {}
+                }
+            }
+        }
+
+        private void processPendingWrites() {
+            NioConnection conn;
+            while ((conn = pendingWrites.poll()) != null) {
+                try {
+                    conn.onWritable();
+                } catch (IOException | RuntimeException e) {
+                    conn.closeNow();
+                }
+            }
+        }
+    }
+
+    // ====================== 연결 ======================
+
+    static class NioConnection extends ClientConnection {
+
+        private final IoLoop loop;
+        private final SocketChannel channel;
+        private SelectionKey key;
+
+        // 읽기 버퍼: 줄바꿈(바이너리면 프레임 끝)이 올 때까지 누적
+        private final ByteBuffer readBuf = ByteBuffer.allocate(READ_BUFFER_BYTES);
+        // 쓰기 버퍼: 대기 중인 메시지를 모아서 한 번에 write
+        private final ByteBuffer writeBuf = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+        // 지금 소켓으로 내보내는 중인 버퍼 (보통 writeBuf, 아주 긴 메시지면 그 메시지 자체)
+        private ByteBuffer current = EMPTY;
+
+        // 송신 대기열(outbox)은 ClientConnection 에 있고, I/O 루프에 한 번만 깨우도록 요청한다
+        private final AtomicBoolean writeRequested = new AtomicBoolean(false);
+
+        // 대기열 초과로 강제 종료 요청됨 (남은 데이터를 보내지 않고 바로 닫는다)
+        private volatile boolean aborted;
+
+        NioConnection(IoLoop loop, SocketChannel channel) {
+            this.loop = loop;
+            this.channel = channel;
+        }
+
+        @Override
+        protected void requestFlush() {
+            if (writeRequested.compareAndSet(false, true)) {
+                loop.requestWrite(this);
+            }
+        }
+
+        @Override
+        public void close() {
+            // 실제 정리는 I/O 루프에서: 남은 데이터를 밀어낸 뒤 닫히도록 요청만 남긴다
+            if (!markClosed()) return;
+            loop.requestWrite(this);
+        }
+
+        @Override
+        protected void abort() {
+            aborted = true;
+            markClosed();
+            discardFrames();
+            loop.requestWrite(this);
+        }
+
+        // ---------- 읽기 ----------
+
+        void onReadable() throws IOException {
+            int n = channel.read(readBuf);
+            if (n < 0) {
+                closeNow();
+                return;
+            }
+
+            readBuf.flip();
+            // PROTO 협상 직후엔 같은 버퍼 안에서 텍스트 → 바이너리로 바뀔 수 있어 한 건씩 모드를 다시 본다
+            while (readBuf.hasRemaining()) {
+                if (isBinary()) {
+                    byte[] frame = WireCodec.sliceFrame(readBuf); // 길이가 비정상이면 IOException → 종료
+                    if (frame == null) break;
+                    GameServer.handleFrame(this, frame);
+                } else {
+                    String line = sliceLine();
+                    if (line == null) break;
+                    GameServer.handleLine(this, line);
+                }
+                if (isClosed()) return; // close() 요청됨: 남은 쓰기를 밀어낸 뒤 닫힌다
+            }
+            readBuf.compact();
+
+            // 버퍼가 가득 찼는데도 줄바꿈이 없으면 비정상 입력
+            if (!readBuf.hasRemaining()) {
+                System.out.println("[SERVER] line too long, closing: " + this);
+                closeNow();
+            }
+        }
+
+        // readBuf 의 position 부터 완성된 한 줄을 잘라 반환 (줄바꿈이 아직 없으면 null, position 그대로)
+        private String sliceLine() {
+            int start = readBuf.position();
+            for (int i = start; i < readBuf.limit(); i++) {
+                if (readBuf.get(i) != '\n') continue;
+
+                int end = i;
+                if (end > start && readBuf.get(end - 1) == '\r') end--;
+
+                readBuf.position(i + 1);
+                return new String(readBuf.array(), start, end - start, StandardCharsets.UTF_8);
+            }
+            return null;
+        }
+
+        // ---------- 쓰기 ----------
+
+        void onWritable() throws IOException {
+            writeRequested.set(false);
+            if (!key.isValid()) return;
+            if (aborted) {
+                closeNow();
+                return;
+            }
+
+            while (true) {
+                if (!current.hasRemaining()) {
+                    if (!fillWriteBuffer()) break;
+                }
+                channel.write(current);
+                if (current.hasRemaining()) {
+                    // 소켓 송신 버퍼가 가득 참 → OP_WRITE 로 다음 기회를 기다린다
+                    key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                    return;
+                }
+            }
+
+            key.interestOps(SelectionKey.OP_READ);
+            if (isClosed()) closeNow();
+        }
+
+        // outbox 에 쌓인 메시지를 가능한 만큼 모아 current 로 만든다 (보낼 게 있으면 true)
+        private boolean fillWriteBuffer() {
+            byte[] frame = peekFrame();
+            if (frame == null) return false;
+
+            // 버퍼보다 큰 메시지는 단독으로 내보낸다
+            if (frame.length > writeBuf.capacity()) {
+                pollFrame();
+                current = ByteBuffer.wrap(frame);
+                return true;
+            }
+
+            writeBuf.clear();
+            while ((frame = peekFrame()) != null && frame.length <= writeBuf.remaining()) {
+                pollFrame();
+                writeBuf.put(frame);
+            }
+            writeBuf.flip();
+            current = writeBuf;
+            return true;
+        }
+
+        void closeNow() {
+            markClosed();
+            if (key == null) return;
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException ignored) {}
+
+            if (key.attachment() != null) {
+                key.attach(null);
+                System.out.println("[SERVER] client disconnected: " + this);
+                GameServer.onDisconnect(this);
+            }
+        }
+
+        @Override
+        public String toString() {
+            try {
+                return "NioConnection[" + channel.getRemoteAddress() + "]";
+            } catch (Exception e) {
+                return "NioConnection[closed]";
+            }
+        }
+    }
+}
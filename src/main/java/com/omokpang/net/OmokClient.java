@@ -1,17 +1,25 @@
 package com.omokpang.net;
 
+import com.omokpang.service.LeaderboardService;
 import javafx.application.Platform;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
 import java.util.function.Consumer;
 
 /** OmokClient
  * 역할: JavaFX 클라이언트에서 서버와 통신하는 싱글톤 네트워크 모듈.
  * 핵심기능: 서버 연결(connect) / 메시지 전송(send) / 수신 메시지 핸들러 전달.
  * UI 연동: 수신 스레드에서 Platform.runLater 로 컨트롤러에 콜백 전달.
+ * 프로토콜: 연결 직후 PROTO BIN 으로 바이너리 프레임(WireCodec)을 협상한다. 서버가 받아 주지 않으면 텍스트 유지.
+ *          UI 에는 어느 모드든 같은 텍스트 한 줄로 전달된다.
+ *          환경변수 OMOK_PROTOCOL = binary(기본) | text
+ * 하트비트: 서버가 보내는 PING 에는 수신 스레드에서 바로 PONG 으로 답한다 (UI 로는 전달하지 않음).
+ * 정산: 서버가 게임 결과를 DB 에 커밋하면 SETTLED <gameId> 가 온다 → 랭킹 캐시(LeaderboardService)를 비운다.
+ * 재접속: 게임 중에 끊기면 OMOK_RECONNECT_SECONDS(기본 20) 동안 다시 붙어서 RESUME 으로 놓친 이벤트만 받는다.
  */
 public class OmokClient {
 
@@ -24,11 +32,42 @@ public class OmokClient {
         return instance;
     }
 
+    // PROTO 응답을 기다리는 최대 시간
+    private static final int HANDSHAKE_TIMEOUT_MS = 3000;
+
+    // 게임 중 연결이 끊기면 이 시간 동안 1초 간격으로 재접속 + RESUME 을 시도 (서버 resume-grace-ms 보다 짧게)
+    private static final int RECONNECT_SECONDS = envInt("OMOK_RECONNECT_SECONDS", 20);
+
+    // 방 이벤트 순번에 세지 않는 메시지 (방 전체가 아니라 이 연결에만 오는 응답 / 버려질 수 있는 CHEER)
+    private static final CommandTable<Boolean> OUT_OF_ROOM = new CommandTable<Boolean>()
+            .on("WELCOME", true)
+            .on("ECHO:", true)
+            .on("PROTO_OK", true)
+            .on("CHEER", true)
+            .on("RESUME_OK", true)
+            .on("RESUME_FAIL", true)
+            .on("SETTLED", true)
+            .on("RANK", true)
+            .on(BoardSnapshot.COMMAND, true);
+
+    private String host;
+    private int port;
+
     private Socket socket;
-    private BufferedReader in;
-    private PrintWriter out;
+    private FrameReader in;
+    private OutputStream out;
 
-    private boolean connected = false;
+    private volatile boolean connected = false;
+    // close() 로 직접 닫음 → 재접속하지 않는다
+    private volatile boolean closedByUser = false;
+
+    // PROTO BIN 협상 성공 → 송수신 모두 바이너리 프레임
+    private volatile boolean binary = false;
+
+    // 재접속 시 다시 보낼 로그인 닉네임 / 진행 중인 게임 ID 와 지금까지 받은 방 이벤트 수 (수신 스레드에서만 갱신)
+    private volatile String nickname;
+    private String gameId;
+    private long roomSeq;
 
     // 서버 → 클라이언트로 오는 문자열을 UI 쪽으로 전달하기 위한 핸들러
     private Consumer<String> messageHandler;
@@ -44,37 +83,205 @@ public class OmokClient {
     public void connect(String host, int port) throws Exception {
         if (connected) return;
 
+        this.host = host;
+        this.port = port;
+        closedByUser = false;
+        open();
+        startListener();
+    }
+
+    // 소켓을 열고 (설정돼 있으면) 바이너리 프로토콜까지 협상
+    private void open() throws IOException {
         socket = new Socket(host, port);
-        in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
-        out = new PrintWriter(socket.getOutputStream(), true);
+        socket.setTcpNoDelay(true);
+        in = new FrameReader(socket.getInputStream());
+        out = new BufferedOutputStream(socket.getOutputStream());
+        binary = false;
         connected = true;
 
         System.out.println("[CLIENT] Connected to " + host + ":" + port);
 
-        // 서버로부터 계속 읽는 스레드 시작
+        if (wantsBinary()) {
+            try {
+                negotiateBinary();
+            } catch (IOException e) {
+                closeSocket();
+                throw e;
+            }
+        }
+    }
+
+    // 서버로부터 계속 읽는 스레드 시작. 게임 중에 끊기면 같은 스레드에서 재접속을 시도한다
+    private void startListener() {
         Thread listener = new Thread(() -> {
             try {
-                String line;
-                while (connected && (line = in.readLine()) != null) {
-                    System.out.println("[CLIENT] recv: " + line);
-                    if (messageHandler != null) {
-                        String msg = line;
-                        Platform.runLater(() -> messageHandler.accept(msg));
+                while (connected) {
+                    String line;
+                    if (binary) {
+                        byte[] frame = in.readFrame();
+                        if (frame == null) break;
+                        // 화면 컨트롤러는 줄(String) 단위로 처리하므로 클라이언트는 프레임을 줄로 되돌린다
+                        //  (한 사람이 받는 메시지는 초당 몇 개 수준, 바이너리 처리는 서버 relay 경로에만 적용)
+                        line = WireCodec.decodeLine(frame);
+                    } else {
+                        line = in.readLine();
+                        if (line == null) break;
                     }
+                    deliver(line);
                 }
             } catch (Exception e) {
                 System.out.println("[CLIENT] connection closed.");
-                connected = false;
             }
-        });
+            connected = false;
+
+            if (!closedByUser && gameId != null) {
+                resume();
+            }
+        }, "omok-client-listener");
         listener.setDaemon(true);
         listener.start();
     }
 
-    // 간단 문자열 전송
+    /**
+     * 끊긴 게임으로 돌아가기: 재접속 → LOGIN → RESUME <gameId> <받은 방 이벤트 수>.
+     * 서버가 놓친 이벤트만 이어서 보내 주므로 화면(GameBoardController)은 그대로 두고 받은 메시지만 처리하면 된다.
+     */
+    private void resume() {
+        for (int attempt = 1; attempt <= RECONNECT_SECONDS && !closedByUser; attempt++) {
+            try {
+                Thread.sleep(1000);
+                open();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                System.out.println("[CLIENT] reconnect attempt " + attempt + " failed: " + e.getMessage());
+                continue;
+            }
+
+            send("LOGIN " + nickname);
+            send("RESUME " + gameId + " " + roomSeq);
+            System.out.println("[CLIENT] RESUME " + gameId + " after seq " + roomSeq);
+            startListener();
+            return;
+        }
+        System.out.println("[CLIENT] gave up reconnecting to game " + gameId);
+    }
+
+    private static boolean wantsBinary() {
+        String v = System.getenv("OMOK_PROTOCOL");
+        return v == null || v.isBlank() || !v.trim().equalsIgnoreCase("text");
+    }
+
+    private static int envInt(String key, int defaultValue) {
+        String v = System.getenv(key);
+        if (v == null || v.isBlank()) return defaultValue;
+        try {
+            return Integer.parseInt(v.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * PROTO BIN <version> 을 보내고 응답이 올 때까지 이 스레드에서 기다린다.
+     *  - PROTO_OK BIN → 이후 바이너리
+     *  - PROTO_OK TEXT / ECHO (PROTO 를 모르는 서버) → 텍스트 유지
+     *  - 응답 전에 온 줄(WELCOME 등)은 그대로 UI 로 전달
+     */
+    private void negotiateBinary() throws IOException {
+        writeFrame(ClientConnection.encodeLine("PROTO BIN " + WireCodec.VERSION));
+
+        socket.setSoTimeout(HANDSHAKE_TIMEOUT_MS);
+        try {
+            while (true) {
+                String line = in.readLine();
+                if (line == null) throw new IOException("connection closed during handshake");
+
+                if (line.startsWith("PROTO_OK BIN")) {
+                    binary = true;
+                    System.out.println("[CLIENT] binary protocol v" + WireCodec.VERSION);
+                    return;
+                }
+                if (line.startsWith("PROTO_OK") || line.startsWith("ECHO: PROTO")) {
+                    System.out.println("[CLIENT] server kept text protocol");
+                    return;
+                }
+                deliver(line);
+            }
+        } catch (SocketTimeoutException e) {
+            // 응답 없이 바이너리로 바뀌었을 수도 있으므로 이 연결은 쓰지 않는다
+            throw new IOException("protocol handshake timed out", e);
+        } finally {
+            socket.setSoTimeout(0);
+        }
+    }
+
+    private void deliver(String line) {
+        if ("PING".equals(line)) {
+            send("PONG");
+            return;
+        }
+        if (line.startsWith("SETTLED")) {
+            // 포인트가 DB 에 반영됐으니 랭킹은 다음 조회 때 새로
+            LeaderboardService.getInstance().invalidate();
+        }
+        System.out.println("[CLIENT] recv: " + line);
+        trackRoomEvent(line);
+
+        Consumer<String> handler = messageHandler;
+        if (handler != null) {
+            Platform.runLater(() -> handler.accept(line));
+        }
+    }
+
+    // RESUME 용 순번 세기: MATCH 가 1번, 이후 방 이벤트마다 +1. GAME_OVER 를 받으면 더 이상 돌아갈 게임이 없다
+    private void trackRoomEvent(String line) {
+        int sp = line.indexOf(' ');
+        int cmdEnd = (sp < 0) ? line.length() : sp;
+
+        if (line.startsWith("MATCH ")) {
+            gameId = line.substring(line.lastIndexOf(' ') + 1);
+            roomSeq = 1;
+            return;
+        }
+        if (line.startsWith(BoardSnapshot.COMMAND + " ")) {
+            // SNAPSHOT <gameId> <seq> ... : 상태를 통째로 받았으므로 순번도 서버 값으로 맞춘다
+            MessageArgs args = new MessageArgs().reset(line);
+            gameId = args.nextToken();
+            roomSeq = args.nextInt();
+            return;
+        }
+        if (line.startsWith("RESUME_FAIL")) {
+            System.out.println("[CLIENT] server could not resume game " + gameId);
+            gameId = null;
+            return;
+        }
+        if (gameId == null || OUT_OF_ROOM.find(line, cmdEnd) != null) return;
+
+        roomSeq++;
+        if (line.startsWith("GAME_OVER")) {
+            gameId = null;
+        }
+    }
+
+    // 간단 문자열 전송 (협상된 모드로 인코딩)
     public void send(String msg) {
         if (!connected) return;
-        out.println(msg);
+        if (msg.startsWith("LOGIN ")) {
+            nickname = msg.substring("LOGIN ".length()).trim();
+        }
+        try {
+            writeFrame(binary ? WireCodec.encode(msg) : ClientConnection.encodeLine(msg));
+        } catch (IOException e) {
+            System.out.println("[CLIENT] send failed: " + e.getMessage());
+        }
+    }
+
+    // UI 스레드 / 협상 스레드에서 동시에 쓸 수 있으므로 프레임 단위로 묶는다
+    private synchronized void writeFrame(byte[] frame) throws IOException {
+        out.write(frame);
+        out.flush();
     }
 
     public boolean isConnected() {
@@ -82,6 +289,11 @@ public class OmokClient {
     }
 
     public void close() {
+        closedByUser = true;
+        closeSocket();
+    }
+
+    private void closeSocket() {
         connected = false;
         try {
             if (socket != null) socket.close();
@@ -0,0 +1,90 @@
+package com.omokpang.net;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** PinningMonitor
+ * 역할: virtual 모드에서 가상 스레드가 carrier 스레드에 묶이는(pinning) 구간을 JFR 로 감시.
+ * 핵심기능: jdk.VirtualThreadPinned 이벤트를 스트리밍으로 받아 발생 위치를 로그로 남기고,
+ *          주기적으로(그리고 종료 시 한 번 더) 누적 횟수 / 최대 지속시간을 출력한다. (0 이 유지되어야 정상)
+ * 검증: PinningLoadTest 가 virtual 모드 서버에 부하를 건 뒤 종료 요약의 events=0 을 확인한다.
+ */
+public final class PinningMonitor {
+
+    // 요약 출력 주기
+    private static final Duration SUMMARY_PERIOD = Duration.ofSeconds(60);
+
+    private static final AtomicLong pinnedCount = new AtomicLong();
+    private static final AtomicLong maxPinnedNanos = new AtomicLong();
+
+    private static RecordingStream stream;
+    private static ScheduledExecutorService reporter;
+
+    private PinningMonitor() {}
+
+    /** @param threshold 이 시간 이상 묶여 있던 경우만 이벤트로 받는다 (--pin-threshold-ms) */
+    public static synchronized void start(Duration threshold) {
+        if (stream != null) return;
+
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned")
+                .withThreshold(threshold)
+                .withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", PinningMonitor::onPinned);
+
+        stream.startAsync();
+
+        reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "omok-pin-summary");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = SUMMARY_PERIOD.toSeconds();
+        reporter.scheduleAtFixedRate(PinningMonitor::printSummary, period, period, TimeUnit.SECONDS);
+        // 종료 시 마지막 요약 (부하 테스트가 이 줄을 읽는다)
+        Runtime.getRuntime().addShutdownHook(new Thread(PinningMonitor::printSummary, "omok-pin-summary-final"));
+
+        System.out.println("[SERVER] JFR pinning monitor started (threshold=" +
+                threshold.toMillis() + "ms)");
+    }
+
+    public static long getPinnedCount() {
+        return pinnedCount.get();
+    }
+
+    private static void onPinned(RecordedEvent e) {
+        pinnedCount.incrementAndGet();
+        long nanos = e.getDuration().toNanos();
+        maxPinnedNanos.accumulateAndGet(nanos, Math::max);
+
+        System.out.println("[SERVER] WARN: virtual thread pinned " +
+                (nanos / 1_000_000) + "ms at " + topFrame(e.getStackTrace()));
+    }
+
+    private static void printSummary() {
+        System.out.println("[SERVER] pinning summary: events=" + pinnedCount.get() +
+                ", max=" + (maxPinnedNanos.get() / 1_000_000) + "ms");
+    }
+
+    // 우리 코드(com.omokpang)에 해당하는 첫 프레임을 찾아서 보여준다
+    private static String topFrame(RecordedStackTrace trace) {
+        if (trace == null || trace.getFrames().isEmpty()) return "(no stack)";
+
+        for (RecordedFrame f : trace.getFrames()) {
+            String type = f.getMethod().getType().getName();
+            if (type.startsWith("com.omokpang")) {
+                return type + "." + f.getMethod().getName() + ":" + f.getLineNumber();
+            }
+        }
+        RecordedFrame f = trace.getFrames().get(0);
+        return f.getMethod().getType().getName() + "." + f.getMethod().getName();
+    }
+}
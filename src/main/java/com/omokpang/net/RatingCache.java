@@ -0,0 +1,64 @@
+package com.omokpang.net;
+
+import com.omokpang.repository.DataSourceProvider;
+import com.omokpang.repository.UserRepository;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/** RatingCache
+ * 역할: 레이팅 매칭에 쓰는 닉네임 → 포인트 캐시.
+ * 핵심기능: LOGIN 시점에 UserRepository 로 한 번만 (별도 스레드에서) 읽어 두고,
+ *          매칭 중에는 캐시만 조회한다. 아직 못 읽었거나 DB 를 쓸 수 없으면 0 점으로 본다.
+ *          읽기에 성공한 값만 캐시하므로, DB 에러로 못 읽은 플레이어는 다음 LOGIN 때 다시 읽는다.
+ */
+class RatingCache {
+
+    private final Map<String, Integer> points = new ConcurrentHashMap<>();
+    private final UserRepository userRepository = new UserRepository();
+
+    // DB 조회는 소켓 스레드(특히 NIO I/O 루프)를 막지 않도록 전용 스레드에서
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "omok-rating");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // DB 설정이 없는 환경이면 조회하지 않는다 (모두 0 점)
+    private final boolean dbConfigured = DataSourceProvider.isConfigured();
+
+    RatingCache() {
+        if (!dbConfigured) {
+            System.out.println("[SERVER] WARN: DB not configured, rating lookups disabled (everyone is 0)");
+        }
+    }
+
+    /** 닉네임의 포인트를 비동기로 읽어 캐시에 넣는다. */
+    void preload(String nickname) {
+        if (!dbConfigured || points.containsKey(nickname)) return;
+
+        loader.execute(() -> {
+            try {
+                Integer p = userRepository.findPointsByNickname(nickname);
+                if (p != null) points.putIfAbsent(nickname, p); // 그 사이 정산으로 들어온 값이 더 최신
+            } catch (SQLException | RuntimeException e) {
+                // 캐시하지 않는다 → 다음 LOGIN 때 다시 읽는다
+                System.out.println("[SERVER] WARN: rating lookup failed for " + nickname + " (" + e + ")");
+            }
+        });
+    }
+
+    /** 캐시된 포인트 (없으면 0) */
+    int get(String nickname) {
+        Integer p = points.get(nickname);
+        return p != null ? p : 0;
+    }
+
+    /** 게임 결과 반영으로 포인트가 바뀌었을 때 캐시 갱신. 아직 못 읽은 닉네임은 그대로 둔다 (다음 LOGIN 때 DB 값으로) */
+    void add(String nickname, int delta) {
+        points.computeIfPresent(nickname, (k, p) -> p + delta);
+    }
+}
@@ -0,0 +1,192 @@
+package com.omokpang.net;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/** RatingMatchQueue
+ * 역할: 포인트(레이팅)가 가까운 플레이어끼리 묶는 매칭 대기열.
+ * 핵심기능: 포인트 순 skip list 에서 기준 플레이어 양옆을 O(log n) 으로 탐색해 가장 가까운 상대를 고른다.
+ *          오래 기다릴수록 허용 포인트 차이(window)가 넓어져서 결국에는 누구와도 매칭된다.
+ * 순서: 가장 오래 기다린 플레이어부터 기준으로 삼는다. (방에서 선공도 기준 플레이어)
+ */
+class RatingMatchQueue implements MatchQueue {
+
+    // 대기 중인 플레이어 한 명 (포인트 → 입장 순서로 정렬)
+    private static final class Entry implements Comparable<Entry> {
+        final String nick;
+        final int points;
+        final long seq;
+        final long joinedAt;
+
+        Entry(String nick, int points, long seq, long joinedAt) {
+            this.nick = nick;
+            this.points = points;
+            this.seq = seq;
+            this.joinedAt = joinedAt;
+        }
+
+        @Override
+        public int compareTo(Entry o) {
+            if (points != o.points) return Integer.compare(points, o.points);
+            return Long.compare(seq, o.seq);
+        }
+    }
+
+    private final ToIntFunction<String> ratingOf;
+    private final int baseWindow;
+    private final int windowPerSecond;
+    // 대기 시간 측정용 시계 (nanoTime 단위, 시뮬레이션 / 테스트에서는 가짜 시계)
+    private final LongSupplier clock;
+
+    private final AtomicLong seq = new AtomicLong();
+
+    // 닉네임 → 현재 대기 항목 (중복 확인 O(1), 인덱스 항목이 최신인지 확인하는 기준)
+    private final Map<String, Entry> members = new ConcurrentHashMap<>();
+
+    // 포인트 순 인덱스
+    private final NavigableSet<Entry> byRating = new ConcurrentSkipListSet<>();
+
+    // 입장 순 인덱스 (오래 기다린 사람부터 기준으로 삼기 위해)
+    private final ConcurrentSkipListMap<Long, Entry> byAge = new ConcurrentSkipListMap<>();
+
+    /**
+     * @param ratingOf        닉네임 → 포인트 (캐시 조회만 해야 한다. DB 조회 금지)
+     * @param baseWindow      처음 허용하는 포인트 차이
+     * @param windowPerSecond 1초 기다릴 때마다 늘어나는 허용 차이
+     */
+    RatingMatchQueue(ToIntFunction<String> ratingOf, int baseWindow, int windowPerSecond) {
+        this(ratingOf, baseWindow, windowPerSecond, System::nanoTime);
+    }
+
+    RatingMatchQueue(ToIntFunction<String> ratingOf, int baseWindow, int windowPerSecond, LongSupplier clock) {
+        this.ratingOf = ratingOf;
+        this.baseWindow = baseWindow;
+        this.windowPerSecond = windowPerSecond;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean add(String nick) {
+        Entry e = new Entry(nick, ratingOf.applyAsInt(nick), seq.incrementAndGet(), clock.getAsLong());
+        if (members.putIfAbsent(nick, e) != null) return false;
+
+        byRating.add(e);
+        byAge.put(e.seq, e);
+        return true;
+    }
+
+    @Override
+    public void remove(String nick) {
+        Entry e = members.remove(nick);
+        if (e != null) unindex(e);
+    }
+
+    @Override
+    public int size() {
+        return members.size();
+    }
+
+    @Override
+    public List<String[]> drainRooms(int roomSize, Predicate<String> isOnline) {
+        List<String[]> rooms = new ArrayList<>();
+        long now = clock.getAsLong();
+
+        for (Entry anchor : byAge.values()) {
+            if (size() < roomSize) break;
+            if (!isLive(anchor, isOnline)) continue;
+
+            Entry[] picked = pickNearest(anchor, roomSize - 1, windowFor(anchor, now), isOnline);
+            if (picked == null) continue; // 아직 범위 안에 상대가 부족 → 다음 틱에 넓어진 범위로 재시도
+
+            String[] players = new String[roomSize];
+            players[0] = anchor.nick;
+            take(anchor);
+            for (int i = 0; i < picked.length; i++) {
+                players[i + 1] = picked[i].nick;
+                take(picked[i]);
+            }
+            rooms.add(players);
+        }
+        return rooms;
+    }
+
+    // 기다린 시간에 비례해 넓어지는 허용 포인트 차이
+    private long windowFor(Entry e, long now) {
+        long waitedSec = TimeUnit.NANOSECONDS.toSeconds(now - e.joinedAt);
+        return baseWindow + waitedSec * windowPerSecond;
+    }
+
+    /**
+     * anchor 양옆에서 포인트 차이가 작은 순으로 need 명을 고른다.
+     *  - 한 걸음마다 lower/higher 한 번 (O(log n))
+     *  - 가장 가까운 후보가 window 를 벗어나면 더 볼 필요 없음 → null
+     */
+    private Entry[] pickNearest(Entry anchor, int need, long window, Predicate<String> isOnline) {
+        Entry[] picked = new Entry[need];
+        int count = 0;
+
+        Entry lo = byRating.lower(anchor);
+        Entry hi = byRating.higher(anchor);
+
+        while (count < need) {
+            if (lo != null && !isLive(lo, isOnline)) {
+                lo = byRating.lower(lo);
+                continue;
+            }
+            if (hi != null && !isLive(hi, isOnline)) {
+                hi = byRating.higher(hi);
+                continue;
+            }
+            if (lo == null && hi == null) return null;
+
+            long dLo = lo == null ? Long.MAX_VALUE : (long) anchor.points - lo.points;
+            long dHi = hi == null ? Long.MAX_VALUE : (long) hi.points - anchor.points;
+
+            Entry next;
+            if (dLo <= dHi) {
+                if (dLo > window) return null;
+                next = lo;
+                lo = byRating.lower(lo);
+            } else {
+                if (dHi > window) return null;
+                next = hi;
+                hi = byRating.higher(hi);
+            }
+            picked[count++] = next;
+        }
+        return picked;
+    }
+
+    // 인덱스 항목이 아직 유효한지 (빠졌거나 재입장으로 바뀐 항목 / 접속 끊긴 플레이어는 정리)
+    private boolean isLive(Entry e, Predicate<String> isOnline) {
+        if (members.get(e.nick) != e) {
+            unindex(e);
+            return false;
+        }
+        if (!isOnline.test(e.nick)) {
+            take(e);
+            return false;
+        }
+        return true;
+    }
+
+    private void take(Entry e) {
+        members.remove(e.nick, e);
+        unindex(e);
+    }
+
+    private void unindex(Entry e) {
+        byRating.remove(e);
+        byAge.remove(e.seq);
+    }
+}
@@ -0,0 +1,133 @@
+package com.omokpang.net;
+
+import com.omokpang.domain.result.GameResult;
+import com.omokpang.repository.DataSourceProvider;
+import com.omokpang.repository.ResultRepository;
+import com.omokpang.service.ResultLedger;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/** ResultSettler
+ * 역할: 서버에서 끝난 판의 결과를 DB 에 정산하는 비동기 실행기.
+ * 핵심기능: 스레드 수(--settle-threads)와 대기열 길이(--settle-queue)가 정해진 실행기에서
+ *          ResultRepository.settleGames 를 실행한다. (방 락을 잡은 스레드는 DB 를 기다리지 않음)
+ *          DB 실패 / 대기열 초과면 ResultLedger(로컬 저널, --result-ledger)에 넘겨 나중에 다시 반영.
+ *          저널 기록(파일 열기 / fsync)도 전용 스레드 하나가 하므로 submit 은 어떤 경우에도 디스크를 기다리지 않는다.
+ *          DB 설정이 없는 환경(DataSourceProvider.isConfigured() == false)이면 시작할 때 한 번 경고하고,
+ *          결과는 DB 에 보내지 않고 저널에만 남긴다. (설정을 고쳐 재시작하면 replayJournal 이 반영)
+ */
+class ResultSettler {
+
+    private final ResultRepository repository = new ResultRepository();
+    private final ThreadPoolExecutor executor;
+    private final Path ledgerPath;
+
+    // DB 에 커밋된 판 알림 (레이팅 캐시 갱신 / SETTLED 전송용, 없으면 null)
+    private final Consumer<GameResult> onSettled;
+
+    private final boolean dbConfigured = DataSourceProvider.isConfigured();
+
+    // 저널로 보낼 판들 (submit 쪽은 넣기만 하고, omok-settle-journal 스레드가 꺼내서 기록)
+    private final BlockingQueue<GameResult> journalQueue = new LinkedBlockingQueue<>();
+
+    private final ReentrantLock ledgerLock = new ReentrantLock();
+    private ResultLedger ledger; // 처음 실패했을 때 연다 (ledgerLock 으로 보호)
+
+    ResultSettler(int threads, int queueSize, Path ledgerPath, Consumer<GameResult> onSettled) {
+        this.ledgerPath = ledgerPath;
+        this.onSettled = onSettled;
+        if (!dbConfigured) {
+            System.out.println("[SETTLE] WARN: DB not configured, journaling results to " + ledgerPath);
+        }
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), r -> {
+            Thread t = new Thread(r, "omok-settle-" + seq.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+
+        Thread journaler = new Thread(this::runJournaler, "omok-settle-journal");
+        journaler.setDaemon(true);
+        journaler.start();
+    }
+
+    /** 결과 정산을 예약한다. 바로 반환 (방 락 안에서 불려도 DB / 디스크를 기다리지 않는다) */
+    void submit(GameResult game) {
+        if (!dbConfigured) {
+            journalQueue.add(game);
+            return;
+        }
+        try {
+            executor.execute(() -> settle(game));
+        } catch (RejectedExecutionException e) {
+            System.out.println("[SETTLE] WARN: settle queue full, journaling game " + game.getGameId());
+            journalQueue.add(game);
+        }
+    }
+
+    private void settle(GameResult game) {
+        try {
+            repository.settleGames(List.of(game), this::notifySettled);
+        } catch (Exception e) {
+            System.out.println("[SETTLE] DB write failed for game " + game.getGameId() + ": " + e);
+            journalQueue.add(game);
+        }
+    }
+
+    private void runJournaler() {
+        try {
+            while (true) {
+                journal(journalQueue.take());
+            }
+        } catch (InterruptedException ignored) {
+        }
+    }
+
+    private void notifySettled(GameResult game) {
+        if (onSettled != null) onSettled.accept(game);
+    }
+
+    // 저널에 남기면 ResultLedger 워커가 DB 가 살아날 때까지 재시도한다 (omok-settle-journal 스레드에서만)
+    private void journal(GameResult game) {
+        ledgerLock.lock();
+        try {
+            if (ledger == null) {
+                ledger = ResultLedger.open(ledgerPath, repository);
+                if (dbConfigured) ledger.start();
+                System.out.println("[SETTLE] result ledger: " + ledger.getPath());
+            }
+            ledger.append(game);
+        } catch (IOException e) {
+            System.out.println("[SETTLE] ERROR: result lost for game " + game + ": " + e);
+        } finally {
+            ledgerLock.unlock();
+        }
+    }
+
+    /** 서버 시작 시: 지난 실행에서 저널에 남은 결과가 있으면 다시 반영 */
+    void replayJournal() {
+        ledgerLock.lock();
+        try {
+            if (ledger != null || !ledgerPath.toFile().exists()) return;
+            ledger = ResultLedger.open(ledgerPath, repository);
+            if (dbConfigured) ledger.start();
+        } catch (IOException e) {
+            System.out.println("[SETTLE] WARN: cannot open result ledger: " + e.getMessage());
+        } finally {
+            ledgerLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.omokpang.net;
+
+import com.omokpang.domain.board.Bitboard;
+import com.omokpang.domain.board.OmokBoard;
+
+/** RoomBoard
+ * 역할: 방(Room) 하나의 서버 기준 오목판 상태. 승패는 서버가 이 보드로 판정한다.
+ * 핵심기능: 돌 두기 / 공용돌 / Bomb(3x3 제거) / Swap / Remove 적용 및 5목 판정, 이번 턴에 남은 수(DoubleMove) 관리.
+ * 판정: 보드 상태와 5목 검사는 domain.board.OmokBoard(비트보드)에 맡긴다.
+ * Shield: 공격(REMOVE/SWAP) 시작 → 대상 좌표 → 방어(SHIELD_BLOCK_*) 가 어떤 순서로 오든
+ *         방어된 공격은 보드에 남지 않도록, 이미 적용된 공격은 되돌린다.
+ * 검증: 둘 수 없는 수(판 밖 / 이미 돌이 있는 칸 / 남은 수 없음 / 빈칸 공용돌 ...)는 INVALID 를 돌려주고
+ *      보드를 바꾸지 않는다. GameServer 는 INVALID 인 수를 릴레이하지 않는다.
+ * 동시성: Room 의 lock 을 잡은 상태에서만 호출한다.
+ */
+class RoomBoard {
+
+    /** 승자 없음 */
+    static final int NO_WINNER = OmokBoard.NO_WINNER;
+
+    /** 규칙상 받을 수 없는 수 (보드는 그대로) */
+    static final int INVALID = -2;
+
+    private final OmokBoard board;
+
+    // 이번 턴에 남은 수 (기본 1, DOUBLE_MOVE_START 면 2). SNAPSHOT 용
+    private int movesLeft = 1;
+
+    // ---------- Shield 처리용 ----------
+    private String pendingAttack;     // "REMOVE" / "SWAP" (진행 중인 공격, 없으면 null)
+    private boolean attackBlocked;    // 이번 공격이 방어됨
+    private int[] undo;               // 이미 적용된 공격을 되돌리기 위한 정보
+
+    RoomBoard(int playerCount, boolean teamMode) {
+        board = new OmokBoard(playerCount);
+        if (teamMode) {
+            // 팀 정보: 0,1,0,1 고정 (MatchSuccessController 와 동일)
+            int[] team = new int[playerCount];
+            for (int i = 0; i < playerCount; i++) {
+                team[i] = i % 2;
+            }
+            board.setTeams(team);
+        }
+    }
+
+    // ====================== 수 적용 ======================
+
+    /** PLACE: playerIdx 가 (r,c) 에 돌을 둔다. 반환: 승자 인덱스 / NO_WINNER / INVALID(남은 수 없음, 둘 수 없는 칸) */
+    int place(int playerIdx, int r, int c) {
+        if (movesLeft <= 0 || !board.place(playerIdx, r, c)) return INVALID;
+        if (movesLeft > 0) movesLeft--;
+        return board.findWinner(playerIdx);
+    }
+
+    /** DOUBLE_MOVE_START: 이번 턴에 두 수를 둘 수 있다 */
+    void doubleMove() {
+        movesLeft = 2;
+    }
+
+    /** SHARED_STONE_TARGET: (r,c) 의 돌을 공용돌로 바꾼다. 빈칸이면 INVALID */
+    int share(int playerIdx, int r, int c) {
+        if (!board.share(r, c)) return INVALID;
+        return board.findWinner(playerIdx);
+    }
+
+    /** BOMB_TARGET: (r,c) 중심 3x3 제거. 돌이 사라지기만 하므로 승리는 생기지 않는다. 판 밖이면 INVALID */
+    int bomb(int centerR, int centerC) {
+        if (!Bitboard.isInside(centerR, centerC)) return INVALID;
+        board.clearArea(centerR, centerC);
+        return NO_WINNER;
+    }
+
+    /** REMOVE_START / SWAP_START: 방어 가능한 공격 시작 */
+    void startAttack(String type) {
+        pendingAttack = type;
+        attackBlocked = false;
+        undo = null;
+    }
+
+    /** REMOVE_TARGET: (r,c) 의 돌 하나 제거 (이미 방어됐으면 무시). 판 밖이면 INVALID */
+    int remove(int r, int c) {
+        if (!Bitboard.isInside(r, c)) return INVALID;
+        if (isBlocked("REMOVE")) return NO_WINNER;
+
+        undo = new int[]{ r, c, board.signAt(r, c), board.isShared(r, c) ? 1 : 0 };
+        board.clear(r, c);
+        return NO_WINNER;
+    }
+
+    /** SWAP_TARGET: 두 칸의 돌(공용돌 여부 포함)을 교환 (이미 방어됐으면 무시) */
+    int swap(int playerIdx, int r1, int c1, int r2, int c2) {
+        if (!Bitboard.isInside(r1, c1) || !Bitboard.isInside(r2, c2)) return INVALID;
+        if (isBlocked("SWAP")) return NO_WINNER;
+
+        board.swap(r1, c1, r2, c2);
+        undo = new int[]{ r1, c1, r2, c2 };
+
+        return board.findWinner(playerIdx);
+    }
+
+    /**
+     * SHIELD_BLOCK_REMOVE / SHIELD_BLOCK_SWAP: 공격이 방어됨.
+     *  - 대상 좌표가 아직 안 왔으면 이후 대상 좌표를 무시
+     *  - 이미 적용됐으면 되돌린다 (방어한 클라이언트는 그 좌표를 무시하므로 그쪽에 맞춘다)
+     *  - 진행 중인 같은 종류의 공격이 없으면 INVALID (이미 다른 플레이어가 막은 경우는 그대로 받아 준다)
+     */
+    int blockAttack(String type) {
+        if (!type.equals(pendingAttack)) return INVALID;
+        if (attackBlocked) return NO_WINNER;
+        attackBlocked = true;
+
+        if (undo == null) return NO_WINNER;
+        if ("REMOVE".equals(type)) {
+            board.setCell(undo[0], undo[1], undo[2], undo[3] == 1);
+        } else {
+            board.swap(undo[0], undo[1], undo[2], undo[3]);
+        }
+        undo = null;
+        return NO_WINNER;
+    }
+
+    /** 턴이 넘어갈 때: 진행 중인 공격 정보는 그 턴에서만 유효 */
+    void onTurnChange() {
+        movesLeft = 1;
+        pendingAttack = null;
+        attackBlocked = false;
+        undo = null;
+    }
+
+    // ====================== 조회 (SNAPSHOT) ======================
+
+    int movesLeft() {
+        return movesLeft;
+    }
+
+    /** 현재 보드 (읽기 전용으로만 쓸 것) */
+    OmokBoard state() {
+        return board;
+    }
+
+    // ====================== 내부 유틸 ======================
+
+    private boolean isBlocked(String type) {
+        return type.equals(pendingAttack) && attackBlocked;
+    }
+}
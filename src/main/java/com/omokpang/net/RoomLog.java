@@ -0,0 +1,68 @@
+package com.omokpang.net;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/** RoomLog
+ * 역할: 방 하나에서 플레이어들에게 나간 이벤트(MATCH, TURN, PLACE, 카드 시작/대상, GAME_OVER ...)를
+ *      최근 capacity 개까지 보관하는 고정 크기 링 버퍼.
+ * 핵심기능: 잠깐 끊겼다 다시 붙은 플레이어가 RESUME <gameId> <lastSeq> 를 보내면 놓친 이벤트만 돌려준다.
+ * 순번: 플레이어마다 따로 센다. 자기가 보낸 수는 자기에게 다시 오지 않으므로
+ *      "그 플레이어가 지금까지 받은 방 이벤트 수" 가 곧 그 플레이어의 순번이다. (MATCH = 1)
+ * 동시성: Room.lock 안에서만 호출한다.
+ */
+class RoomLog {
+
+    private final WireMessage[] events;
+    // 이벤트를 보낸 플레이어 인덱스 (-1 = 방 전체에게 보낸 서버 메시지)
+    private final int[] origins;
+    // 플레이어별 지금까지 받았어야 할 이벤트 수 (= 마지막 순번)
+    private final long[] received;
+    // 지금까지 기록된 이벤트 수 (링에서 밀려난 것 포함)
+    private long total;
+
+    RoomLog(int capacity, int players) {
+        this.events = new WireMessage[Math.max(1, capacity)];
+        this.origins = new int[events.length];
+        this.received = new long[players];
+    }
+
+    /** origin 이 보낸(또는 -1: 서버가 방 전체에 보낸) 이벤트 하나를 기록 */
+    void append(int origin, WireMessage message) {
+        int i = (int) (total % events.length);
+        events[i] = message;
+        origins[i] = origin;
+        total++;
+
+        for (int p = 0; p < received.length; p++) {
+            if (p != origin) received[p]++;
+        }
+    }
+
+    /** player 의 현재 순번 */
+    long lastSeq(int player) {
+        return received[player];
+    }
+
+    /**
+     * player 가 lastSeq 까지 받았다고 할 때, 그 뒤로 받았어야 할 이벤트들 (오래된 순).
+     * lastSeq 가 범위를 벗어나거나 놓친 이벤트가 이미 링에서 밀려났으면 null.
+     */
+    List<WireMessage> since(int player, long lastSeq) {
+        long missed = received[player] - lastSeq;
+        if (lastSeq < 0 || missed < 0) return null;
+        if (missed == 0) return Collections.emptyList();
+
+        List<WireMessage> out = new ArrayList<>((int) Math.min(missed, events.length));
+        long oldest = Math.max(0, total - events.length);
+        for (long s = total - 1; s >= oldest && out.size() < missed; s--) {
+            int i = (int) (s % events.length);
+            if (origins[i] != player) out.add(events[i]);
+        }
+        if (out.size() < missed) return null;
+
+        Collections.reverse(out);
+        return out;
+    }
+}
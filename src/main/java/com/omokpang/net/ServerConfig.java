@@ -0,0 +1,185 @@
+package com.omokpang.net;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/** ServerConfig
+ * 역할: GameServer 실행 옵션을 모아 두는 설정 객체.
+ * 핵심기능: 커맨드라인 인자(--key=value) → 환경변수(OMOK_SERVER_KEY) → 기본값 순으로 값 결정.
+ * 예) --mode=nio --io-threads=4  또는  OMOK_SERVER_MODE=nio
+ */
+public class ServerConfig {
+
+    public static final String MODE_BLOCKING = "blocking";
+    public static final String MODE_NIO = "nio";
+    public static final String MODE_VIRTUAL = "virtual";
+
+    public static final String MATCH_FIFO = "fifo";
+    public static final String MATCH_RATING = "rating";
+
+    private final Map<String, String> args = new HashMap<>();
+
+    private ServerConfig(String[] argv) {
+        if (argv == null) return;
+        for (String a : argv) {
+            if (a == null || !a.startsWith("--")) continue;
+            int eq = a.indexOf('=');
+            if (eq < 0) {
+                args.put(a.substring(2), "true");
+            } else {
+                args.put(a.substring(2, eq), a.substring(eq + 1));
+            }
+        }
+    }
+
+    public static ServerConfig fromArgs(String[] argv) {
+        return new ServerConfig(argv);
+    }
+
+    // ====================== 값 조회 ======================
+
+    public String get(String key, String defaultValue) {
+        String v = args.get(key);
+        if (v != null && !v.isBlank()) return v.trim();
+
+        // "io-threads" -> "OMOK_SERVER_IO_THREADS"
+        String envKey = "OMOK_SERVER_" + key.toUpperCase().replace('-', '_');
+        v = System.getenv(envKey);
+        if (v != null && !v.isBlank()) return v.trim();
+
+        return defaultValue;
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String v = get(key, null);
+        if (v == null) return defaultValue;
+        try {
+            return Integer.parseInt(v);
+        } catch (NumberFormatException e) {
+            System.out.println("[SERVER] WARN: invalid number for " + key + ": " + v);
+            return defaultValue;
+        }
+    }
+
+    // ====================== 서버 옵션 ======================
+
+    public int port() {
+        return getInt("port", 9000);
+    }
+
+    /** 접속 처리 방식: "blocking"(기본, 소켓마다 스레드) / "virtual"(소켓마다 가상 스레드) / "nio"(Selector 이벤트 루프) */
+    public String mode() {
+        return get("mode", MODE_BLOCKING).toLowerCase();
+    }
+
+    /** NIO 모드에서 돌릴 I/O 루프(Selector 스레드) 개수 */
+    public int ioThreads() {
+        int def = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        return Math.max(1, getInt("io-threads", def));
+    }
+
+    /** 연결 하나의 송신 대기열에 쌓아 둘 수 있는 최대 프레임 수 (넘으면 연결을 끊는다) */
+    public int maxPendingFrames() {
+        return Math.max(1, getInt("max-pending-frames", 256));
+    }
+
+    /** 매칭 틱 주기(ms). 이 주기마다 대기열을 한꺼번에 비워 방을 만든다. 0 이면 입장 즉시 매칭 */
+    public int matchTickMillis() {
+        return Math.max(0, getInt("match-tick-ms", 100));
+    }
+
+    /** 매칭 정책: "fifo"(기본, 들어온 순서) / "rating"(포인트가 가까운 플레이어끼리) */
+    public String matchPolicy() {
+        return get("match-policy", MATCH_FIFO).toLowerCase();
+    }
+
+    /** rating 정책: 처음 허용하는 포인트 차이 */
+    public int ratingWindow() {
+        return Math.max(0, getInt("rating-window", 100));
+    }
+
+    /** rating 정책: 1초 기다릴 때마다 늘어나는 허용 포인트 차이 */
+    public int ratingWindowPerSecond() {
+        return Math.max(0, getInt("rating-window-step", 50));
+    }
+
+    /** 결과 정산(DB 쓰기) 스레드 수 */
+    public int settleThreads() {
+        return Math.max(1, getInt("settle-threads", 2));
+    }
+
+    /** 결과 정산 대기열 길이 (넘치면 로컬 저널로 넘긴다) */
+    public int settleQueue() {
+        return Math.max(1, getInt("settle-queue", 1024));
+    }
+
+    /** DB 에 바로 못 쓴 결과를 남겨 둘 저널 파일 경로 */
+    public String resultLedger() {
+        return get("result-ledger", "omok-server-results.dat");
+    }
+
+    /** RANK 응답용 순위 인덱스(RankIndex)를 DB 에서 다시 읽는 주기(초). 0 이면 시작할 때 한 번만 읽는다 */
+    public int rankRefreshSeconds() {
+        return Math.max(0, getInt("rank-refresh-seconds", 300));
+    }
+
+    /** 송신 대기열 통계(ServerMetrics) 출력 주기(초). 0 이면 출력하지 않음 */
+    public int metricsInterval() {
+        return getInt("metrics-interval", 60);
+    }
+
+    /** 클라이언트의 PROTO BIN 협상을 받아 줄지 (false 면 모든 연결을 줄 단위 텍스트로 유지) */
+    public boolean binaryProtocol() {
+        return Boolean.parseBoolean(get("binary", "true"));
+    }
+
+    /** 바이너리 프레임도 받을 때마다 줄로 풀어 로그에 남길지 (디버그용, 켜면 프레임마다 디코딩 + 문자열 생성) */
+    public boolean logFrames() {
+        return Boolean.parseBoolean(get("log-frames", "false"));
+    }
+
+    /** 끊긴 플레이어의 자리를 RESUME 으로 되찾을 수 있게 남겨 두는 시간(ms). 0 이면 끊기는 즉시 방에서 뺀다 */
+    public int resumeGraceMillis() {
+        return Math.max(0, getInt("resume-grace-ms", 30000));
+    }
+
+    /** 방마다 RESUME 용으로 보관하는 최근 이벤트 수 */
+    public int roomLogSize() {
+        return Math.max(16, getInt("room-log-size", 256));
+    }
+
+    /** 서버가 강제하는 턴 제한시간(초). 0 이면 서버 턴 시계를 끄고 클라이언트 타이머에만 맡긴다 */
+    public int turnSeconds() {
+        return Math.max(0, getInt("turn-seconds", 20));
+    }
+
+    /** TimeLock 을 맞은 플레이어의 다음 턴 제한시간(초) */
+    public int timelockSeconds() {
+        return Math.max(1, getInt("timelock-seconds", 3));
+    }
+
+    /** 턴 제한시간에 더해 주는 여유(ms). 클라이언트 타이머의 TURN_END 가 네트워크 지연만큼 늦게 와도 먼저 처리되도록 */
+    public int turnSlackMillis() {
+        return Math.max(0, getInt("turn-slack-ms", 1500));
+    }
+
+    /** 조용한 연결에 PING 을 보내는 간격(ms). 0 이면 하트비트를 끈다 */
+    public int heartbeatMillis() {
+        return Math.max(0, getInt("heartbeat-ms", 15000));
+    }
+
+    /** 연속으로 이만큼 하트비트 간격 동안 아무 것도 받지 못하면 연결을 끊는다 */
+    public int heartbeatMisses() {
+        return Math.max(1, getInt("heartbeat-misses", 3));
+    }
+
+    /** virtual 모드에서 JFR(jdk.VirtualThreadPinned) 기반 pinning 감시를 켤지 여부 */
+    public boolean pinCheck() {
+        return Boolean.parseBoolean(get("pin-check", "false"));
+    }
+
+    /** pin-check 에서 이 시간(ms) 이상 묶인 경우만 기록한다. 0 이면 모두 기록 (부하 테스트용) */
+    public int pinThresholdMillis() {
+        return Math.max(0, getInt("pin-threshold-ms", 5));
+    }
+}
@@ -0,0 +1,104 @@
+package com.omokpang.net;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/** ServerMetrics
+ * 역할: GameServer 송신 대기열 상태를 모아 두는 카운터 모음.
+ * 핵심기능: 전체 대기 프레임 수(queue depth) / 연결별 최대 깊이 / 버린 프레임 수 / 강제 종료(eviction) 수 /
+ *          하트비트 응답이 없어 끊은(reap) 연결 수.
+ * 출력: --metrics-interval=초 (기본 60, 0 이면 끔) 마다 한 줄 요약을 로그로 남긴다.
+ */
+public final class ServerMetrics {
+
+    // 모든 연결의 송신 대기열에 쌓여 있는 프레임 수 합계
+    private static final LongAdder queuedFrames = new LongAdder();
+
+    // 한 연결에서 관측된 최대 대기열 깊이
+    private static final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    // 대기열이 차서 보내지 못하고 버린 프레임 수
+    private static final LongAdder droppedFrames = new LongAdder();
+
+    // 대기열이 넘쳐서 강제로 끊은 연결 수
+    private static final LongAdder evictions = new LongAdder();
+
+    // PING 에 응답이 없어 끊은 연결 수
+    private static final LongAdder reaped = new LongAdder();
+
+    private static ScheduledExecutorService reporter;
+
+    private ServerMetrics() {}
+
+    // ====================== 갱신 (ClientConnection 에서 호출) ======================
+
+    static void frameQueued(int depth) {
+        queuedFrames.increment();
+        if (depth > maxQueueDepth.get()) {
+            maxQueueDepth.accumulateAndGet(depth, Math::max);
+        }
+    }
+
+    static void framesSent(int count) {
+        queuedFrames.add(-count);
+    }
+
+    static void framesDropped(int count) {
+        droppedFrames.add(count);
+    }
+
+    static void clientEvicted() {
+        evictions.increment();
+    }
+
+    static void clientReaped() {
+        reaped.increment();
+    }
+
+    // ====================== 조회 ======================
+
+    public static long getQueuedFrames() {
+        return queuedFrames.sum();
+    }
+
+    public static int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    public static long getDroppedFrames() {
+        return droppedFrames.sum();
+    }
+
+    public static long getEvictions() {
+        return evictions.sum();
+    }
+
+    public static long getReaped() {
+        return reaped.sum();
+    }
+
+    public static String summary() {
+        return "queued=" + getQueuedFrames() +
+                ", maxDepth=" + getMaxQueueDepth() +
+                ", dropped=" + getDroppedFrames() +
+                ", evicted=" + getEvictions() +
+                ", reaped=" + getReaped();
+    }
+
+    /** 주기적으로 요약을 출력한다. intervalSeconds <= 0 이면 아무 것도 하지 않는다. */
+    public static synchronized void startReporter(int intervalSeconds) {
+        if (reporter != null || intervalSeconds <= 0) return;
+
+        reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "omok-metrics");
+            t.setDaemon(true);
+            return t;
+        });
+        reporter.scheduleAtFixedRate(
+                () -> System.out.println("[SERVER] outbound " + summary()),
+                intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,152 @@
+package com.omokpang.net;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** TimerWheel
+ * 역할: 방 턴 제한시간 / 재접속 유예 같은 수많은 타임아웃을 스레드 하나로 처리하는 해시드 타이밍 휠.
+ * 핵심기능: 시간을 tick 단위 슬롯(wheelSize 개)으로 나눠, 등록·취소는 O(1), 한 tick 에는 그 슬롯만 훑는다.
+ *          방이 수천 개여도 방마다 타이머 스레드를 두지 않는다.
+ * 정밀도: tick 단위로 늦게(최대 1 tick) 실행될 수 있다. 턴 제한처럼 초 단위 타임아웃용.
+ * 스레드: schedule / cancel 은 아무 스레드에서나. 작업은 휠 스레드에서 실행되므로 짧게 (락 잡고 전송 대기열에 넣기 정도).
+ */
+public class TimerWheel {
+
+    /** schedule 이 돌려주는 핸들 */
+    public interface Timeout {
+        /** 아직 실행 전이면 취소하고 true */
+        boolean cancel();
+    }
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private static final class Task implements Timeout {
+        final Runnable action;
+        final long deadlineNanos;
+        long rounds; // 휠을 몇 바퀴 더 돌아야 하는지 (휠 스레드만 사용)
+        final AtomicInteger state = new AtomicInteger(PENDING);
+
+        Task(Runnable action, long deadlineNanos) {
+            this.action = action;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public boolean cancel() {
+            return state.compareAndSet(PENDING, CANCELLED);
+        }
+    }
+
+    private final long tickNanos;
+    private final int mask;
+    // 슬롯별 작업 (휠 스레드만 접근)
+    private final List<List<Task>> wheel;
+    // 다른 스레드에서 등록된, 아직 슬롯에 넣지 않은 작업
+    private final Queue<Task> incoming = new ConcurrentLinkedQueue<>();
+
+    private final long startNanos;
+    private long tick; // 다음에 처리할 tick 번호 (휠 스레드만 사용)
+
+    /**
+     * @param name      휠 스레드 이름
+     * @param tickMillis tick 간격(ms)
+     * @param wheelSize 슬롯 수 (2의 거듭제곱으로 올림). tickMillis * wheelSize 보다 먼 작업은 여러 바퀴 돈다
+     */
+    public TimerWheel(String name, long tickMillis, int wheelSize) {
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMillis));
+
+        int size = Integer.highestOneBit(Math.max(2, wheelSize) - 1) << 1;
+        this.mask = size - 1;
+        this.wheel = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            wheel.add(new ArrayList<>());
+        }
+
+        this.startNanos = System.nanoTime();
+
+        Thread worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /** delay 뒤에 action 을 휠 스레드에서 실행 */
+    public Timeout schedule(Runnable action, long delay, TimeUnit unit) {
+        Task task = new Task(action, System.nanoTime() + unit.toNanos(Math.max(0, delay)));
+        incoming.add(task);
+        return task;
+    }
+
+    // ====================== 휠 스레드 ======================
+
+    private void run() {
+        while (true) {
+            try {
+                waitForTick();
+                transferIncoming();
+                expire(wheel.get((int) (tick & mask)));
+                tick++;
+            } catch (InterruptedException e) {
+                return;
+            } catch (Throwable t) {
+                System.out.println("[TIMER] WARN: " + t);
+            }
+        }
+    }
+
+    // tick 번째 tick 의 끝(시작 시각 + (tick+1) * tickNanos)까지 잠든다
+    private void waitForTick() throws InterruptedException {
+        long deadline = startNanos + (tick + 1) * tickNanos;
+        while (true) {
+            long sleep = deadline - System.nanoTime();
+            if (sleep <= 0) return;
+            TimeUnit.NANOSECONDS.sleep(sleep);
+        }
+    }
+
+    private void transferIncoming() {
+        Task task;
+        while ((task = incoming.poll()) != null) {
+            if (task.state.get() != PENDING) continue;
+
+            // deadline 이 들어 있는 tick (이미 지났으면 지금 tick 에 바로 실행)
+            long due = Math.max(tick, (task.deadlineNanos - startNanos + tickNanos - 1) / tickNanos - 1);
+            task.rounds = (due - tick) / wheel.size();
+            wheel.get((int) (due & mask)).add(task);
+        }
+    }
+
+    private void expire(List<Task> bucket) {
+        for (int i = bucket.size() - 1; i >= 0; i--) {
+            Task task = bucket.get(i);
+            if (task.state.get() == CANCELLED) {
+                removeAt(bucket, i);
+                continue;
+            }
+            if (task.rounds > 0) {
+                task.rounds--;
+                continue;
+            }
+
+            removeAt(bucket, i);
+            if (!task.state.compareAndSet(PENDING, EXPIRED)) continue;
+            try {
+                task.action.run();
+            } catch (Throwable t) {
+                System.out.println("[TIMER] WARN: task failed: " + t);
+            }
+        }
+    }
+
+    // 순서는 상관없으므로 마지막 원소를 끌어와 O(1) 제거
+    private static void removeAt(List<Task> bucket, int i) {
+        int last = bucket.size() - 1;
+        if (i != last) bucket.set(i, bucket.get(last));
+        bucket.remove(last);
+    }
+}
@@ -0,0 +1,248 @@
+package com.omokpang.net;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/** WireCodec
+ * 역할: 텍스트 한 줄 메시지 ↔ 바이너리 프레임 변환 (서버·클라이언트 공용).
+ * 프레임: [길이 varint(1~2바이트)][opcode 1바이트][payload]   (길이 = opcode + payload 바이트 수)
+ * payload 형식 (opcode 마다 고정):
+ *  - NONE   : 없음                       예) TURN_END, BOMB_START
+ *  - COORDS : 좌표 (r, c) 한 쌍당 1바이트 (r * 15 + c)   예) PLACE 7 8 → [0x01][0x71]
+ *  - TEXT   : 명령어 뒤 문자열 UTF-8        예) TURN 닉네임, CHEER 닉네임 본문
+ *  - RAW    : 줄 전체 UTF-8 (표에 없는 명령 / 좌표가 범위를 벗어난 경우) → 어떤 줄이든 그대로 왕복
+ * 협상: WELCOME 뒤에 클라이언트가 "PROTO BIN 1" 을 보내고, 서버가 "PROTO_OK BIN 1" 로 답하면
+ *      그 다음부터 양쪽 모두 바이너리 프레임. (서버가 모르면 ECHO / PROTO_OK TEXT → 텍스트 유지)
+ */
+public final class WireCodec {
+
+    /** 바이너리 프레임 형식 버전 (PROTO BIN <version>) */
+    public static final int VERSION = 1;
+
+    /** 프레임 본문(opcode + payload) 최대 길이 */
+    public static final int MAX_BODY_BYTES = 4096;
+
+    // 보드 한 변 (좌표 한 쌍을 r * N + c 로 1바이트에 담는다)
+    private static final int N = 15;
+
+    // payload 형식
+    static final int NONE = 0;
+    static final int COORDS = 1;
+    static final int TEXT = 2;
+    static final int RAW = 3;
+
+    static final int OP_RAW = 0x00;
+
+    // opcode → 명령어 / payload 형식 / 좌표 쌍 개수 (COORDS 일 때)
+    private static final String[] COMMANDS = new String[256];
+    private static final int[] LAYOUTS = new int[256];
+    private static final int[] PAIRS = new int[256];
+
+    // 명령어 → opcode (인코딩 시 조회)
+    private static final CommandTable<Integer> OPCODES = new CommandTable<>();
+
+    static {
+        LAYOUTS[OP_RAW] = RAW;
+
+        // 번호는 한 번 정하면 바꾸지 않는다 (바꾸면 VERSION 을 올릴 것)
+        op(0x01, "PLACE", COORDS, 1);
+        op(0x02, "TURN_END", NONE, 0);
+        op(0x03, "TURN", TEXT, 0);
+        op(0x04, "CHEER", TEXT, 0);
+        op(0x05, "SHARED_STONE_START", NONE, 0);
+        op(0x06, "SHARED_STONE_TARGET", COORDS, 1);
+        op(0x07, "BOMB_START", NONE, 0);
+        op(0x08, "BOMB_TARGET", COORDS, 1);
+        op(0x09, "TIMELOCK_START", NONE, 0);
+        op(0x0A, "SWAP_START", NONE, 0);
+        op(0x0B, "SWAP_TARGET", COORDS, 2);
+        op(0x0C, "DOUBLE_MOVE_START", NONE, 0);
+        op(0x0D, "REMOVE_START", NONE, 0);
+        op(0x0E, "REMOVE_TARGET", COORDS, 1);
+        op(0x0F, "SHIELD_BLOCK_REMOVE", NONE, 0);
+        op(0x10, "SHIELD_BLOCK_SWAP", NONE, 0);
+        op(0x11, "GAME_OVER", TEXT, 0);
+        op(0x12, "MATCH", TEXT, 0);
+        op(0x13, "LOGIN", TEXT, 0);
+        op(0x14, "QUEUE", TEXT, 0);
+        op(0x15, "OPPONENT_LEFT", NONE, 0);
+    }
+
+    private static void op(int opcode, String command, int layout, int pairs) {
+        COMMANDS[opcode] = command;
+        LAYOUTS[opcode] = layout;
+        PAIRS[opcode] = pairs;
+        OPCODES.on(command, opcode);
+    }
+
+    private WireCodec() {}
+
+    // ====================== 인코딩 ======================
+
+    /** 텍스트 한 줄(줄바꿈 제외)을 바이너리 프레임으로. 여러 명에게 보낼 땐 한 번만 만들어 재사용 */
+    public static byte[] encode(String line) {
+        int sp = line.indexOf(' ');
+        int cmdEnd = (sp < 0) ? line.length() : sp;
+        Integer found = OPCODES.find(line, cmdEnd);
+
+        if (found != null) {
+            int opcode = found;
+            switch (LAYOUTS[opcode]) {
+                case NONE:
+                    if (cmdEnd == line.length()) return frame(opcode, null, 0);
+                    break;
+                case COORDS: {
+                    byte[] packed = packCoords(line, cmdEnd, PAIRS[opcode]);
+                    if (packed != null) return frame(opcode, packed, packed.length);
+                    break;
+                }
+                case TEXT:
+                    if (sp >= 0) {
+                        byte[] text = line.substring(sp + 1).getBytes(StandardCharsets.UTF_8);
+                        return frame(opcode, text, text.length);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        byte[] raw = line.getBytes(StandardCharsets.UTF_8);
+        return frame(OP_RAW, raw, raw.length);
+    }
+
+    // "7 8" / "1 2 3 4" 처럼 정확히 pairs*2 개의 0~14 정수(공백 하나 구분)면 1바이트씩 묶는다. 아니면 null (RAW 로)
+    private static byte[] packCoords(String line, int pos, int pairs) {
+        byte[] out = new byte[pairs];
+        int n = line.length();
+        for (int i = 0; i < pairs * 2; i++) {
+            if (pos >= n || line.charAt(pos) != ' ') return null;
+            pos++;
+
+            int start = pos;
+            int value = 0;
+            while (pos < n && line.charAt(pos) != ' ') {
+                int d = line.charAt(pos) - '0';
+                if (d < 0 || d > 9) return null;
+                value = value * 10 + d;
+                pos++;
+            }
+            int digits = pos - start;
+            // 텍스트로 되돌렸을 때 글자가 같아야 하므로 "07" 같은 표기는 RAW 로 보낸다
+            if (digits == 0 || digits > 2 || (digits == 2 && line.charAt(start) == '0') || value >= N) return null;
+
+            if ((i & 1) == 0) {
+                out[i >> 1] = (byte) (value * N);
+            } else {
+                out[i >> 1] += (byte) value;
+            }
+        }
+        return (pos == n) ? out : null;
+    }
+
+    private static byte[] frame(int opcode, byte[] payload, int len) {
+        int body = 1 + len;
+        if (body > MAX_BODY_BYTES) {
+            throw new IllegalArgumentException("frame too large: " + body + " bytes");
+        }
+        int prefix = (body < 0x80) ? 1 : 2;
+        byte[] f = new byte[prefix + body];
+        if (prefix == 1) {
+            f[0] = (byte) body;
+        } else {
+            f[0] = (byte) (0x80 | (body & 0x7F));
+            f[1] = (byte) (body >>> 7);
+        }
+        f[prefix] = (byte) opcode;
+        if (len > 0) System.arraycopy(payload, 0, f, prefix + 1, len);
+        return f;
+    }
+
+    // ====================== 디코딩 ======================
+
+    /** 프레임 앞 길이 필드의 바이트 수 */
+    static int prefixLength(byte[] frame) {
+        return (frame[0] & 0x80) == 0 ? 1 : 2;
+    }
+
+    /** 프레임의 opcode */
+    static int opcode(byte[] frame) {
+        return frame[prefixLength(frame)] & 0xFF;
+    }
+
+    /** opcode 의 명령어 (RAW / 모르는 opcode 면 null) */
+    static String command(int opcode) {
+        return COMMANDS[opcode];
+    }
+
+    static int layout(int opcode) {
+        return COMMANDS[opcode] == null ? RAW : LAYOUTS[opcode];
+    }
+
+    /** COORDS 프레임의 좌표를 r, c 순서로 out 에 풀어 넣고 개수를 반환 */
+    static int unpackCoords(byte[] frame, int[] out) {
+        int p = prefixLength(frame) + 1;
+        int count = 0;
+        for (int i = p; i < frame.length && count + 2 <= out.length; i++) {
+            int v = frame[i] & 0xFF;
+            out[count++] = v / N;
+            out[count++] = v % N;
+        }
+        return count;
+    }
+
+    /** 프레임을 텍스트 한 줄로 되돌린다 (UI / 텍스트 모드 수신자 / 로그용) */
+    public static String decodeLine(byte[] frame) {
+        int p = prefixLength(frame);
+        int opcode = frame[p] & 0xFF;
+        int from = p + 1;
+        int len = frame.length - from;
+        String command = COMMANDS[opcode];
+
+        switch (layout(opcode)) {
+            case NONE:
+                return command;
+            case COORDS: {
+                StringBuilder sb = new StringBuilder(command.length() + len * 6);
+                sb.append(command);
+                for (int i = from; i < frame.length; i++) {
+                    int v = frame[i] & 0xFF;
+                    sb.append(' ').append(v / N).append(' ').append(v % N);
+                }
+                return sb.toString();
+            }
+            case TEXT:
+                return command + " " + new String(frame, from, len, StandardCharsets.UTF_8);
+            default:
+                return new String(frame, from, len, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * buf 의 position 부터 프레임 하나가 다 들어와 있으면 잘라서 반환하고 position 을 넘긴다.
+     * 아직 덜 왔으면 null (position 그대로). 길이가 MAX_BODY_BYTES 를 넘으면 IOException.
+     */
+    static byte[] sliceFrame(ByteBuffer buf) throws IOException {
+        int start = buf.position();
+        int avail = buf.remaining();
+        if (avail < 1) return null;
+
+        int b0 = buf.get(start) & 0xFF;
+        int prefix = 1;
+        int body = b0;
+        if ((b0 & 0x80) != 0) {
+            if (avail < 2) return null;
+            prefix = 2;
+            body = (b0 & 0x7F) | ((buf.get(start + 1) & 0xFF) << 7);
+        }
+        if (body < 1 || body > MAX_BODY_BYTES) {
+            throw new IOException("bad frame length: " + body);
+        }
+        if (avail < prefix + body) return null;
+
+        byte[] frame = new byte[prefix + body];
+        buf.get(frame);
+        return frame;
+    }
+}
@@ -0,0 +1,45 @@
+package com.omokpang.net;
+
+/** WireMessage
+ * 역할: 여러 수신자에게 보낼 메시지 하나를 텍스트 / 바이너리 두 형식으로 들고 있는 객체.
+ * 핵심기능: 수신자 연결이 어느 모드인지에 따라 맞는 프레임을 돌려주되, 형식마다 인코딩은 최대 한 번.
+ *          바이너리로 받은 프레임을 릴레이할 때는 받은 바이트를 그대로 재사용(재인코딩 없음).
+ * 스레드: 방 락 안(RoomLog 에 보관된 것 포함) / 한 호출 안에서만 쓰므로 동기화하지 않는다.
+ */
+final class WireMessage {
+
+    private String line;
+    private byte[] textFrame;
+    private byte[] binaryFrame;
+
+    private WireMessage(String line, byte[] binaryFrame) {
+        this.line = line;
+        this.binaryFrame = binaryFrame;
+    }
+
+    /** 텍스트 한 줄(줄바꿈 제외)로 만든 메시지 */
+    static WireMessage of(String line) {
+        return new WireMessage(line, null);
+    }
+
+    /** 지금 처리 중인 수신 메시지를 그대로 릴레이할 때 (바이너리로 받았으면 그 프레임 재사용) */
+    static WireMessage of(MessageArgs args) {
+        byte[] frame = args.frame();
+        return (frame != null) ? new WireMessage(null, frame) : new WireMessage(args.line(), null);
+    }
+
+    String line() {
+        if (line == null) line = WireCodec.decodeLine(binaryFrame);
+        return line;
+    }
+
+    /** conn 의 프로토콜 모드에 맞는 전송 프레임 */
+    byte[] frameFor(ClientConnection conn) {
+        if (conn.isBinary()) {
+            if (binaryFrame == null) binaryFrame = WireCodec.encode(line);
+            return binaryFrame;
+        }
+        if (textFrame == null) textFrame = ClientConnection.encodeLine(line());
+        return textFrame;
+    }
+}
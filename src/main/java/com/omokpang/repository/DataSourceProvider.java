@@ -1,12 +1,22 @@
 package com.omokpang.repository;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import javax.sql.DataSource;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
 /** DataSourceProvider
  * 역할: PostgreSQL JDBC 커넥션을 제공하는 유틸리티.
- * 핵심기능: 환경변수(OMOK_DB_URL/USER/PASSWORD) 기반으로 Connection 생성.
+ * 핵심기능: 환경변수(OMOK_DB_URL/USER/PASSWORD) 기반 HikariCP 커넥션 풀 생성 및 Connection 대여.
+ * 풀 설정(선택, 환경변수):
+ *   OMOK_DB_POOL_MAX (기본 10) / OMOK_DB_POOL_MIN_IDLE (기본 2)
+ *   OMOK_DB_CONNECTION_TIMEOUT_MS (기본 5000) / OMOK_DB_LEAK_DETECTION_MS (기본 10000, 0 이면 끔)
+ *   OMOK_DB_STMT_CACHE_SIZE (기본 256, 커넥션당 서버측 prepared statement 캐시 개수)
+ * 사용: 기존처럼 try-with-resources 로 getConnection() 후 close() 하면 풀에 반납된다.
+ *      DB 없이도 도는 곳(서버의 레이팅 / 순위 / 정산)은 먼저 isConfigured() 로 확인한다.
  */
 public class DataSourceProvider {
 
@@ -17,21 +27,96 @@ public class DataSourceProvider {
     private static final String PASSWORD =
             System.getenv("OMOK_DB_PASSWORD");
 
-    static {
-        try {
-            Class.forName("org.postgresql.Driver");
-        } catch (ClassNotFoundException e) {
-            throw new RuntimeException("PostgreSQL JDBC Driver not found!", e);
-        }
+    // 풀은 처음 쓸 때 만든다 (isConfigured() 만 부르는 곳에서는 초기화되지 않도록 분리)
+    private static final class Pool {
+        static final HikariDataSource dataSource;
+
+        static {
+            try {
+                Class.forName("org.postgresql.Driver");
+            } catch (ClassNotFoundException e) {
+                throw new RuntimeException("PostgreSQL JDBC Driver not found!", e);
+            }
+
+            if (!isConfigured()) {
+                throw new IllegalStateException(
+                        "DB 환경변수가 설정되어 있지 않습니다. " +
+                                "OMOK_DB_URL / OMOK_DB_USER / OMOK_DB_PASSWORD 를 확인하세요.");
+            }
+
+            dataSource = new HikariDataSource(buildConfig());
 
-        if (URL == null || USER == null || PASSWORD == null) {
-            throw new IllegalStateException(
-                    "DB 환경변수가 설정되어 있지 않습니다. " +
-                            "OMOK_DB_URL / OMOK_DB_USER / OMOK_DB_PASSWORD 를 확인하세요.");
+            // 앱 종료 시 풀 정리
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                System.out.println("[DB] pool closing: " + getPoolStats());
+                dataSource.close();
+            }, "omok-db-pool-shutdown"));
         }
     }
 
+    /** DB 환경변수(OMOK_DB_URL/USER/PASSWORD)가 모두 있는지. 풀을 만들지 않고 확인만 한다 */
+    public static boolean isConfigured() {
+        return URL != null && USER != null && PASSWORD != null;
+    }
+
+    private static HikariConfig buildConfig() {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("omok-db");
+        config.setJdbcUrl(URL);
+        config.setUsername(USER);
+        config.setPassword(PASSWORD);
+
+        // 풀 크기
+        config.setMaximumPoolSize(Math.max(1, envInt("OMOK_DB_POOL_MAX", 10)));
+        config.setMinimumIdle(Math.max(0, envInt("OMOK_DB_POOL_MIN_IDLE", 2)));
+        config.setConnectionTimeout(envInt("OMOK_DB_CONNECTION_TIMEOUT_MS", 5000));
+
+        // 반납되지 않은 커넥션(누수) 경고 (0 이면 끔)
+        config.setLeakDetectionThreshold(envInt("OMOK_DB_LEAK_DETECTION_MS", 10000));
+
+        // DB 가 꺼져 있어도 앱은 뜨도록: 시작 시 연결 실패로 예외를 던지지 않고,
+        // getConnection() 에서 SQLException 으로 알려준다 (기존 DriverManager 동작과 같음)
+        config.setInitializationFailTimeout(-1);
+
+        // pgjdbc prepared statement 캐시: 같은 SQL 은 서버측 prepared statement 를 재사용
+        config.addDataSourceProperty("prepareThreshold", "1");
+        config.addDataSourceProperty("preparedStatementCacheQueries",
+                String.valueOf(envInt("OMOK_DB_STMT_CACHE_SIZE", 256)));
+        config.addDataSourceProperty("preparedStatementCacheSizeMiB", "5");
+
+        // JMX(HikariPoolMXBean) 로 풀 상태 노출
+        config.setRegisterMbeans(true);
+
+        return config;
+    }
+
     public static Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(URL, USER, PASSWORD);
+        return Pool.dataSource.getConnection();
+    }
+
+    /** 풀 자체 (JDBC DataSource 가 필요한 곳에서 사용) */
+    public static DataSource getDataSource() {
+        return Pool.dataSource;
+    }
+
+    /** 풀 상태 한 줄 요약: 사용 중 / 유휴 / 전체 / 대기 중인 요청 수 */
+    public static String getPoolStats() {
+        HikariPoolMXBean pool = Pool.dataSource.getHikariPoolMXBean();
+        if (pool == null) return "not started";
+        return "active=" + pool.getActiveConnections() +
+                ", idle=" + pool.getIdleConnections() +
+                ", total=" + pool.getTotalConnections() +
+                ", waiting=" + pool.getThreadsAwaitingConnection();
+    }
+
+    private static int envInt(String key, int defaultValue) {
+        String v = System.getenv(key);
+        if (v == null || v.isBlank()) return defaultValue;
+        try {
+            return Integer.parseInt(v.trim());
+        } catch (NumberFormatException e) {
+            System.out.println("[DB] WARN: invalid number for " + key + ": " + v);
+            return defaultValue;
+        }
     }
-}
\ No newline at end of file
+}
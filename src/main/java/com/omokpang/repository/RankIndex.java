@@ -0,0 +1,179 @@
+package com.omokpang.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/** RankIndex
+ * 역할: users.points 분포를 메모리에 들고 있는 순위 인덱스 (ORDER BY points 없이 "내 순위" 계산).
+ * 핵심기능: 포인트 값마다 인원 수를 Fenwick 트리로 관리 → 순위 조회·갱신 모두 O(log P) (P = 최대 포인트).
+ *          순위 = 1 + (나보다 포인트가 높은 사람 수). 같은 포인트는 같은 순위.
+ * 위치: GameServer 프로세스에만 둔다 (클라이언트는 RANK 명령으로 물어본다).
+ * 갱신: startRefresher() 가 시작할 때 채우고 refresh 주기마다 DB 에서 다시 읽는다.
+ *       게임 결과는 서버가 정산하므로 ResultRepository 가 커밋 직후 onMoved 로 바로 반영하고,
+ *       클라이언트가 직접 바꾸는 포인트(카드 구매, 회원가입)는 다음 refresh 때 반영된다.
+ *       다시 읽는 도중 들어온 변경은 모아 두었다가 새 트리에 반영.
+ */
+public final class RankIndex {
+
+    private static final RankIndex INSTANCE = new RankIndex();
+    public static RankIndex getInstance() { return INSTANCE; }
+
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    // tree[i]: Fenwick 트리 (1-based, 포인트 p 는 i = p + 1)
+    private long[] tree = new long[INITIAL_CAPACITY + 1];
+    private long total;
+
+    private boolean ready;
+    private boolean warming;
+    // warmUp 으로 다시 읽는 도중 들어온 변경 (old, new) 쌍. old/new 가 -1 이면 없음(추가/삭제)
+    private final List<int[]> pendingMoves = new ArrayList<>();
+
+    // 모든 사용자의 포인트를 하나씩 넘겨주는 곳 (UserRepository::forEachPoints). 끝까지 읽었으면 true
+    @FunctionalInterface
+    public interface PointSource {
+        boolean forEachPoints(IntConsumer consumer);
+    }
+
+    // 테스트 / 벤치마크용 (서버는 getInstance() 하나만 쓴다)
+    RankIndex() {}
+
+    /**
+     * 모든 포인트를 새로 읽어 인덱스를 채운다. (시간이 걸리므로 백그라운드에서 호출)
+     *  - 이미 준비된 상태에서 다시 부르면 읽는 동안은 이전 트리로 답하고, 다 읽으면 바꿔 끼운다.
+     * @return 성공하면 true (다른 스레드가 읽는 중이면 지금 상태를 반환)
+     */
+    public boolean warmUp(PointSource source) {
+        synchronized (this) {
+            if (warming) return ready;
+            warming = true;
+        }
+
+        // 쿼리는 락 밖에서: 포인트 값만 스트리밍해서 별도 트리에 모은다
+        long[][] holder = {new long[INITIAL_CAPACITY + 1]};
+        long[] count = new long[1];
+        boolean ok;
+        try {
+            ok = source.forEachPoints(p -> {
+                holder[0] = addTo(holder[0], p, 1);
+                count[0]++;
+            });
+        } catch (RuntimeException e) {
+            System.out.println("[RankIndex] WARN: warm-up failed (" + e + ")");
+            ok = false;
+        }
+
+        synchronized (this) {
+            warming = false;
+            if (!ok) {
+                // 이전 트리가 있으면 그대로 쓴다 (모아 둔 변경은 이미 반영되어 있음)
+                pendingMoves.clear();
+                return ready;
+            }
+            tree = holder[0];
+            total = count[0];
+            ready = true;
+            for (int[] m : pendingMoves) applyMove(m[0], m[1]);
+            pendingMoves.clear();
+            System.out.println("[RankIndex] loaded: " + total + " user(s)");
+            return true;
+        }
+    }
+
+    /**
+     * 백그라운드 스레드에서 바로 한 번 채우고, 이후 refreshSeconds 마다 다시 읽는다. (서버 시작 시)
+     * @param refreshSeconds 0 이면 처음 한 번만 채운다
+     */
+    public void startRefresher(PointSource source, int refreshSeconds) {
+        Thread t = new Thread(() -> {
+            try {
+                do {
+                    warmUp(source);
+                    if (refreshSeconds > 0) TimeUnit.SECONDS.sleep(refreshSeconds);
+                } while (refreshSeconds > 0);
+            } catch (InterruptedException ignored) {
+            }
+        }, "omok-rank-index");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    public synchronized boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * points 를 가진 사용자의 순위 (1위부터). 준비되지 않았으면 -1.
+     */
+    public synchronized int rankOf(int points) {
+        if (!ready) return -1;
+        long notHigher = prefix(tree, Math.max(0, points));
+        return (int) (total - notHigher) + 1;
+    }
+
+    /** 전체 인원 수 (준비되지 않았으면 0) */
+    public synchronized long size() {
+        return ready ? total : 0;
+    }
+
+    // ====================== 저장소에서 호출 ======================
+
+    /** 한 사용자의 포인트가 oldPoints → newPoints 로 바뀜 */
+    public synchronized void onMoved(int oldPoints, int newPoints) {
+        // 다시 읽는 중이면 새 트리에도 반영하도록 모아 둔다
+        if (warming) pendingMoves.add(new int[]{oldPoints, newPoints});
+        if (ready) applyMove(oldPoints, newPoints);
+    }
+
+    private void applyMove(int oldPoints, int newPoints) {
+        if (oldPoints >= 0) {
+            tree = addTo(tree, oldPoints, -1);
+            total--;
+        }
+        if (newPoints >= 0) {
+            tree = addTo(tree, newPoints, 1);
+            total++;
+        }
+    }
+
+    // ====================== Fenwick 트리 ======================
+
+    // 포인트 p 에 delta 를 더한다 (범위를 넘으면 두 배씩 늘려서 다시 만든 트리를 반환)
+    private static long[] addTo(long[] t, int p, long delta) {
+        if (p < 0) return t;
+        int i = p + 1;
+        if (i >= t.length) t = grow(t, i);
+        for (; i < t.length; i += i & -i) {
+            t[i] += delta;
+        }
+        return t;
+    }
+
+    // 포인트 0..p 인 사람 수
+    private static long prefix(long[] t, int p) {
+        long sum = 0;
+        for (int i = Math.min(p + 1, t.length - 1); i > 0; i -= i & -i) {
+            sum += t[i];
+        }
+        return sum;
+    }
+
+    // 크기를 키운 트리: 기존 칸 값을 개수로 되돌린 뒤 새 크기로 다시 쌓는다 (드물게만 일어남)
+    private static long[] grow(long[] t, int minIndex) {
+        int n = t.length - 1;
+        int newN = n;
+        while (newN < minIndex) newN <<= 1;
+
+        long[] counts = new long[newN + 1];
+        for (int i = 1; i <= n; i++) {
+            counts[i] = prefix(t, i - 1) - prefix(t, i - 2);
+        }
+        for (int i = 1; i <= newN; i++) {
+            int parent = i + (i & -i);
+            if (parent <= newN) counts[parent] += counts[i];
+        }
+        return counts;
+    }
+}
@@ -1,38 +1,113 @@
 package com.omokpang.repository;
 
+import com.omokpang.domain.result.GameResult;
+import com.omokpang.domain.result.PlayerResult;
+
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 /** ResultRepository
  * 역할: users 테이블에 게임 결과(승/패, 포인트 변화)를 반영하는 저장소.
- * 핵심기능: 닉네임 기준 wins·losses·points 컬럼 업데이트.
+ * 핵심기능: 닉네임 기준 wins·losses·points 컬럼 업데이트. 정산은 게임 서버(ResultSettler / ResultLedger)만 한다.
+ *          settleGames: 판마다 모든 플레이어 결과를 하나의 트랜잭션 + 한 번의 UPDATE 로 반영 (여러 판을 커넥션 하나로),
+ *          game_results 테이블에 game_id 를 남겨 같은 판이 두 번 정산되지 않게 한다.
+ *          바뀐 포인트는 RankIndex 에도 알려 준다.
+ * 스키마: game_results 테이블은 db/schema.sql (기존 DB 는 db/migrations/001_game_results.sql) 로 만든다.
  */
 public class ResultRepository {
 
-    public void updateUserResult(String nickname, boolean win, int pointDelta) {
-        String sql =
-                "UPDATE users " +
-                        "   SET wins   = wins   + ?, " +
-                        "       losses = losses + ?, " +
-                        "       points = points + ? " +
-                        " WHERE nickname = ?";
+    // 정산 완료된 판 기록 (game_id 가 PK 라서 중복 정산을 막는다)
+    private static final String INSERT_GAME_RESULT =
+            "INSERT INTO game_results (game_id) VALUES (?) ON CONFLICT (game_id) DO NOTHING";
+
+    /**
+     * 여러 판을 커넥션 하나로 차례대로 정산한다. (판마다 각자 트랜잭션)
+     *  - 반영됐거나 이미 정산된 판은 onSettled 로 알려 준다.
+     *  - 중간에 실패하면 SQLException 을 던지고, 그 뒤의 판은 건드리지 않는다. (호출한 쪽이 재시도)
+     */
+    public void settleGames(List<GameResult> games, Consumer<GameResult> onSettled) throws SQLException {
+        if (games == null || games.isEmpty()) return;
 
-        // 디버그 로그
-        System.out.println("[DEBUG] updateUserResult called: nick=" + nickname
-                + ", win=" + win + ", delta=" + pointDelta);
+        try (Connection conn = DataSourceProvider.getConnection()) {
+            for (GameResult game : games) {
+                settle(conn, game.getGameId(), game.getPlayers());
+                onSettled.accept(game);
+            }
+        }
+    }
 
-        try (Connection conn = DataSourceProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+    private boolean settle(Connection conn, String gameId, List<PlayerResult> results) throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            if (gameId != null && !markSettled(conn, gameId)) {
+                conn.rollback();
+                System.out.println("[DB] game " + gameId + " already settled, skip");
+                return false;
+            }
 
-            ps.setInt(1, win ? 1 : 0);
-            ps.setInt(2, win ? 0 : 1);
-            ps.setInt(3, pointDelta);
-            ps.setString(4, nickname);
+            List<int[]> moves = updateUsers(conn, results);
+            conn.commit();
+            System.out.println("[DB] game " + gameId + " settled: " + moves.size() + " user(s) " + results);
 
-            ps.executeUpdate();
+            // 커밋된 뒤에만 순위 인덱스에 반영
+            RankIndex rankIndex = RankIndex.getInstance();
+            for (int[] m : moves) rankIndex.onMoved(m[0], m[1]);
+            return true;
         } catch (SQLException e) {
-            e.printStackTrace();
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    // game_results 에 처음 들어가는 gameId 면 true (동시에 같은 ID 가 오면 한쪽만 true)
+    private boolean markSettled(Connection conn, String gameId) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(INSERT_GAME_RESULT)) {
+            ps.setString(1, gameId);
+            return ps.executeUpdate() == 1;
+        }
+    }
+
+    // 갱신된 사용자마다 {이전 포인트, 새 포인트} 를 돌려준다
+    private List<int[]> updateUsers(Connection conn, List<PlayerResult> results) throws SQLException {
+        StringBuilder sql = new StringBuilder(
+                "UPDATE users AS u " +
+                        "   SET wins   = u.wins   + v.win, " +
+                        "       losses = u.losses + v.loss, " +
+                        "       points = u.points + v.delta " +
+                        "  FROM (VALUES ");
+        for (int i = 0; i < results.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append("(CAST(? AS VARCHAR), CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS INTEGER))");
+        }
+        sql.append(") AS v(nickname, win, loss, delta) " +
+                " WHERE u.nickname = v.nickname " +
+                " RETURNING u.points, v.delta");
+
+        try (PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+            int i = 1;
+            for (PlayerResult r : results) {
+                ps.setString(i++, r.getNickname());
+                ps.setInt(i++, r.isWin() ? 1 : 0);
+                ps.setInt(i++, r.isWin() ? 0 : 1);
+                ps.setInt(i++, r.getPointDelta());
+            }
+
+            List<int[]> moves = new ArrayList<>(results.size());
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    int newPoints = rs.getInt(1);
+                    moves.add(new int[]{newPoints - rs.getInt(2), newPoints});
+                }
+            }
+            return moves;
         }
     }
 }
@@ -1,9 +1,11 @@
 package com.omokpang.repository;
 
+import com.omokpang.domain.user.LeaderboardEntry;
 import com.omokpang.domain.user.User;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.function.IntConsumer;
 
 import java.sql.*;
 import java.time.LocalDateTime;
@@ -11,6 +13,8 @@ import java.time.LocalDateTime;
 /** UserRepository
  * 역할: users 테이블에 대한 CRUD 및 조회 전담 저장소.
  * 핵심기능: 회원가입/로그인/닉네임 중복 검사/포인트 랭킹 조회 제공.
+ * 랭킹: findLeaderboardPage 는 (points, id) 인덱스를 타는 keyset 페이지 조회 (OFFSET / 전체 조회 없음).
+ *       인덱스는 db/schema.sql (기존 DB 는 db/migrations/002_users_points_index.sql) 로 만든다.
  */
 public class UserRepository {
 
@@ -93,37 +97,95 @@ public class UserRepository {
         }
     }
 
-    public List<User> findAllOrderByPoints() {
-        String sql = """
-    SELECT id, nickname, password, wins, losses, points, created_at
-    FROM users
-    ORDER BY points DESC
-    """;
-
-        List<User> list = new ArrayList<>();
+    // 닉네임으로 포인트만 조회 (매칭 서버 레이팅 캐시용). 없으면 null, DB 에러는 호출자에게 (캐시하지 않도록)
+    public Integer findPointsByNickname(String nickname) throws SQLException {
+        String sql = "SELECT points FROM users WHERE nickname = ?";
 
         try (Connection conn = DataSourceProvider.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql);
-             ResultSet rs = pstmt.executeQuery()) {
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            while (rs.next()) {
-                int id = rs.getInt("id");
-                String nickname = rs.getString("nickname");
-                String pw = rs.getString("password");
-                int wins = rs.getInt("wins");
-                int losses = rs.getInt("losses");
-                int points = rs.getInt("points");
-                Timestamp ts = rs.getTimestamp("created_at");
-                LocalDateTime createdAt = ts != null ? ts.toLocalDateTime() : null;
+            pstmt.setString(1, nickname);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt("points") : null;
+            }
+        }
+    }
 
-                list.add(new User(id, nickname, pw, wins, losses, points, createdAt));
+    /**
+     * 랭킹 한 페이지 (포인트 내림차순, 같은 포인트면 id 내림차순).
+     * @param after 직전 페이지의 마지막 항목 (첫 페이지면 null). 순위도 여기서 이어서 매긴다
+     *              (같은 포인트는 같은 순위, RankIndex.rankOf 와 같은 규칙 → LeaderboardEntry.next).
+     * @param limit 가져올 최대 줄 수
+     * DB 에러는 호출자에게 (빈 페이지를 "마지막 페이지"로 오해하거나 캐시하지 않도록)
+     */
+    public List<LeaderboardEntry> findLeaderboardPage(LeaderboardEntry after, int limit) throws SQLException {
+        String sql = (after == null)
+                ? """
+                  SELECT id, nickname, points
+                  FROM users
+                  ORDER BY points DESC, id DESC
+                  LIMIT ?
+                  """
+                : """
+                  SELECT id, nickname, points
+                  FROM users
+                  WHERE (points, id) < (?, ?)
+                  ORDER BY points DESC, id DESC
+                  LIMIT ?
+                  """;
+
+        List<LeaderboardEntry> list = new ArrayList<>();
+
+        try (Connection conn = DataSourceProvider.getConnection()) {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                int i = 1;
+                if (after != null) {
+                    pstmt.setInt(i++, after.getPoints());
+                    pstmt.setInt(i++, after.getId());
+                }
+                pstmt.setInt(i, limit);
+
+                LeaderboardEntry prev = after;
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        prev = LeaderboardEntry.next(prev,
+                                rs.getInt("id"), rs.getString("nickname"), rs.getInt("points"));
+                        list.add(prev);
+                    }
+                }
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * 모든 사용자의 포인트를 하나씩 넘겨준다. (서버 RankIndex 채우기용, 포인트 컬럼만 조회)
+     *  - 커서로 나눠 받아서 사용자가 많아도 한 번에 메모리에 올리지 않는다.
+     * @return 끝까지 읽었으면 true, DB 오류면 false
+     */
+    public boolean forEachPoints(IntConsumer consumer) {
+        String sql = "SELECT points FROM users";
+
+        try (Connection conn = DataSourceProvider.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false); // PostgreSQL 은 트랜잭션 안에서만 fetchSize 단위로 나눠 받음
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setFetchSize(10_000);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        consumer.accept(rs.getInt(1));
+                    }
+                }
+                conn.commit();
+            } finally {
+                conn.setAutoCommit(autoCommit);
             }
+            return true;
 
         } catch (SQLException e) {
             e.printStackTrace();
+            return false;
         }
-
-        return list;
     }
 }
-
@@ -0,0 +1,94 @@
+package com.omokpang.service;
+
+import com.omokpang.domain.user.LeaderboardEntry;
+import com.omokpang.repository.UserRepository;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** LeaderboardService
+ * 역할: 랭킹 화면용 페이지 단위 조회 + 짧은 TTL 캐시.
+ * 핵심기능: UserRepository.findLeaderboardPage(keyset) 결과를 (직전 항목, 페이지 크기) 기준으로 캐시.
+ *          서버가 게임 결과를 DB 에 커밋하고 SETTLED 를 보내면 OmokClient 가 invalidate() 로 비운다.
+ *          그 외 변경은 TTL 이 지나면 반영된다.
+ *          조회 실패는 캐시하지 않고 SQLException 그대로 호출자에게 넘긴다.
+ * 캐시 TTL: 환경변수 OMOK_LEADERBOARD_TTL_SEC (기본 30초, 0 이면 캐시 안 함)
+ */
+public class LeaderboardService {
+
+    private static final LeaderboardService INSTANCE = new LeaderboardService();
+    public static LeaderboardService getInstance() { return INSTANCE; }
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    // 이 이상 쌓이면 만료된 페이지부터 정리
+    private static final int MAX_CACHED_PAGES = 256;
+
+    // 캐시 한 칸: 조회 결과 + 만료 시각
+    private static final class CachedPage {
+        final List<LeaderboardEntry> entries;
+        final long expiresAt;
+
+        CachedPage(List<LeaderboardEntry> entries, long expiresAt) {
+            this.entries = entries;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final UserRepository userRepository = new UserRepository();
+    private final Map<String, CachedPage> cache = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+
+    private LeaderboardService() {
+        this.ttlMillis = readTtlSeconds() * 1000L;
+    }
+
+    /** 1위부터 size 명 */
+    public List<LeaderboardEntry> getTop(int size) throws SQLException {
+        return getPageAfter(null, size);
+    }
+
+    /**
+     * after 다음 순위부터 size 명. (after 가 null 이면 1위부터)
+     * DB 를 조회할 수 있으므로 UI 스레드가 아닌 곳에서 호출한다.
+     * @throws SQLException DB 조회 실패 (이 경우 아무것도 캐시하지 않음)
+     */
+    public List<LeaderboardEntry> getPageAfter(LeaderboardEntry after, int size) throws SQLException {
+        String key = (after == null)
+                ? "top:" + size
+                : after.getPoints() + ":" + after.getId() + ":" + after.getRank() + ":" + after.getPosition() + ":" + size;
+
+        long now = System.currentTimeMillis();
+        CachedPage cached = cache.get(key);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.entries;
+        }
+
+        List<LeaderboardEntry> page = List.copyOf(userRepository.findLeaderboardPage(after, size));
+        if (ttlMillis > 0) {
+            if (cache.size() >= MAX_CACHED_PAGES) {
+                cache.values().removeIf(p -> p.expiresAt <= now);
+            }
+            cache.put(key, new CachedPage(page, now + ttlMillis));
+        }
+        return page;
+    }
+
+    /** 포인트가 DB 에 반영됐을 때(서버의 SETTLED) 캐시를 비운다 */
+    public void invalidate() {
+        cache.clear();
+    }
+
+    private static long readTtlSeconds() {
+        String v = System.getenv("OMOK_LEADERBOARD_TTL_SEC");
+        if (v == null || v.isBlank()) return 30;
+        try {
+            return Math.max(0, Long.parseLong(v.trim()));
+        } catch (NumberFormatException e) {
+            System.out.println("[Leaderboard] WARN: invalid OMOK_LEADERBOARD_TTL_SEC: " + v);
+            return 30;
+        }
+    }
+}
@@ -0,0 +1,400 @@
+package com.omokpang.service;
+
+import com.omokpang.domain.result.GameResult;
+import com.omokpang.domain.result.PlayerResult;
+import com.omokpang.repository.ResultRepository;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.zip.CRC32;
+
+/** ResultLedger
+ * 역할: 게임 결과를 로컬 저널 파일에 먼저 기록하고, DB 반영은 백그라운드에서 하는 write-behind 정산기.
+ * 핵심기능:
+ *  - append: 결과를 메모리 매핑된 저널 끝에 붙이고 force(fsync) 후 바로 반환 (DB 를 기다리지 않음)
+ *  - 워커 스레드가 쌓인 결과를 묶어서 ResultRepository.settleGames 로 반영, 성공한 기록은 FLUSHED 로 표시
+ *  - DB 가 죽어 있으면 점점 간격을 늘려 재시도. 서버가 꺼져도 PENDING 기록은 다음 실행 때 다시 보낸다.
+ *  - close(): 워커를 멈추고 매핑 / 파일 잠금 / 채널을 놓는다 (PENDING 기록은 파일에 남아 다음 open 때 복구)
+ *  - 재시도해도 안 되는 SQL 오류(데이터/제약 위반 등)가 난 기록은 FAILED 로 표시하고 <저널>.failed 에
+ *    payload 를 한 줄로 옮겨 둔 뒤 다음 기록으로 넘어간다. (한 판 때문에 뒤의 정산이 막히지 않도록)
+ * 파일 형식: [magic][version] 뒤에 [len][crc32][state][payload] 레코드가 이어지고, len=0 이 끝 표시.
+ *           payload = "gameId\n" + "닉네임\t승(1/0)\t포인트\n" * 플레이어 수 (UTF-8)
+ *           미처리 기록이 하나도 없으면 다음 append 때 파일 앞부분부터 다시 쓴다.
+ */
+public class ResultLedger {
+
+    private static final int MAGIC = 0x4F4D4B4C; // "OMKL"
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_BYTES = 8;
+    private static final int RECORD_HEADER_BYTES = 9; // len(4) + crc(4) + state(1)
+
+    private static final byte STATE_PENDING = 0;
+    private static final byte STATE_FLUSHED = 1;
+    private static final byte STATE_FAILED = 2;
+
+    private static final int INITIAL_CAPACITY = 256 * 1024;
+    private static final int BATCH_SIZE = 32;
+
+    // 같은 --result-ledger 경로로 서버를 또 띄우면(이전 프로세스가 아직 종료 중인 경우 등) 파일이 잠겨 있으므로
+    // 번호를 붙인 파일을 순서대로 시도
+    private static final int MAX_LEDGER_FILES = 8;
+
+    private static final long RETRY_MIN_MS = 1_000;
+    private static final long RETRY_MAX_MS = 60_000;
+
+    // 기록 하나: 파일 안의 위치 + 내용
+    private static final class Entry {
+        final int offset;
+        final GameResult result;
+
+        Entry(int offset, GameResult result) {
+            this.offset = offset;
+            this.result = result;
+        }
+    }
+
+    private final Path path;
+    private final FileChannel channel;
+    private final FileLock fileLock;
+    private final ResultRepository repository;
+
+    // 아래 필드는 this 로 보호 (close 뒤에는 buf == null)
+    private MappedByteBuffer buf;
+    private int writePos;
+    private int pendingCount;
+
+    // 워커가 DB 로 보낼 기록들
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+
+    private Thread worker; // start() 전이면 null (this 로 보호)
+
+    private ResultLedger(Path path, FileChannel channel, FileLock fileLock, ResultRepository repository) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        this.fileLock = fileLock;
+        this.repository = repository;
+
+        long size = Math.max(channel.size(), INITIAL_CAPACITY);
+        this.buf = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        recover();
+    }
+
+    /**
+     * 저널 파일을 연다. (path 가 다른 프로세스에 잠겨 있으면 path-1, path-2 ... 를 사용)
+     * 열면서 아직 DB 에 반영되지 않은 기록을 읽어 워커 대기열에 넣는다. 워커는 start() 로 시작.
+     */
+    public static ResultLedger open(Path path, ResultRepository repository) throws IOException {
+        Path dir = path.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+
+        for (int i = 0; i < MAX_LEDGER_FILES; i++) {
+            Path candidate = (i == 0) ? path : Path.of(path + "-" + i);
+            FileChannel ch = FileChannel.open(candidate,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            FileLock lock;
+            try {
+                lock = ch.tryLock();
+            } catch (OverlappingFileLockException e) {
+                lock = null;
+            }
+            if (lock == null) {
+                ch.close();
+                continue;
+            }
+            return new ResultLedger(candidate, ch, lock, repository);
+        }
+        throw new IOException("all result ledger files are in use: " + path);
+    }
+
+    /** DB 반영 워커 시작 */
+    public synchronized void start() {
+        if (worker != null || buf == null) return;
+        worker = new Thread(this::runWorker, "omok-result-ledger");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 워커를 멈추고(진행 중인 DB 호출은 최대 5초 기다림) 매핑 / 파일 잠금 / 채널을 놓는다.
+     * 아직 반영되지 않은 기록은 PENDING 으로 파일에 남는다.
+     */
+    public void close() throws IOException {
+        Thread t;
+        synchronized (this) {
+            if (buf == null) return;
+            t = worker;
+        }
+        if (t != null) {
+            t.interrupt();
+            try {
+                t.join(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized (this) {
+            buf.force();
+            unmap(buf);
+            buf = null; // 늦게 끝난 워커의 markState 는 무시된다
+        }
+        try {
+            fileLock.release();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * 결과를 저널에 기록한다. 디스크에 내려간 뒤 반환하고, DB 반영은 워커가 한다.
+     */
+    public void append(GameResult result) throws IOException {
+        byte[] payload = encode(result);
+        Entry entry;
+
+        synchronized (this) {
+            if (buf == null) throw new IOException("result ledger closed: " + path);
+            // 미처리 기록이 없으면 파일 앞부분부터 재사용
+            if (pendingCount == 0) writePos = FILE_HEADER_BYTES;
+
+            int recordBytes = RECORD_HEADER_BYTES + payload.length;
+            ensureCapacity(writePos + recordBytes + 4);
+
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+
+            int pos = writePos;
+            buf.putInt(pos, payload.length);
+            buf.putInt(pos + 4, (int) crc.getValue());
+            buf.put(pos + 8, STATE_PENDING);
+            buf.put(pos + RECORD_HEADER_BYTES, payload);
+            buf.putInt(pos + recordBytes, 0); // 끝 표시
+            buf.force(pos, recordBytes + 4);
+
+            writePos = pos + recordBytes;
+            pendingCount++;
+            entry = new Entry(pos, result);
+        }
+
+        queue.add(entry);
+    }
+
+    /** 아직 DB 에 반영되지 않은 판 수 */
+    public synchronized int getPendingCount() {
+        return pendingCount;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    // ====================== 워커 ======================
+
+    private void runWorker() {
+        long retryMs = RETRY_MIN_MS;
+        List<Entry> batch = new ArrayList<>();
+
+        while (true) {
+            try {
+                if (batch.isEmpty()) {
+                    batch.add(queue.take());
+                }
+                queue.drainTo(batch, BATCH_SIZE - batch.size());
+
+                flush(batch);
+                retryMs = RETRY_MIN_MS;
+            } catch (InterruptedException e) {
+                return;
+            } catch (SQLException e) {
+                if (isTransient(e)) {
+                    if (!backOff(batch, retryMs, e)) return;
+                    retryMs = Math.min(retryMs * 2, RETRY_MAX_MS);
+                } else {
+                    // 앞쪽 판은 이미 반영되어 batch 에서 빠졌으므로 batch 맨 앞이 실패한 판
+                    quarantine(batch.remove(0), e);
+                    retryMs = RETRY_MIN_MS;
+                }
+            } catch (RuntimeException e) {
+                // 드라이버/풀 문제 등: 기록 탓이 아니므로 재시도
+                if (!backOff(batch, retryMs, e)) return;
+                retryMs = Math.min(retryMs * 2, RETRY_MAX_MS);
+            }
+        }
+    }
+
+    // 남은 기록은 batch 에 그대로 두고 잠시 후 재시도. 인터럽트되면 false
+    private static boolean backOff(List<Entry> batch, long retryMs, Throwable e) {
+        System.out.println("[LEDGER] DB flush failed (" + batch.size() + " pending), retry in " +
+                retryMs + "ms: " + e);
+        try {
+            Thread.sleep(retryMs);
+            return true;
+        } catch (InterruptedException ie) {
+            return false;
+        }
+    }
+
+    /**
+     * 기다리면 풀릴 수 있는 오류인지.
+     *  - 연결 끊김 / 풀 타임아웃 (SQLTransientException, SQLRecoverableException, SQLState 08)
+     *  - 직렬화 실패·데드락(40), 자원 부족(53), 관리자 종료(57), 시스템 오류(58)
+     *  - 인증(28) / DB 없음(3D) / game_results 테이블 없음(42P01): 설정·스키마를 고치면 반영되어야 한다
+     */
+    static boolean isTransient(SQLException e) {
+        if (e instanceof SQLTransientException || e instanceof SQLRecoverableException) return true;
+
+        String state = e.getSQLState();
+        if (state == null || state.length() < 2) return true;
+        if ("42P01".equals(state)) return true;
+        switch (state.substring(0, 2)) {
+            case "08": case "40": case "53": case "57": case "58": case "28": case "3D":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // 재시도해도 안 되는 기록: 저널에서 FAILED 로 표시하고 .failed 파일로 옮겨 둔다
+    private void quarantine(Entry entry, SQLException e) {
+        // payload 의 줄바꿈을 | 로 바꿔 한 줄로: gameId|닉네임\t승\t포인트|...\tSQLState
+        String text = new String(encode(entry.result), StandardCharsets.UTF_8);
+        String payload = text.substring(0, text.length() - 1).replace('\n', '|');
+        System.out.println("[LEDGER] ERROR: game " + entry.result.getGameId() + " failed permanently (" +
+                e.getSQLState() + "), moved to " + failedPath() + ": " + e.getMessage());
+        try {
+            Files.writeString(failedPath(), payload + "\t" + e.getSQLState() + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException io) {
+            System.out.println("[LEDGER] ERROR: could not write " + failedPath() + ", result: " + payload);
+        }
+        markState(entry, STATE_FAILED);
+    }
+
+    private Path failedPath() {
+        return Path.of(path + ".failed");
+    }
+
+    // 반영된 기록은 batch 에서 빠지고 FLUSHED 로 표시된다
+    private void flush(List<Entry> batch) throws SQLException {
+        List<GameResult> games = new ArrayList<>(batch.size());
+        for (Entry e : batch) games.add(e.result);
+
+        repository.settleGames(games, done -> {
+            Iterator<Entry> it = batch.iterator();
+            while (it.hasNext()) {
+                Entry e = it.next();
+                if (e.result == done) {
+                    it.remove();
+                    markState(e, STATE_FLUSHED);
+                    break;
+                }
+            }
+        });
+    }
+
+    // PENDING → FLUSHED / FAILED. 어느 쪽이든 다시 보내지 않는다
+    private synchronized void markState(Entry entry, byte state) {
+        if (buf == null) return; // close 뒤: PENDING 으로 남겨 다음 open 때 다시 보낸다
+        buf.put(entry.offset + 8, state);
+        buf.force(entry.offset + 8, 1);
+        pendingCount--;
+    }
+
+    // ====================== 파일 ======================
+
+    // 시작 시: 헤더 확인 + PENDING 기록 복구
+    private synchronized void recover() throws IOException {
+        if (buf.getInt(0) != MAGIC) {
+            buf.putInt(0, MAGIC);
+            buf.putInt(4, VERSION);
+            buf.putInt(FILE_HEADER_BYTES, 0);
+            buf.force();
+            writePos = FILE_HEADER_BYTES;
+            return;
+        }
+
+        int pos = FILE_HEADER_BYTES;
+        while (pos + RECORD_HEADER_BYTES <= buf.capacity()) {
+            int len = buf.getInt(pos);
+            if (len <= 0 || pos + RECORD_HEADER_BYTES + len > buf.capacity()) break;
+
+            byte[] payload = new byte[len];
+            buf.get(pos + RECORD_HEADER_BYTES, payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != buf.getInt(pos + 4)) break; // 쓰다 만 기록
+
+            if (buf.get(pos + 8) == STATE_PENDING) {
+                queue.add(new Entry(pos, decode(payload)));
+                pendingCount++;
+            }
+            pos += RECORD_HEADER_BYTES + len;
+        }
+        writePos = pos;
+
+        if (pendingCount > 0) {
+            System.out.println("[LEDGER] replaying " + pendingCount + " unsettled result(s) from " + path);
+        }
+    }
+
+    private void ensureCapacity(int needed) throws IOException {
+        if (needed <= buf.capacity()) return;
+
+        long size = buf.capacity();
+        while (size < needed) size *= 2;
+        MappedByteBuffer old = buf;
+        buf = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        unmap(old);
+    }
+
+    // 매핑을 바로 푼다 (GC 를 기다리지 않음). 못 풀면 GC 가 정리할 때까지 남는다
+    private static void unmap(MappedByteBuffer b) {
+        try {
+            Field f = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            Object unsafe = f.get(null);
+            unsafe.getClass().getMethod("invokeCleaner", ByteBuffer.class).invoke(unsafe, b);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            System.out.println("[LEDGER] WARN: cannot unmap ledger buffer: " + e);
+        }
+    }
+
+    private static byte[] encode(GameResult result) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(result.getGameId()).append('\n');
+        for (PlayerResult p : result.getPlayers()) {
+            sb.append(p.getNickname()).append('\t')
+                    .append(p.isWin() ? 1 : 0).append('\t')
+                    .append(p.getPointDelta()).append('\n');
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static GameResult decode(byte[] payload) {
+        String[] lines = new String(payload, StandardCharsets.UTF_8).split("\n");
+        List<PlayerResult> players = new ArrayList<>();
+        for (int i = 1; i < lines.length; i++) {
+            String[] f = lines[i].split("\t");
+            if (f.length < 3) continue;
+            players.add(new PlayerResult(f[0], "1".equals(f[1]), Integer.parseInt(f[2])));
+        }
+        return new GameResult(lines[0], players);
+    }
+}
@@ -33,6 +33,9 @@ public class MatchSession {
 
     private static int[] playerTeam;  // 각 플레이어가 어느 팀인지 (0 또는 1)
 
+    /** 서버가 MATCH 때 내려준 게임 ID (결과 정산 중복 방지용) */
+    private static String gameId;
+
     // ===================== 기본 정보 (모드 / 플레이어 / 내 닉네임) =====================
 
     public static String getMode() {
@@ -55,6 +58,14 @@ public class MatchSession {
 
     public static boolean isFourPlayerFFA() { return "1v1v1v1".equals(mode) || "FFA".equalsIgnoreCase(mode);}
 
+    public static String getGameId() {
+        return gameId;
+    }
+
+    public static void setGameId(String gameId) {
+        MatchSession.gameId = gameId;
+    }
+
     public static String[] getPlayers() {
         return players;
     }
@@ -119,5 +130,6 @@ public class MatchSession {
         playerAvatars = null;
         mySelectedCards = null;
         playerTeam = null;
+        gameId = null;
     }
 }
\ No newline at end of file
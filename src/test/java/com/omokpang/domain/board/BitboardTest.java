@@ -0,0 +1,124 @@
+package com.omokpang.domain.board;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** BitboardTest
+ * 역할: 비트 마스크 5목 판정 검증.
+ * 확인: 4방향 5목 / 4목은 아님 / 줄 끝에서 다음 줄로 넘어가는 가짜 5목 없음 / 판 가장자리·long 경계 /
+ *      3x3 영역 마스크 / 무작위 보드에서 칸 단위 검사와 결과 일치.
+ */
+class BitboardTest {
+
+    private static Bitboard line(int r, int c, int dr, int dc, int length) {
+        Bitboard b = new Bitboard();
+        for (int i = 0; i < length; i++) {
+            b.set(r + dr * i, c + dc * i);
+        }
+        return b;
+    }
+
+    @Test
+    void detectsFiveInEveryDirection() {
+        assertTrue(line(7, 3, 0, 1, 5).hasFive());   // 가로
+        assertTrue(line(3, 7, 1, 0, 5).hasFive());   // 세로
+        assertTrue(line(2, 2, 1, 1, 5).hasFive());   // ↘
+        assertTrue(line(2, 12, 1, -1, 5).hasFive()); // ↙
+    }
+
+    @Test
+    void fourInARowIsNotFive() {
+        assertFalse(line(7, 3, 0, 1, 4).hasFive());
+        assertFalse(line(3, 7, 1, 0, 4).hasFive());
+        assertFalse(line(2, 2, 1, 1, 4).hasFive());
+        assertFalse(line(2, 12, 1, -1, 4).hasFive());
+    }
+
+    @Test
+    void rowsDoNotWrapIntoTheNextRow() {
+        // 가로: 3행 끝 3칸 + 4행 처음 2칸
+        Bitboard b = new Bitboard();
+        for (int c = 12; c < 15; c++) b.set(3, c);
+        b.set(4, 0);
+        b.set(4, 1);
+        assertFalse(b.hasFive());
+
+        // ↘: 오른쪽 끝에서 다음 줄 왼쪽으로 이어지는 대각선
+        Bitboard diag = new Bitboard();
+        diag.set(0, 12);
+        diag.set(1, 13);
+        diag.set(2, 14);
+        diag.set(3, 0);
+        diag.set(4, 1);
+        assertFalse(diag.hasFive());
+
+        // ↙: 왼쪽 끝에서 다음 줄 오른쪽으로 이어지는 대각선
+        Bitboard anti = new Bitboard();
+        anti.set(0, 2);
+        anti.set(1, 1);
+        anti.set(2, 0);
+        anti.set(3, 14);
+        anti.set(4, 13);
+        assertFalse(anti.hasFive());
+    }
+
+    @Test
+    void detectsFiveOnEdgesAndAcrossWordBoundaries() {
+        assertTrue(line(0, 10, 0, 1, 5).hasFive());  // 첫 줄 오른쪽 끝
+        assertTrue(line(14, 0, 0, 1, 5).hasFive());  // 마지막 줄 왼쪽 끝
+        assertTrue(line(10, 14, 1, 0, 5).hasFive()); // 오른쪽 세로줄 아래 끝
+        assertTrue(line(10, 10, 1, 1, 5).hasFive()); // 오른쪽 아래 모서리
+        assertTrue(line(10, 4, 1, -1, 5).hasFive()); // 왼쪽 아래 모서리
+        // 한 줄 = 16비트 → long 하나에 4줄. 2~6행 세로줄은 long 두 개에 걸친다
+        assertTrue(line(2, 5, 1, 0, 5).hasFive());
+    }
+
+    @Test
+    void areaMaskIsClippedAtTheEdges() {
+        assertEquals(9, Bitboard.area3x3(7, 7).count());
+        assertEquals(4, Bitboard.area3x3(0, 0).count());
+        assertEquals(6, Bitboard.area3x3(14, 7).count());
+        assertTrue(Bitboard.area3x3(0, 0).get(1, 1));
+        assertFalse(Bitboard.area3x3(0, 14).get(1, 0));
+    }
+
+    @Test
+    void matchesCellByCellScanOnRandomBoards() {
+        Random random = new Random(7);
+        for (int n = 0; n < 20_000; n++) {
+            boolean[][] cells = new boolean[Bitboard.SIZE][Bitboard.SIZE];
+            Bitboard b = new Bitboard();
+            int stones = 10 + random.nextInt(60);
+            for (int i = 0; i < stones; i++) {
+                int r = random.nextInt(Bitboard.SIZE);
+                int c = random.nextInt(Bitboard.SIZE);
+                cells[r][c] = true;
+                b.set(r, c);
+            }
+            assertEquals(naiveHasFive(cells), b.hasFive(), "board #" + n);
+        }
+    }
+
+    // 예전 checkWin 방식: 칸마다 4방향으로 5칸 연속 확인
+    static boolean naiveHasFive(boolean[][] cells) {
+        int[][] dirs = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+        for (int r = 0; r < Bitboard.SIZE; r++) {
+            for (int c = 0; c < Bitboard.SIZE; c++) {
+                for (int[] d : dirs) {
+                    int k = 0;
+                    while (k < 5 && Bitboard.isInside(r + d[0] * k, c + d[1] * k)
+                            && cells[r + d[0] * k][c + d[1] * k]) {
+                        k++;
+                    }
+                    if (k == 5) return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,123 @@
+package com.omokpang.domain.board;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** OmokBoardTest
+ * 역할: 플레이어별 / 공용돌 / 팀 마스크를 합친 승패 판정 검증.
+ * 확인: 공용돌은 모두의 돌로 인정 / 팀전은 팀 합집합으로 5목 / 상대 돌은 끊김 /
+ *      Bomb 3x3 제거 / 공용돌 포함 swap / 승자 우선순위.
+ */
+class OmokBoardTest {
+
+    @Test
+    void placeRejectsOccupiedAndOutsideCells() {
+        OmokBoard board = new OmokBoard(2);
+
+        assertTrue(board.place(0, 7, 7));
+        assertFalse(board.place(1, 7, 7));
+        assertFalse(board.place(1, 15, 0));
+        assertEquals(1, board.signAt(7, 7));
+    }
+
+    @Test
+    void sharedStoneCountsForEveryPlayer() {
+        OmokBoard board = new OmokBoard(2);
+        for (int c = 0; c < 4; c++) board.place(0, 7, c);
+        board.place(1, 7, 4);
+        assertFalse(board.hasFive(0));
+
+        assertTrue(board.share(7, 4));
+        assertTrue(board.hasFive(0));
+        // 상대(1)에게는 공용돌 하나뿐
+        assertFalse(board.hasFive(1));
+        assertEquals(0, board.findWinner(0));
+    }
+
+    @Test
+    void teamStonesCombineIntoFive() {
+        OmokBoard board = new OmokBoard(4);
+        board.setTeams(new int[]{0, 1, 0, 1});
+
+        board.place(0, 3, 3);
+        board.place(2, 4, 4);
+        board.place(0, 5, 5);
+        board.place(2, 6, 6);
+        assertFalse(board.hasFive(0));
+
+        board.place(1, 7, 7);
+        assertFalse(board.hasFive(0)); // 상대 팀 돌이 끊는다
+
+        board.clear(7, 7);
+        board.place(2, 7, 7);
+        assertTrue(board.hasFive(0));
+        assertTrue(board.hasFive(2));
+        assertFalse(board.hasFive(1));
+        assertEquals(2, board.findWinner(2));
+        assertEquals(0, board.findWinner(1));
+    }
+
+    @Test
+    void teamAndSharedMasksCombine() {
+        OmokBoard board = new OmokBoard(4);
+        board.setTeams(new int[]{0, 1, 0, 1});
+
+        board.place(0, 0, 10);
+        board.place(2, 1, 10);
+        board.place(1, 2, 10);
+        board.place(0, 3, 10);
+        board.place(2, 4, 10);
+        assertFalse(board.hasFive(0));
+
+        board.share(2, 10);
+        assertTrue(board.hasFive(0));
+        assertFalse(board.hasFive(1));
+    }
+
+    @Test
+    void individualModeIgnoresOtherPlayersStones() {
+        OmokBoard board = new OmokBoard(4);
+        board.place(0, 3, 3);
+        board.place(2, 4, 4);
+        board.place(0, 5, 5);
+        board.place(2, 6, 6);
+        board.place(0, 7, 7);
+
+        assertEquals(OmokBoard.NO_WINNER, board.findWinner(0));
+    }
+
+    @Test
+    void bombClearsAreaIncludingSharedMarks() {
+        OmokBoard board = new OmokBoard(2);
+        board.place(0, 6, 6);
+        board.place(1, 7, 7);
+        board.share(7, 7);
+        board.place(1, 9, 9);
+
+        Bitboard removed = board.clearArea(7, 7);
+
+        assertEquals(2, removed.count());
+        assertTrue(board.isEmpty(6, 6));
+        assertTrue(board.isEmpty(7, 7));
+        assertFalse(board.isShared(7, 7));
+        assertEquals(2, board.signAt(9, 9));
+    }
+
+    @Test
+    void swapMovesOwnerAndSharedFlag() {
+        OmokBoard board = new OmokBoard(2);
+        board.place(0, 1, 1);
+        board.place(1, 2, 2);
+        board.share(2, 2);
+
+        board.swap(1, 1, 2, 2);
+
+        assertEquals(2, board.signAt(1, 1));
+        assertTrue(board.isShared(1, 1));
+        assertEquals(1, board.signAt(2, 2));
+        assertFalse(board.isShared(2, 2));
+    }
+}
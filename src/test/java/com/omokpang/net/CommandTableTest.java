@@ -0,0 +1,87 @@
+package com.omokpang.net;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/** CommandTableTest
+ * 역할: 명령어 디스패치 테이블 조회 검증.
+ * 확인: 줄 앞부분만으로 조회 / 해시 충돌(선형 탐사) / 크기 확장 후 재배치 / 접두어만 같은 명령어 구분.
+ */
+class CommandTableTest {
+
+    @Test
+    void findsCommandByLinePrefixWithoutSubstring() {
+        CommandTable<String> table = new CommandTable<String>()
+                .on("PLACE", "place")
+                .on("TURN_END", "turnEnd");
+
+        assertEquals("place", table.find("PLACE 7 8", 5));
+        assertEquals("turnEnd", table.find("TURN_END", 8));
+    }
+
+    @Test
+    void prefixOrLongerCommandDoesNotMatch() {
+        CommandTable<String> table = new CommandTable<String>()
+                .on("SWAP_START", "start")
+                .on("SWAP_TARGET", "target");
+
+        assertNull(table.find("SWAP 1 2", 4));
+        assertNull(table.find("SWAP_STARTX", 11));
+        assertEquals("target", table.find("SWAP_TARGET 1 2 3 4", 11));
+    }
+
+    @Test
+    void collidingHashesAreKeptApart() {
+        // "Aa" 와 "BB" 는 String.hashCode 가 같다 → 같은 슬롯에서 선형 탐사
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        CommandTable<Integer> table = new CommandTable<Integer>()
+                .on("Aa", 1)
+                .on("BB", 2)
+                .on("AaAa", 3)
+                .on("BBBB", 4)
+                .on("AaBB", 5);
+
+        assertEquals(1, table.find("Aa x", 2));
+        assertEquals(2, table.find("BB", 2));
+        assertEquals(3, table.find("AaAa", 4));
+        assertEquals(4, table.find("BBBB 1", 4));
+        assertEquals(5, table.find("AaBB", 4));
+        // 해시는 같지만 등록되지 않은 키
+        assertNull(table.find("BBAa", 4));
+    }
+
+    @Test
+    void survivesResizeWithCollisions() {
+        CommandTable<Integer> table = new CommandTable<>();
+        for (int i = 0; i < 200; i++) {
+            table.on("CMD_" + i, i);
+            table.on("Aa".repeat(i % 5 + 1) + "BB" + i, -i);
+        }
+        for (int i = 0; i < 200; i++) {
+            String key = "CMD_" + i;
+            assertEquals(i, table.find(key + " arg", key.length()));
+            String colliding = "Aa".repeat(i % 5 + 1) + "BB" + i;
+            assertEquals(-i, table.find(colliding, colliding.length()));
+        }
+        assertNull(table.find("CMD_200", 7));
+    }
+
+    @Test
+    void reRegisteringReplacesHandler() {
+        CommandTable<String> table = new CommandTable<String>()
+                .on("CHEER", "old")
+                .on("CHEER", "new");
+
+        assertEquals("new", table.find("CHEER hi", 5));
+    }
+
+    @Test
+    void emptyCommandIsNotFound() {
+        CommandTable<String> table = new CommandTable<String>().on("PING", "ping");
+
+        assertNull(table.find("", 0));
+        assertNull(table.find(" PING", 0));
+    }
+}
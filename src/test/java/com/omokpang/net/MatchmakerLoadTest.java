@@ -0,0 +1,94 @@
+package com.omokpang.net;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** MatchmakerLoadTest
+ * 역할: 초당 10k QUEUE 부하에서 Matchmaker 가 밀리지 않는지 확인하는 부하 테스트.
+ * 방식: 여러 스레드가 1v1 / 1v1v1v1 / 2v2 에 나눠서 초당 RATE 건 속도로 1초 동안 입장,
+ *      틱 스레드(10ms)가 방을 만든다. 모든 플레이어가 정확히 한 번씩 방에 들어갔는지와
+ *      입장 → MATCH 지연(평균 / 최대)을 출력한다.
+ * 실행: ./gradlew loadTest  (벽시계 속도를 보므로 기본 test 에서는 빠진다)
+ */
+@Tag("load")
+class MatchmakerLoadTest {
+
+    private static final int RATE_PER_SECOND = 10_000;
+    private static final int THREADS = 4;
+    private static final String[] MODES = {"1v1", "1v1v1v1", "2v2"};
+
+    @Test
+    void keepsUpWithTenThousandQueueRequestsPerSecond() throws Exception {
+        Set<String> matched = ConcurrentHashMap.newKeySet();
+        Map<String, Long> joinedAt = new ConcurrentHashMap<>();
+        AtomicInteger duplicates = new AtomicInteger();
+        AtomicLong totalWaitNanos = new AtomicLong();
+        AtomicLong maxWaitNanos = new AtomicLong();
+
+        Matchmaker mm = new Matchmaker(nick -> true, (mode, players) -> {
+            long now = System.nanoTime();
+            for (String p : players) {
+                if (!matched.add(p)) duplicates.incrementAndGet();
+                long waited = now - joinedAt.get(p);
+                totalWaitNanos.addAndGet(waited);
+                maxWaitNanos.accumulateAndGet(waited, Math::max);
+            }
+        }).mode("1v1", 2).mode("1v1v1v1", 4).mode("2v2", 4);
+        mm.start(10);
+        try {
+            // 모드별 방 크기(2 / 4 / 4)의 최소공배수 배수로 맞춰 1초 뒤에는 남는 사람이 없도록
+            int perThread = RATE_PER_SECOND / THREADS / 12 * 12;
+            int total = perThread * THREADS;
+            long intervalNanos = TimeUnit.SECONDS.toNanos(1) / perThread;
+
+            CountDownLatch done = new CountDownLatch(THREADS);
+            long start = System.nanoTime();
+            for (int t = 0; t < THREADS; t++) {
+                int id = t;
+                Thread producer = new Thread(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        // 속도 맞추기: i 번째 요청은 start + i * interval 이후에
+                        long due = start + i * intervalNanos;
+                        while (System.nanoTime() < due) Thread.onSpinWait();
+
+                        String nick = "t" + id + "-" + i;
+                        joinedAt.put(nick, System.nanoTime());
+                        mm.enqueue(MODES[i % MODES.length], nick);
+                    }
+                    done.countDown();
+                });
+                producer.start();
+            }
+
+            assertTrue(done.await(10, TimeUnit.SECONDS), "producers did not finish");
+            long sendNanos = System.nanoTime() - start;
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (matched.size() < total && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            double seconds = sendNanos / 1e9;
+            System.out.printf("[LOAD] %d QUEUE in %.2fs (%.0f/s), matched=%d, avg wait=%.2fms, max wait=%.2fms%n",
+                    total, seconds, total / seconds, matched.size(),
+                    totalWaitNanos.get() / 1e6 / Math.max(1, matched.size()), maxWaitNanos.get() / 1e6);
+
+            assertEquals(0, duplicates.get(), "player matched twice");
+            assertEquals(total, matched.size(), "players left waiting");
+            assertTrue(total / seconds >= RATE_PER_SECOND * 0.8, "could not sustain the request rate");
+        } finally {
+            mm.stop();
+        }
+    }
+}
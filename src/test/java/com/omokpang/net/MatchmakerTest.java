@@ -0,0 +1,167 @@
+package com.omokpang.net;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** MatchmakerTest
+ * 역할: 모드별 대기열 / 방 구성(FIFO 정책) 검증.
+ * 확인: 방 크기만큼 모이면 방 생성 / 중복 입장 거부 / 모드 간 독립 / 접속 끊김·대기 취소 플레이어 제외 / 재입장은 새 자리 /
+ *      한 번의 구성에서 N/k 개 방 / 남은 인원의 순서 유지.
+ */
+class MatchmakerTest {
+
+    private final Set<String> offline = new HashSet<>();
+    private final List<String> modes = new ArrayList<>();
+    private final List<String[]> rooms = new ArrayList<>();
+
+    private Matchmaker matchmaker(MatchQueue queue) {
+        return new Matchmaker(nick -> !offline.contains(nick), () -> queue, (mode, players) -> {
+            modes.add(mode);
+            rooms.add(players);
+        }).mode("1v1", 2);
+    }
+
+    private Matchmaker matchmaker() {
+        return new Matchmaker(nick -> !offline.contains(nick), (mode, players) -> {
+            modes.add(mode);
+            rooms.add(players);
+        }).mode("1v1", 2).mode("2v2", 4);
+    }
+
+    @Test
+    void formsRoomInArrivalOrderWhenFull() {
+        Matchmaker mm = matchmaker();
+
+        assertTrue(mm.enqueue("1v1", "a"));
+        assertTrue(rooms.isEmpty());
+        assertTrue(mm.enqueue("1v1", "b"));
+
+        assertEquals(1, rooms.size());
+        assertEquals("1v1", modes.get(0));
+        assertArrayEquals(new String[]{"a", "b"}, rooms.get(0));
+    }
+
+    @Test
+    void rejectsDuplicateAndUnknownMode() {
+        Matchmaker mm = matchmaker();
+
+        assertTrue(mm.enqueue("2v2", "a"));
+        assertFalse(mm.enqueue("2v2", "a"));
+        assertFalse(mm.enqueue("3v3", "b"));
+    }
+
+    @Test
+    void modesDoNotMix() {
+        Matchmaker mm = matchmaker();
+
+        mm.enqueue("1v1", "a");
+        mm.enqueue("2v2", "b");
+        mm.enqueue("2v2", "c");
+        mm.enqueue("2v2", "d");
+        assertTrue(rooms.isEmpty());
+
+        mm.enqueue("2v2", "e");
+        assertEquals(1, rooms.size());
+        assertArrayEquals(new String[]{"b", "c", "d", "e"}, rooms.get(0));
+    }
+
+    @Test
+    void skipsRemovedAndOfflinePlayers() {
+        Matchmaker mm = matchmaker();
+
+        mm.enqueue("2v2", "a");
+        mm.enqueue("2v2", "gone");
+        mm.remove("gone");
+        mm.enqueue("2v2", "b");
+        offline.add("b");
+        mm.enqueue("2v2", "c");
+        mm.enqueue("2v2", "d");
+        assertTrue(rooms.isEmpty());
+
+        offline.clear();
+        mm.enqueue("2v2", "e");
+        mm.enqueue("2v2", "f");
+        assertEquals(1, rooms.size());
+        assertArrayEquals(new String[]{"a", "c", "d", "e"}, rooms.get(0));
+    }
+
+    @Test
+    void removedPlayerCanQueueAgain() {
+        Matchmaker mm = matchmaker();
+
+        mm.enqueue("1v1", "a");
+        mm.remove("a");
+        assertTrue(mm.enqueue("1v1", "a"));
+        mm.enqueue("1v1", "b");
+
+        assertEquals(1, rooms.size());
+        assertArrayEquals(new String[]{"a", "b"}, rooms.get(0));
+    }
+
+    @Test
+    void requeuedPlayerWaitsFromNewPosition() {
+        FifoMatchQueue queue = new FifoMatchQueue();
+        queue.add("a");
+        queue.add("b");
+        queue.remove("a");
+        queue.add("c");
+        assertTrue(queue.add("a")); // 예전 자리(맨 앞)가 아니라 c 뒤에 선다
+
+        List<String[]> formed = queue.drainRooms(2, nick -> true);
+
+        assertEquals(1, formed.size());
+        assertArrayEquals(new String[]{"b", "c"}, formed.get(0));
+        assertEquals(1, queue.size());
+        assertFalse(queue.add("a"));
+    }
+
+    @Test
+    void onePassDrainsEveryFullRoomAndKeepsLeftoversInOrder() {
+        FifoMatchQueue queue = new FifoMatchQueue();
+        for (int i = 0; i < 9; i++) {
+            queue.add("p" + i);
+        }
+
+        List<String[]> formed = queue.drainRooms(4, nick -> true);
+
+        assertEquals(2, formed.size());
+        assertArrayEquals(new String[]{"p0", "p1", "p2", "p3"}, formed.get(0));
+        assertArrayEquals(new String[]{"p4", "p5", "p6", "p7"}, formed.get(1));
+        assertEquals(1, queue.size());
+
+        // 오프라인으로 한 명이 빠져 방을 못 채우면 남은 인원은 순서 그대로 앞에 남는다
+        queue.add("p9");
+        queue.add("p10");
+        queue.add("p11");
+        offline.add("p9");
+        assertTrue(queue.drainRooms(4, nick -> !offline.contains(nick)).isEmpty());
+
+        queue.add("p12");
+        formed = queue.drainRooms(4, nick -> true);
+        assertEquals(1, formed.size());
+        assertArrayEquals(new String[]{"p8", "p10", "p11", "p12"}, formed.get(0));
+    }
+
+    @Test
+    void delegatesPairingToQueuePolicy() {
+        RatingMatchQueue queue = new RatingMatchQueue(nick -> nick.length() * 100, 50, 0);
+        Matchmaker mm = matchmaker(queue);
+
+        mm.enqueue("1v1", "a");
+        mm.enqueue("1v1", "bbb");
+        assertTrue(rooms.isEmpty()); // 200 점 차이 → window 50 밖
+
+        mm.enqueue("1v1", "c");
+        assertEquals(1, rooms.size());
+        assertArrayEquals(new String[]{"a", "c"}, rooms.get(0));
+    }
+}
@@ -0,0 +1,114 @@
+package com.omokpang.net;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/** MessageArgsTest
+ * 역할: 공백 구분 메시지 커서(MessageArgs) 파싱 검증.
+ * 확인: 부호 / int 범위 경계·오버플로 / 잘못된 숫자 / 토큰 개수 / rest / 바이너리 좌표 프레임.
+ */
+class MessageArgsTest {
+
+    private final MessageArgs args = new MessageArgs();
+
+    @Test
+    void readsCoordinatesAfterCommand() {
+        args.reset("SWAP_TARGET 1 2 13 14");
+
+        assertEquals("SWAP_TARGET".length(), args.commandEnd());
+        assertEquals(4, args.remainingTokens());
+        assertEquals(1, args.nextInt());
+        assertEquals(2, args.nextInt());
+        assertEquals(13, args.nextInt());
+        assertEquals(14, args.nextInt());
+        assertEquals(0, args.remainingTokens());
+    }
+
+    @Test
+    void toleratesRepeatedSpacesAndTabs() {
+        args.reset("PLACE  7\t 8 ");
+
+        assertEquals(2, args.remainingTokens());
+        assertEquals(7, args.nextInt());
+        assertEquals(8, args.nextInt());
+    }
+
+    @Test
+    void parsesSignedValuesAtIntBounds() {
+        args.reset("X -5 0 -0 2147483647 -2147483648");
+
+        assertEquals(-5, args.nextInt());
+        assertEquals(0, args.nextInt());
+        assertEquals(0, args.nextInt());
+        assertEquals(Integer.MAX_VALUE, args.nextInt());
+        assertEquals(Integer.MIN_VALUE, args.nextInt());
+    }
+
+    @Test
+    void rejectsOverflowInsteadOfWrapping() {
+        assertThrows(NumberFormatException.class, () -> args.reset("X 2147483648").nextInt());
+        assertThrows(NumberFormatException.class, () -> args.reset("X -2147483649").nextInt());
+        assertThrows(NumberFormatException.class, () -> args.reset("X 99999999999999999999").nextInt());
+    }
+
+    @Test
+    void rejectsMalformedNumbers() {
+        assertThrows(NumberFormatException.class, () -> args.reset("PLACE x 7").nextInt());
+        assertThrows(NumberFormatException.class, () -> args.reset("PLACE 7x").nextInt());
+        assertThrows(NumberFormatException.class, () -> args.reset("PLACE -").nextInt());
+        assertThrows(NumberFormatException.class, () -> args.reset("PLACE --1").nextInt());
+        assertThrows(NumberFormatException.class, () -> args.reset("PLACE +1").nextInt());
+        assertThrows(NumberFormatException.class, () -> args.reset("PLACE").nextInt());
+    }
+
+    @Test
+    void tokensAndRest() {
+        args.reset("CHEER alice  hello world ");
+
+        assertEquals("alice", args.nextToken());
+        assertEquals(" hello world ", args.rest());
+        assertNull(args.nextToken());
+
+        args.reset("TURN_END");
+        assertEquals(0, args.remainingTokens());
+        assertNull(args.nextToken());
+        assertEquals("", args.rest());
+    }
+
+    @Test
+    void resetClearsPreviousState() {
+        args.reset("PLACE 1 2");
+        args.nextInt();
+        args.reset("BOMB_TARGET 3 4");
+
+        assertEquals(3, args.nextInt());
+        assertEquals(4, args.nextInt());
+    }
+
+    @Test
+    void readsPackedCoordinatesFromBinaryFrame() {
+        byte[] frame = WireCodec.encode("SWAP_TARGET 0 14 14 0");
+        args.resetFrame(frame);
+
+        assertEquals("SWAP_TARGET", args.command().substring(0, args.commandEnd()));
+        assertEquals(4, args.remainingTokens());
+        assertEquals(0, args.nextInt());
+        assertEquals(14, args.nextInt());
+        assertEquals(14, args.nextInt());
+        assertEquals(0, args.nextInt());
+        assertThrows(NumberFormatException.class, args::nextInt);
+        assertEquals("SWAP_TARGET 0 14 14 0", args.line());
+        assertEquals(frame, args.frame());
+    }
+
+    @Test
+    void textFrameFallsBackToLineCursor() {
+        args.resetFrame(WireCodec.encode("CHEER bob 안녕 하세요"));
+
+        assertEquals("bob", args.nextToken());
+        assertEquals("안녕 하세요", args.rest());
+    }
+}
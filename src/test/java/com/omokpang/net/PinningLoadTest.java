@@ -0,0 +1,139 @@
+package com.omokpang.net;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** PinningLoadTest
+ * 역할: --mode=virtual 서버가 부하 중에 carrier 스레드를 묶지(pinning) 않는지 JFR 로 확인하는 부하 테스트.
+ * 방식: 별도 JVM 으로 --pin-check --pin-threshold-ms=0 서버를 띄우고, 클라이언트 CLIENTS 개가 1v1 로 묶여
+ *      DURATION 동안 자기 턴마다 PLACE / CHEER / TURN_END 를 보낸다 (판이 끝나면 다시 QUEUE).
+ *      서버를 종료시켜 PinningMonitor 의 종료 요약을 읽고, jdk.VirtualThreadPinned 가 한 건이라도 있으면 실패.
+ * 실행: ./gradlew loadTest
+ */
+@Tag("load")
+class PinningLoadTest {
+
+    private static final int CLIENTS = 200;
+    private static final long DURATION_MILLIS = 10_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void virtualModeNeverPinsCarrierUnderLoad() throws Exception {
+        int port;
+        try (ServerSocket probe = new ServerSocket(0)) {
+            port = probe.getLocalPort();
+        }
+        Path log = dir.resolve("server.log");
+        Process server = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                GameServer.class.getName(),
+                "--port=" + port, "--mode=virtual", "--pin-check", "--pin-threshold-ms=0",
+                "--result-ledger=" + dir.resolve("results.dat"), "--rank-refresh-seconds=0")
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+
+        AtomicLong turns = new AtomicLong();
+        List<Thread> clients = new ArrayList<>();
+        try {
+            awaitListening(port);
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+            for (int i = 0; i < CLIENTS; i++) {
+                String nick = "load" + i;
+                clients.add(Thread.ofVirtual().start(() -> play(port, nick, deadline, turns)));
+            }
+            for (Thread t : clients) t.join();
+
+            // JFR 스트림은 약 1초 단위로 이벤트를 내보낸다 → 종료 전에 한 번 더 기다린다
+            Thread.sleep(2000);
+        } finally {
+            server.destroy(); // SIGTERM → 종료 훅에서 마지막 요약 출력
+            server.waitFor(10, TimeUnit.SECONDS);
+            server.destroyForcibly();
+        }
+
+        List<String> lines = Files.readAllLines(log, StandardCharsets.UTF_8);
+        String summary = null;
+        for (String line : lines) {
+            assertFalse(line.contains("virtual thread pinned"), line);
+            if (line.contains("pinning summary:")) summary = line;
+        }
+        System.out.println("[LOAD] " + CLIENTS + " clients, " + turns.get() + " turns played, " + summary);
+
+        assertTrue(turns.get() > CLIENTS, "load did not run (turns=" + turns.get() + ")");
+        assertTrue(summary != null && summary.contains("events=0"), "missing or non-zero summary: " + summary);
+    }
+
+    private static void awaitListening(int port) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        while (System.nanoTime() < deadline) {
+            try {
+                new Socket("127.0.0.1", port).close();
+                return;
+            } catch (IOException e) {
+                Thread.sleep(100);
+            }
+        }
+        throw new IllegalStateException("server did not start on port " + port);
+    }
+
+    // 클라이언트 한 명: 자기 턴이면 무작위 칸에 PLACE + CHEER + TURN_END, 판이 끝나면 다시 QUEUE
+    private static void play(int port, String nick, long deadline, AtomicLong turns) {
+        try (Socket socket = new Socket("127.0.0.1", port)) {
+            socket.setSoTimeout(1000);
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            out.println("LOGIN " + nick);
+            out.println("QUEUE 1v1 " + nick);
+            while (System.nanoTime() < deadline) {
+                String line;
+                try {
+                    line = in.readLine();
+                } catch (SocketTimeoutException e) {
+                    continue;
+                }
+                if (line == null) return;
+
+                if (line.equals("TURN " + nick)) {
+                    turns.incrementAndGet();
+                    out.println("PLACE " + random.nextInt(15) + " " + random.nextInt(15));
+                    out.println("CHEER " + nick + " 화이팅");
+                    out.println("TURN_END");
+                } else if (line.startsWith("GAME_OVER")) {
+                    out.println("QUEUE 1v1 " + nick);
+                } else if (line.equals("PING")) {
+                    out.println("PONG");
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("[LOAD] " + nick + ": " + e);
+        }
+    }
+}
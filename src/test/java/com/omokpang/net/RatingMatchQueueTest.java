@@ -0,0 +1,158 @@
+package com.omokpang.net;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** RatingMatchQueueTest
+ * 역할: 레이팅 매칭 대기열 검증 (가짜 시계로 대기 시간 제어).
+ * 확인: 가장 가까운 포인트끼리 묶기 / 오래 기다릴수록 window 확대 / 가장 오래 기다린 사람이 기준·선공 /
+ *      4인 방은 기준 양옆에서 고르기 / 빠진·재입장·오프라인 항목 정리.
+ */
+class RatingMatchQueueTest {
+
+    private static final int BASE_WINDOW = 100;
+    private static final int WINDOW_PER_SECOND = 50;
+
+    private final Map<String, Integer> points = new HashMap<>();
+    private final Set<String> offline = new HashSet<>();
+    private long now = 1_000_000_000L;
+
+    private final RatingMatchQueue queue = new RatingMatchQueue(
+            nick -> points.getOrDefault(nick, 0), BASE_WINDOW, WINDOW_PER_SECOND, () -> now);
+
+    private void join(String nick, int rating) {
+        points.put(nick, rating);
+        assertTrue(queue.add(nick));
+    }
+
+    private void waitSeconds(int seconds) {
+        now += TimeUnit.SECONDS.toNanos(seconds);
+    }
+
+    private List<String[]> drain(int roomSize) {
+        return queue.drainRooms(roomSize, nick -> !offline.contains(nick));
+    }
+
+    @Test
+    void pairsNearestRatingFirst() {
+        join("a", 1000);
+        join("far", 1090);
+        join("near", 1010);
+
+        List<String[]> rooms = drain(2);
+
+        assertEquals(1, rooms.size());
+        assertArrayEquals(new String[]{"a", "near"}, rooms.get(0));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void windowWidensWithWaitingTime() {
+        join("a", 1000);
+        join("b", 1300);
+
+        // 처음엔 window 100 → 300 점 차이는 안 묶인다
+        assertTrue(drain(2).isEmpty());
+
+        // 3초: 100 + 3*50 = 250 → 아직
+        waitSeconds(3);
+        assertTrue(drain(2).isEmpty());
+
+        // 4초: 300 → 경계 포함해서 묶인다
+        waitSeconds(1);
+        List<String[]> rooms = drain(2);
+        assertEquals(1, rooms.size());
+        assertArrayEquals(new String[]{"a", "b"}, rooms.get(0));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void windowIsMeasuredFromAnchorsOwnJoinTime() {
+        join("old", 1000);
+        waitSeconds(10);      // old 의 window = 600
+        join("new", 1500);
+
+        List<String[]> rooms = drain(2);
+
+        // 먼저 온 old 가 기준이자 선공, 새로 온 new 는 old 의 넓어진 window 로 묶인다
+        assertEquals(1, rooms.size());
+        assertArrayEquals(new String[]{"old", "new"}, rooms.get(0));
+    }
+
+    @Test
+    void fourPlayerRoomPicksFromBothSides() {
+        join("anchor", 1000);
+        join("low", 960);
+        join("high", 1030);
+        join("higher", 1070);
+        join("lowest", 800);
+
+        List<String[]> rooms = drain(4);
+
+        assertEquals(1, rooms.size());
+        assertArrayEquals(new String[]{"anchor", "high", "low", "higher"}, rooms.get(0));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void fourPlayerRoomWaitsUntilEnoughPlayersInWindow() {
+        join("a", 1000);
+        join("b", 1050);
+        join("c", 1100);
+        join("d", 1400);
+
+        assertTrue(drain(4).isEmpty());
+
+        waitSeconds(6); // a 의 window = 400
+        List<String[]> rooms = drain(4);
+        assertEquals(1, rooms.size());
+        assertEquals("a", rooms.get(0)[0]);
+    }
+
+    @Test
+    void skipsRemovedRequeuedAndOfflineEntries() {
+        join("a", 1000);
+        join("gone", 1001);
+        queue.remove("gone");
+        join("back", 1002);
+        queue.remove("back");
+        points.put("back", 5000);
+        assertTrue(queue.add("back"));  // 재입장 → 예전 항목(1002)은 무시
+        join("off", 1003);
+        offline.add("off");
+        join("b", 1050);
+
+        List<String[]> rooms = drain(2);
+
+        assertEquals(1, rooms.size());
+        assertArrayEquals(new String[]{"a", "b"}, rooms.get(0));
+        // off 는 접속이 끊겨 정리되고, back 만 남는다
+        assertEquals(1, queue.size());
+        assertFalse(queue.add("back"));
+    }
+
+    @Test
+    void equalRatingsKeepArrivalOrder() {
+        join("first", 1000);
+        join("second", 1000);
+        join("third", 1000);
+        join("fourth", 1000);
+
+        List<String[]> rooms = drain(2);
+
+        assertEquals(2, rooms.size());
+        assertArrayEquals(new String[]{"first", "second"}, rooms.get(0));
+        assertArrayEquals(new String[]{"third", "fourth"}, rooms.get(1));
+    }
+}
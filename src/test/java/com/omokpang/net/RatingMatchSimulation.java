@@ -0,0 +1,100 @@
+package com.omokpang.net;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/** RatingMatchSimulation
+ * 역할: 레이팅 매칭(RatingMatchQueue) 시뮬레이션 하네스. 테스트가 아니라 직접 실행해서 수치를 보는 용도.
+ * 방식: 가짜 시계로 SIM_SECONDS 동안 100ms 틱마다 플레이어를 도착시키고(포인트 ~ N(1000, 300)),
+ *      매 틱 drainRooms 로 방을 만든다. 도착 속도를 바꿔 가며 평균 대기열 크기에 따른
+ *      대기 시간(평균 / p95)과 방 안 포인트 차이(최대 - 최소, 평균 / p95)를 출력한다.
+ * 실행: ./gradlew ratingSimulation  (인자: [window] [window-step] [roomSize], 기본 100 20 2)
+ */
+public class RatingMatchSimulation {
+
+    private static final int SIM_SECONDS = 600;
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int[] ARRIVALS_PER_SECOND = {1, 5, 20, 100, 500, 2000};
+
+    public static void main(String[] args) {
+        int window = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int windowStep = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int roomSize = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+
+        System.out.printf("rating window=%d (+%d/s), roomSize=%d, %ds simulated%n",
+                window, windowStep, roomSize, SIM_SECONDS);
+        System.out.printf("%10s %10s %10s %10s %10s %10s %10s%n",
+                "arrive/s", "avgQueue", "rooms", "avgWait", "p95Wait", "avgSpread", "p95Spread");
+
+        for (int rate : ARRIVALS_PER_SECOND) {
+            run(rate, window, windowStep, roomSize);
+        }
+    }
+
+    private static void run(int arrivalsPerSecond, int window, int windowStep, int roomSize) {
+        Random random = new Random(42);
+        long[] clock = {0};
+        Map<String, Integer> points = new HashMap<>();
+        Map<String, Long> joinedAt = new HashMap<>();
+
+        RatingMatchQueue queue = new RatingMatchQueue(points::get, window, windowStep, () -> clock[0]);
+
+        List<Long> waits = new ArrayList<>();
+        List<Integer> spreads = new ArrayList<>();
+        long queueSizeSum = 0;
+        int ticks = (int) (TimeUnit.SECONDS.toNanos(SIM_SECONDS) / TICK_NANOS);
+        double perTick = arrivalsPerSecond * (TICK_NANOS / 1e9);
+        double carry = 0;
+        int nextId = 0;
+
+        for (int t = 0; t < ticks; t++) {
+            clock[0] += TICK_NANOS;
+
+            carry += perTick;
+            while (carry >= 1) {
+                carry -= 1;
+                String nick = "p" + nextId++;
+                points.put(nick, (int) Math.max(0, Math.round(1000 + random.nextGaussian() * 300)));
+                joinedAt.put(nick, clock[0]);
+                queue.add(nick);
+            }
+
+            for (String[] room : queue.drainRooms(roomSize, nick -> true)) {
+                int min = Integer.MAX_VALUE;
+                int max = Integer.MIN_VALUE;
+                for (String p : room) {
+                    waits.add(clock[0] - joinedAt.remove(p));
+                    min = Math.min(min, points.get(p));
+                    max = Math.max(max, points.get(p));
+                }
+                spreads.add(max - min);
+            }
+            queueSizeSum += queue.size();
+        }
+
+        System.out.printf("%10d %10.1f %10d %9.2fs %9.2fs %10.1f %10d%n",
+                arrivalsPerSecond, (double) queueSizeSum / ticks, spreads.size(),
+                average(waits) / 1e9, percentile(waits, 0.95) / 1e9,
+                average(spreads), percentile(spreads, 0.95));
+    }
+
+    private static double average(List<? extends Number> values) {
+        if (values.isEmpty()) return 0;
+        double sum = 0;
+        for (Number v : values) sum += v.doubleValue();
+        return sum / values.size();
+    }
+
+    private static long percentile(List<? extends Number> values, double p) {
+        if (values.isEmpty()) return 0;
+        long[] sorted = new long[values.size()];
+        for (int i = 0; i < sorted.length; i++) sorted[i] = values.get(i).longValue();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))];
+    }
+}
@@ -0,0 +1,163 @@
+package com.omokpang.net;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/** WireCodecTest
+ * 역할: 바이너리 프레임 형식 검증.
+ * 확인: 형식별 왕복 / 좌표 1바이트 압축 / 표현할 수 없는 줄은 RAW 로 그대로 왕복 /
+ *      길이 varint 1↔2바이트 경계와 MAX_BODY_BYTES / sliceFrame·FrameReader 의 덜 온 프레임·잘못된 길이 처리.
+ */
+class WireCodecTest {
+
+    private static void assertRoundTrip(String line) {
+        assertEquals(line, WireCodec.decodeLine(WireCodec.encode(line)));
+    }
+
+    private static String repeat(char c, int n) {
+        return String.valueOf(c).repeat(n);
+    }
+
+    @Test
+    void roundTripsEveryLayout() {
+        assertRoundTrip("PLACE 7 8");
+        assertRoundTrip("SWAP_TARGET 0 14 14 0");
+        assertRoundTrip("TURN_END");
+        assertRoundTrip("TURN 오목왕");
+        assertRoundTrip("CHEER alice 잘 한다 !");
+        assertRoundTrip("GAME_OVER bob");
+    }
+
+    @Test
+    void packsCoordinatesIntoOneBytePerCell() {
+        byte[] frame = WireCodec.encode("PLACE 7 8");
+
+        assertArrayEquals(new byte[]{2, 0x01, (byte) (7 * 15 + 8)}, frame);
+        assertEquals(0x01, WireCodec.opcode(frame));
+
+        int[] rc = new int[4];
+        assertEquals(4, WireCodec.unpackCoords(WireCodec.encode("SWAP_TARGET 1 2 3 4"), rc));
+        assertArrayEquals(new int[]{1, 2, 3, 4}, rc);
+    }
+
+    @Test
+    void linesThatDoNotFitTheLayoutFallBackToRaw() {
+        String[] lines = {
+                "PLACE 7 15",        // 범위 밖
+                "PLACE 07 8",        // 되돌리면 글자가 달라짐
+                "PLACE 7",           // 좌표 부족
+                "PLACE 7 8 9",       // 좌표 남음
+                "PLACE 7  8",        // 공백 두 개
+                "PLACE -1 3",
+                "TURN_END now",      // NONE 인데 인자가 있음
+                "TURN",              // TEXT 인데 인자가 없음
+                "HELLO world",       // 표에 없는 명령
+                "",
+        };
+        for (String line : lines) {
+            byte[] frame = WireCodec.encode(line);
+            assertEquals(WireCodec.OP_RAW, WireCodec.opcode(frame), line);
+            assertEquals(line, WireCodec.decodeLine(frame));
+        }
+    }
+
+    @Test
+    void lengthPrefixSwitchesToTwoBytesAt128() {
+        // RAW 본문 = opcode 1바이트 + 줄 바이트 수
+        byte[] small = WireCodec.encode(repeat('x', 126));   // 본문 127
+        byte[] large = WireCodec.encode(repeat('x', 127));   // 본문 128
+
+        assertEquals(1, WireCodec.prefixLength(small));
+        assertEquals(1 + 127, small.length);
+        assertEquals(2, WireCodec.prefixLength(large));
+        assertEquals(2 + 128, large.length);
+        assertEquals(repeat('x', 127), WireCodec.decodeLine(large));
+    }
+
+    @Test
+    void bodyLimitIsMaxBodyBytes() {
+        String fits = repeat('x', WireCodec.MAX_BODY_BYTES - 1);
+        byte[] frame = WireCodec.encode(fits);
+        assertEquals(2 + WireCodec.MAX_BODY_BYTES, frame.length);
+        assertRoundTrip(fits);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> WireCodec.encode(repeat('x', WireCodec.MAX_BODY_BYTES)));
+        // 길이 제한은 글자 수가 아니라 UTF-8 바이트 수 (한글 한 글자 = 3바이트)
+        assertThrows(IllegalArgumentException.class,
+                () -> WireCodec.encode("CHEER " + repeat('가', WireCodec.MAX_BODY_BYTES / 3 + 1)));
+    }
+
+    @Test
+    void sliceFrameWaitsForWholeFrames() throws IOException {
+        byte[] a = WireCodec.encode("PLACE 1 2");
+        byte[] b = WireCodec.encode(repeat('y', 200)); // 2바이트 길이
+        ByteBuffer buf = ByteBuffer.allocate(a.length + b.length);
+
+        // 첫 바이트만 온 상태 → 아직
+        buf.put(a, 0, 1).flip();
+        assertNull(WireCodec.sliceFrame(buf));
+        assertEquals(0, buf.position());
+
+        buf.compact().put(a, 1, a.length - 1).put(b, 0, 1).flip();
+        assertArrayEquals(a, WireCodec.sliceFrame(buf));
+        // 2바이트 길이 필드의 첫 바이트만 있음 → 아직
+        assertNull(WireCodec.sliceFrame(buf));
+
+        buf.compact().put(b, 1, b.length - 1).flip();
+        assertArrayEquals(b, WireCodec.sliceFrame(buf));
+        assertNull(WireCodec.sliceFrame(buf));
+    }
+
+    @Test
+    void sliceFrameRejectsBadLengths() {
+        assertThrows(IOException.class, () -> WireCodec.sliceFrame(ByteBuffer.wrap(new byte[]{0})));
+
+        int tooBig = WireCodec.MAX_BODY_BYTES + 1;
+        byte[] prefix = {(byte) (0x80 | (tooBig & 0x7F)), (byte) (tooBig >>> 7)};
+        assertThrows(IOException.class, () -> WireCodec.sliceFrame(ByteBuffer.wrap(prefix)));
+    }
+
+    @Test
+    void frameReaderSwitchesFromTextToFramesWithoutLosingBytes() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write("PROTO_OK BIN 1\r\n".getBytes(StandardCharsets.UTF_8));
+        out.write(WireCodec.encode("TURN alice"));
+        out.write(WireCodec.encode(repeat('z', 300)));
+
+        FrameReader reader = new FrameReader(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals("PROTO_OK BIN 1", reader.readLine());
+        assertEquals("TURN alice", WireCodec.decodeLine(reader.readFrame()));
+        assertEquals(repeat('z', 300), WireCodec.decodeLine(reader.readFrame()));
+        assertNull(reader.readFrame());
+    }
+
+    @Test
+    void frameReaderRejectsTruncatedAndOversizedInput() {
+        byte[] frame = WireCodec.encode("CHEER a hi");
+        byte[] truncated = Arrays.copyOf(frame, frame.length - 1);
+        assertThrows(EOFException.class,
+                () -> new FrameReader(new ByteArrayInputStream(truncated)).readFrame());
+        assertThrows(EOFException.class,
+                () -> new FrameReader(new ByteArrayInputStream(new byte[]{(byte) 0x81})).readFrame());
+        assertThrows(IOException.class,
+                () -> new FrameReader(new ByteArrayInputStream(new byte[]{0})).readFrame());
+
+        byte[] longLine = repeat('x', WireCodec.MAX_BODY_BYTES + 10).getBytes(StandardCharsets.UTF_8);
+        assertThrows(IOException.class,
+                () -> new FrameReader(new ByteArrayInputStream(longLine)).readLine());
+    }
+}
@@ -0,0 +1,160 @@
+package com.omokpang.repository;
+
+import com.omokpang.domain.user.LeaderboardEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** RankIndexTest
+ * 역할: Fenwick 순위 인덱스 검증 (DB 대신 배열을 PointSource 로 사용).
+ * 확인: 같은 포인트는 같은 순위 / 무작위 이동 후에도 단순 계산과 일치 / 처음 크기보다 큰 포인트 /
+ *      다시 읽는 도중 들어온 변경 반영 / 실패하면 이전 트리 유지 / 랭킹 화면 순위(LeaderboardEntry.next)와 같은 규칙.
+ */
+class RankIndexTest {
+
+    private static RankIndex.PointSource source(int[] points) {
+        return consumer -> {
+            for (int p : points) consumer.accept(p);
+            return true;
+        };
+    }
+
+    private static int naiveRank(int[] points, int p) {
+        int higher = 0;
+        for (int q : points) {
+            if (q > p) higher++;
+        }
+        return higher + 1;
+    }
+
+    @Test
+    void notReadyBeforeWarmUp() {
+        RankIndex index = new RankIndex();
+        assertEquals(-1, index.rankOf(100));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void tiesShareRank() {
+        RankIndex index = new RankIndex();
+        assertTrue(index.warmUp(source(new int[]{300, 100, 200, 200, 0})));
+
+        assertEquals(1, index.rankOf(300));
+        assertEquals(2, index.rankOf(200));
+        assertEquals(4, index.rankOf(100));
+        assertEquals(5, index.rankOf(0));
+        assertEquals(1, index.rankOf(1000)); // 아무도 없는 높은 포인트
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void matchesNaiveCountAfterRandomMoves() {
+        Random random = new Random(3);
+        int[] points = new int[20_000];
+        for (int i = 0; i < points.length; i++) points[i] = random.nextInt(3000);
+
+        RankIndex index = new RankIndex();
+        index.warmUp(source(points));
+
+        for (int n = 0; n < 5_000; n++) {
+            int i = random.nextInt(points.length);
+            int next = Math.max(0, points[i] + random.nextInt(201) - 100);
+            index.onMoved(points[i], next);
+            points[i] = next;
+        }
+
+        for (int n = 0; n < 200; n++) {
+            int p = random.nextInt(3200);
+            assertEquals(naiveRank(points, p), index.rankOf(p), "points " + p);
+        }
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        RankIndex index = new RankIndex();
+        index.warmUp(source(new int[]{10, 20}));
+
+        index.onMoved(20, 100_000);
+        assertEquals(1, index.rankOf(100_000));
+        assertEquals(2, index.rankOf(10));
+        assertEquals(2, index.rankOf(20));
+    }
+
+    @Test
+    void movesDuringRefreshReachTheNewTree() throws Exception {
+        RankIndex index = new RankIndex();
+        index.warmUp(source(new int[]{100, 200}));
+
+        CountDownLatch streaming = new CountDownLatch(1);
+        CountDownLatch moved = new CountDownLatch(1);
+        Thread refresh = new Thread(() -> index.warmUp(consumer -> {
+            // DB 에서 읽은 시점의 값 (정산 전)
+            consumer.accept(100);
+            consumer.accept(200);
+            streaming.countDown();
+            try {
+                moved.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return false;
+            }
+            return true;
+        }));
+        refresh.start();
+
+        assertTrue(streaming.await(5, TimeUnit.SECONDS));
+        index.onMoved(100, 300); // 읽는 도중 정산
+        assertEquals(1, index.rankOf(300)); // 이전 트리에도 바로 반영
+        moved.countDown();
+        refresh.join(5_000);
+
+        assertEquals(1, index.rankOf(300));
+        assertEquals(2, index.rankOf(200));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void failedRefreshKeepsPreviousTree() {
+        RankIndex index = new RankIndex();
+        index.warmUp(source(new int[]{100, 200}));
+
+        assertTrue(index.warmUp(consumer -> {
+            consumer.accept(999);
+            return false;
+        }));
+        assertEquals(1, index.rankOf(200));
+        assertEquals(2, index.size());
+
+        RankIndex cold = new RankIndex();
+        assertFalse(cold.warmUp(consumer -> {
+            throw new IllegalStateException("no db");
+        }));
+        assertEquals(-1, cold.rankOf(0));
+    }
+
+    @Test
+    void leaderboardNumberingAgreesWithRankOf() {
+        Random random = new Random(7);
+        int[] points = new int[500];
+        for (int i = 0; i < points.length; i++) points[i] = random.nextInt(40) * 10; // 동점이 많도록
+        RankIndex index = new RankIndex();
+        index.warmUp(source(points));
+
+        int[] sorted = points.clone();
+        Arrays.sort(sorted);
+
+        // 포인트 내림차순으로 한 줄씩 (페이지 경계는 직전 항목으로 이어지므로 결과가 같다)
+        LeaderboardEntry prev = null;
+        for (int i = sorted.length - 1; i >= 0; i--) {
+            prev = LeaderboardEntry.next(prev, i, "u" + i, sorted[i]);
+            assertEquals(index.rankOf(sorted[i]), prev.getRank(), "points " + sorted[i]);
+            assertEquals(sorted.length - i, prev.getPosition());
+        }
+    }
+}
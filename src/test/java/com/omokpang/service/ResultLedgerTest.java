@@ -0,0 +1,173 @@
+package com.omokpang.service;
+
+import com.omokpang.domain.result.GameResult;
+import com.omokpang.domain.result.PlayerResult;
+import com.omokpang.repository.ResultRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** ResultLedgerTest
+ * 역할: write-behind 저널의 오류 처리 검증 (DB 대신 가짜 ResultRepository).
+ * 확인: 비정상 종료 전 PENDING 기록은 다시 열 때 복구해서 반영 / 일시적 오류는 같은 기록을 재시도 /
+ *      영구 오류 기록은 FAILED + .failed 파일로 격리하고 뒤 기록은 계속 반영 / 다시 열어도 FAILED 기록은 재전송하지 않음 /
+ *      SQLState 분류.
+ */
+class ResultLedgerTest {
+
+    // failGame 을 만나면 failWith 를 던진다 (일시적 오류는 한 번만)
+    private static final class FakeRepository extends ResultRepository {
+        final List<String> settled = new CopyOnWriteArrayList<>();
+        volatile String failGame;
+        volatile SQLException failWith;
+
+        @Override
+        public void settleGames(List<GameResult> games, Consumer<GameResult> onSettled) throws SQLException {
+            for (GameResult game : games) {
+                if (game.getGameId().equals(failGame)) {
+                    SQLException e = failWith;
+                    if (e instanceof SQLTransientConnectionException) failGame = null;
+                    throw e;
+                }
+                settled.add(game.getGameId());
+                onSettled.accept(game);
+            }
+        }
+    }
+
+    @TempDir
+    Path dir;
+
+    private final List<ResultLedger> opened = new ArrayList<>();
+
+    private ResultLedger open(Path file, ResultRepository repo) throws IOException {
+        ResultLedger ledger = ResultLedger.open(file, repo);
+        opened.add(ledger);
+        return ledger;
+    }
+
+    @AfterEach
+    void closeLedgers() throws IOException {
+        for (ResultLedger ledger : opened) ledger.close();
+    }
+
+    private static GameResult game(String id) {
+        return new GameResult(id, List.of(new PlayerResult("a", true, 10), new PlayerResult("b", false, -10)));
+    }
+
+    private static void awaitSettled(ResultLedger ledger) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (ledger.getPendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void pendingRecordsAreReplayedAfterCrash() throws Exception {
+        Path file = dir.resolve("results.ledger");
+        FakeRepository repo = new FakeRepository();
+
+        // 워커를 시작하기 전에 "죽은" 프로세스: 기록은 디스크에만 있다
+        ResultLedger crashed = open(file, repo);
+        crashed.append(game("g1"));
+        crashed.append(game("g2"));
+
+        // 재시작: 같은 프로세스라 원본은 잠겨 있으므로 복사본을 연다
+        Path copy = dir.resolve("copy.ledger");
+        Files.copy(file, copy);
+        FakeRepository again = new FakeRepository();
+        ResultLedger restarted = open(copy, again);
+        assertEquals(2, restarted.getPendingCount());
+
+        restarted.start();
+        awaitSettled(restarted);
+
+        assertEquals(0, restarted.getPendingCount());
+        assertEquals(List.of("g1", "g2"), again.settled);
+        assertTrue(repo.settled.isEmpty());
+    }
+
+    @Test
+    void permanentErrorQuarantinesOnlyThatGame() throws Exception {
+        Path file = dir.resolve("results.ledger");
+        FakeRepository repo = new FakeRepository();
+        repo.failGame = "g2";
+        repo.failWith = new SQLException("value too long", "22001");
+
+        ResultLedger ledger = open(file, repo);
+        ledger.append(game("g1"));
+        ledger.append(game("g2"));
+        ledger.append(game("g3"));
+        ledger.start();
+        awaitSettled(ledger);
+
+        assertEquals(0, ledger.getPendingCount());
+        assertEquals(List.of("g1", "g3"), repo.settled);
+        String failed = Files.readString(Path.of(file + ".failed"));
+        assertTrue(failed.startsWith("g2|a\t1\t10|b\t0\t-10\t22001"), failed);
+    }
+
+    @Test
+    void failedRecordsAreNotReplayedOnRestart() throws Exception {
+        Path file = dir.resolve("results.ledger");
+        FakeRepository repo = new FakeRepository();
+        repo.failGame = "bad";
+        repo.failWith = new SQLException("duplicate", "23505");
+
+        ResultLedger first = open(file, repo);
+        first.append(game("bad"));
+        first.append(game("ok"));
+        first.start();
+        awaitSettled(first);
+        assertEquals(List.of("ok"), repo.settled);
+
+        // 재시작: 같은 프로세스라 원본은 잠겨 있으므로 복사본을 연다
+        Path copy = file.resolveSibling("copy.ledger");
+        Files.copy(file, copy);
+        FakeRepository again = new FakeRepository();
+        ResultLedger second = open(copy, again);
+        assertEquals(0, second.getPendingCount());
+    }
+
+    @Test
+    void transientErrorRetriesTheSameGame() throws Exception {
+        Path file = dir.resolve("results.ledger");
+        FakeRepository repo = new FakeRepository();
+        repo.failGame = "g1";
+        repo.failWith = new SQLTransientConnectionException("pool timeout");
+
+        ResultLedger ledger = open(file, repo);
+        ledger.append(game("g1"));
+        ledger.start();
+        awaitSettled(ledger);
+
+        assertEquals(List.of("g1"), repo.settled);
+        assertFalse(Files.exists(Path.of(file + ".failed")));
+    }
+
+    @Test
+    void classifiesSqlStates() {
+        assertTrue(ResultLedger.isTransient(new SQLException("connection refused", "08001")));
+        assertTrue(ResultLedger.isTransient(new SQLException("deadlock", "40P01")));
+        assertTrue(ResultLedger.isTransient(new SQLException("shutdown", "57P01")));
+        assertTrue(ResultLedger.isTransient(new SQLException("no table", "42P01")));
+        assertTrue(ResultLedger.isTransient(new SQLException("no state")));
+        assertFalse(ResultLedger.isTransient(new SQLException("value too long", "22001")));
+        assertFalse(ResultLedger.isTransient(new SQLException("check violation", "23514")));
+        assertFalse(ResultLedger.isTransient(new SQLException("undefined column", "42703")));
+    }
+}